@@ -0,0 +1,11 @@
+package io.github.bluuewhale.hashsmith;
+
+import org.apache.commons.collections4.set.AbstractSetTest;
+
+import java.util.Set;
+
+final class ApacheSwissSimdSetTest<E> extends AbstractSetTest<E> {
+    @Override public Set<E> makeObject() {
+        return new SwissSimdSet<>();
+    }
+}
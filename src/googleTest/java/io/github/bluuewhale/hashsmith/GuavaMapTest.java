@@ -15,6 +15,7 @@ import org.jspecify.annotations.NullMarked;
 
 import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 @NullMarked
@@ -24,6 +25,9 @@ public final class GuavaMapTest extends TestCase {
         var suite = new TestSuite();
         suite.addTest(mapTest("SwissMap", generator(SwissMap::new)));
         suite.addTest(mapTest("SwissSimdMap", generator(SwissSimdMap::new)));
+        suite.addTest(mapTest("IncrementalSwissMap", generator(IncrementalSwissMap::new)));
+        suite.addTest(orderedMapTest("LinkedSwissMap", generator(LinkedSwissMap::new)));
+        suite.addTest(mapTest("ExpiringSwissMap", generator(() -> new ExpiringSwissMap<>(1, TimeUnit.HOURS))));
         suite.addTest(mapTest("RobinHoodMap", generator(RobinHoodMap::new)));
         suite.addTest(concurrentMapTest(
             "ConcurrentSwissMap",
@@ -64,6 +68,21 @@ public final class GuavaMapTest extends TestCase {
             .createTestSuite();
     }
 
+    private static Test orderedMapTest(String name, TestMapGenerator<?, ?> generator) {
+        return MapTestSuiteBuilder
+            .using(generator)
+            .named(name)
+            .withFeatures(
+                CollectionSize.ANY,
+                MapFeature.GENERAL_PURPOSE,
+                MapFeature.ALLOWS_NULL_VALUES,
+                MapFeature.ALLOWS_NULL_ENTRY_QUERIES,
+                CollectionFeature.KNOWN_ORDER,
+                CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
+                CollectionFeature.FAILS_FAST_ON_CONCURRENT_MODIFICATION)
+            .createTestSuite();
+    }
+
     private static Test concurrentMapTest(String name, TestMapGenerator<?, ?> generator,
                                           Method... suppressed) {
         return ConcurrentMapTestSuiteBuilder
@@ -21,6 +21,7 @@ public final class GuavaSetTest extends TestCase {
     public static Test suite() {
         var suite = new TestSuite();
         suite.addTest(setTest("SwissSet", generator(SwissSet::new)));
+        suite.addTest(setTest("SwissSimdSet", generator(SwissSimdSet::new)));
         return suite;
     }
 
@@ -0,0 +1,102 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Batched ({@code getAll}) versus scalar ({@code get} in a loop) lookups of {@code batch} random keys, at
+ * table sizes where the probes mostly miss cache. One benchmark op resolves the whole batch; roughly 1/8 of
+ * the keys are misses.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms8g",
+        "-Xmx8g",
+    }
+)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BatchGetBenchmark {
+
+	private static final int BATCHES = 1 << 10;
+
+	@State(Scope.Benchmark)
+	public static class BatchState {
+		@Param({ "784000", "10000000" })
+		int size;
+
+		@Param({ "16", "256", "1024" })
+		int batch;
+
+		SwissMap<Integer, Integer> swiss;
+		SwissSimdMap<Integer, Integer> swissSimd;
+		ConcurrentSwissMap<Integer, Integer> concurrent;
+		Object[][] batches;
+		Integer[] out;
+		int next;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Random rnd = new Random(42);
+			Integer[] keys = new Integer[size];
+			swiss = new SwissMap<>();
+			swissSimd = new SwissSimdMap<>();
+			concurrent = new ConcurrentSwissMap<>();
+			for (int i = 0; i < size; i++) {
+				Integer k = rnd.nextInt();
+				keys[i] = k;
+				swiss.put(k, i);
+				swissSimd.put(k, i);
+				concurrent.put(k, i);
+			}
+			batches = new Object[BATCHES][batch];
+			for (Object[] b : batches) {
+				for (int i = 0; i < batch; i++) b[i] = (rnd.nextInt(8) == 0) ? rnd.nextInt() : keys[rnd.nextInt(size)];
+			}
+			out = new Integer[batch];
+		}
+
+		Object[] nextBatch() {
+			Object[] b = batches[next];
+			next = (next + 1) & (BATCHES - 1);
+			return b;
+		}
+	}
+
+	@Benchmark
+	public int swissGetAll(BatchState s) {
+		return s.swiss.getAll(s.nextBatch(), s.out);
+	}
+
+	@Benchmark
+	public void swissGetLoop(BatchState s, Blackhole bh) {
+		for (Object k : s.nextBatch()) bh.consume(s.swiss.get(k));
+	}
+
+	@Benchmark
+	public int swissSimdGetAll(BatchState s) {
+		return s.swissSimd.getAll(s.nextBatch(), s.out);
+	}
+
+	@Benchmark
+	public void swissSimdGetLoop(BatchState s, Blackhole bh) {
+		for (Object k : s.nextBatch()) bh.consume(s.swissSimd.get(k));
+	}
+
+	@Benchmark
+	public int concurrentGetAll(BatchState s) {
+		return s.concurrent.getAll(s.nextBatch(), s.out);
+	}
+
+	@Benchmark
+	public void concurrentGetLoop(BatchState s, Blackhole bh) {
+		for (Object k : s.nextBatch()) bh.consume(s.concurrent.get(k));
+	}
+}
@@ -0,0 +1,75 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Time to load {@code size} entries into an empty {@link SwissMap}: columnar {@code putAll(K[], V[], from, to)}
+ * versus {@code putAll(HashMap)} (entry iteration) versus a loop of {@code put}.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms4g",
+        "-Xmx4g",
+    }
+)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BulkLoadBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class LoadState {
+		@Param({ "10000", "100000", "1000000" })
+		int size;
+
+		Integer[] keys;
+		Integer[] vals;
+		HashMap<Integer, Integer> source;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Random rnd = new Random(42);
+			var seen = new java.util.HashSet<Integer>(size * 2);
+			keys = new Integer[size];
+			vals = new Integer[size];
+			for (int i = 0; i < size; i++) {
+				int k;
+				do { k = rnd.nextInt(); } while (!seen.add(k));
+				keys[i] = k;
+				vals[i] = i;
+			}
+			source = new HashMap<>(size * 2);
+			for (int i = 0; i < size; i++) source.put(keys[i], vals[i]);
+		}
+	}
+
+	@Benchmark
+	public SwissMap<Integer, Integer> putAllArrays(LoadState s) {
+		var m = new SwissMap<Integer, Integer>();
+		m.putAll(s.keys, s.vals, 0, s.size);
+		return m;
+	}
+
+	@Benchmark
+	public SwissMap<Integer, Integer> putAllHashMap(LoadState s) {
+		var m = new SwissMap<Integer, Integer>();
+		m.putAll(s.source);
+		return m;
+	}
+
+	@Benchmark
+	public SwissMap<Integer, Integer> putLoop(LoadState s) {
+		var m = new SwissMap<Integer, Integer>();
+		Integer[] keys = s.keys;
+		Integer[] vals = s.vals;
+		for (int i = 0; i < keys.length; i++) m.put(keys[i], vals[i]);
+		return m;
+	}
+}
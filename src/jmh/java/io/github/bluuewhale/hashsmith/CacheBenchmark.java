@@ -0,0 +1,148 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Read-through cache access (get, load on miss) under a Zipfian key distribution: {@link SwissCache} (CLOCK)
+ * versus an access-ordered {@link LinkedHashMap} LRU. Besides ns/op, the {@code hits} / {@code misses}
+ * counters report the hit rate of each policy.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms4g",
+        "-Xmx4g",
+    }
+)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheBenchmark {
+
+	private static final int SAMPLES = 1 << 20;
+
+	@State(Scope.Benchmark)
+	public static class Workload {
+		@Param({ "1000000" })
+		int keySpace;
+
+		@Param({ "10000", "100000" })
+		int cacheSize;
+
+		@Param({ "0.8", "1.0" })
+		double skew;
+
+		Integer[] keys;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			keys = zipf(keySpace, skew, SAMPLES, new Random(42));
+		}
+
+		/* Samples from a Zipf(skew) distribution over [0, n) by inverting the CDF. */
+		static Integer[] zipf(int n, double skew, int samples, Random rnd) {
+			double[] cdf = new double[n];
+			double sum = 0;
+			for (int i = 0; i < n; i++) {
+				sum += 1.0 / Math.pow(i + 1, skew);
+				cdf[i] = sum;
+			}
+			Integer[] out = new Integer[samples];
+			for (int s = 0; s < samples; s++) {
+				double u = rnd.nextDouble() * sum;
+				int lo = 0;
+				int hi = n - 1;
+				while (lo < hi) {
+					int mid = (lo + hi) >>> 1;
+					if (cdf[mid] < u) lo = mid + 1;
+					else hi = mid;
+				}
+				// Scatter ranks over the int space so popular keys do not share hash neighbourhoods.
+				out[s] = lo * 0x9E3779B1;
+			}
+			return out;
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Caches {
+		SwissCache<Integer, Integer> swiss;
+		Map<Integer, Integer> lru;
+		int next;
+
+		@Setup(Level.Iteration)
+		public void setup(Workload w) {
+			int max = w.cacheSize;
+			swiss = new SwissCache<>(max);
+			lru = new LinkedHashMap<>(max * 2, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+					return size() > max;
+				}
+			};
+			next = 0;
+		}
+
+		Integer nextKey(Workload w) {
+			Integer k = w.keys[next];
+			next = (next + 1) & (SAMPLES - 1);
+			return k;
+		}
+	}
+
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class HitCounters {
+		public long hits;
+		public long misses;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			hits = 0;
+			misses = 0;
+		}
+	}
+
+	@Benchmark
+	public Integer swissCache(Workload w, Caches c, HitCounters counters) {
+		Integer k = c.nextKey(w);
+		Integer v = c.swiss.get(k);
+		if (v != null) {
+			counters.hits++;
+			return v;
+		}
+		counters.misses++;
+		c.swiss.put(k, k);
+		return k;
+	}
+
+	@Benchmark
+	public Integer swissCacheComputeIfAbsent(Workload w, Caches c, HitCounters counters) {
+		long misses = c.swiss.missCount();
+		Integer v = c.swiss.computeIfAbsent(c.nextKey(w), Function.identity());
+		if (c.swiss.missCount() == misses) counters.hits++;
+		else counters.misses++;
+		return v;
+	}
+
+	@Benchmark
+	public Integer linkedHashMapLru(Workload w, Caches c, HitCounters counters) {
+		Integer k = c.nextKey(w);
+		Integer v = c.lru.get(k);
+		if (v != null) {
+			counters.hits++;
+			return v;
+		}
+		counters.misses++;
+		c.lru.put(k, k);
+		return k;
+	}
+}
@@ -0,0 +1,81 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Steady-size churn: every operation removes the oldest key and inserts a new one, so the live size never
+ * changes while tombstones keep piling up and get purged. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm}: {@link SwissMap} purges tombstones in place and should report ~0 B/op, whereas
+ * it used to allocate a fresh same-capacity table on every purge.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms2g",
+        "-Xmx2g",
+    }
+)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChurnBenchmark {
+
+	private static final Integer VALUE = 1;
+
+	@State(Scope.Thread)
+	public static class ChurnState {
+		@Param({ "10000", "100000", "1000000" })
+		int size;
+
+		@Param({ "swiss", "swissSimd", "jdk", "fastutil", "unified" })
+		String impl;
+
+		Map<Integer, Integer> map;
+		// Live keys are always pool[head .. head + size) (mod pool.length); keys are boxed up front.
+		Integer[] pool;
+		int head;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Random rnd = new Random(42);
+			var seen = new java.util.HashSet<Integer>(size * 4);
+			pool = new Integer[size * 2];
+			for (int i = 0; i < pool.length; i++) {
+				int k;
+				do { k = rnd.nextInt(); } while (!seen.add(k));
+				pool[i] = k;
+			}
+			map = switch (impl) {
+				case "swiss" -> new SwissMap<>();
+				case "swissSimd" -> new SwissSimdMap<>();
+				case "jdk" -> new HashMap<>();
+				case "fastutil" -> new Object2ObjectOpenHashMap<>();
+				case "unified" -> new UnifiedMap<>();
+				default -> throw new IllegalArgumentException(impl);
+			};
+			for (int i = 0; i < size; i++) map.put(pool[i], VALUE);
+			head = 0;
+		}
+	}
+
+	@Benchmark
+	public void removePut(ChurnState s, Blackhole bh) {
+		Integer[] pool = s.pool;
+		int h = s.head;
+		int tail = h + s.size;
+		if (tail >= pool.length) tail -= pool.length;
+		bh.consume(s.map.remove(pool[h]));
+		bh.consume(s.map.put(pool[tail], VALUE));
+		s.head = (h + 1 == pool.length) ? 0 : h + 1;
+	}
+}
@@ -0,0 +1,101 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Read-modify-write calls used by aggregation pipelines: {@code merge}, {@code computeIfAbsent},
+ * {@code compute}, {@code putIfAbsent} and {@code getOrDefault}. {@link SwissMap} and {@link SwissSimdMap}
+ * answer each of them with a single probe; before, they inherited the get-then-put defaults.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+    }
+)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComputeBenchmark {
+
+	private static final int OPS = 1 << 20;
+	private static final Function<String, int[]> NEW_COUNTER = k -> new int[1];
+
+	@State(Scope.Thread)
+	public static class ComputeState {
+		@Param({ "1000", "100000", "1000000" }) // distinct keys
+		int keys;
+
+		@Param({ "swiss", "swissSimd", "jdk" })
+		String impl;
+
+		String[] stream; // mostly hits; ~1/8 of the ops touch keys that are never inserted up front
+		int idx;
+		Map<String, Long> counts;
+		Map<String, int[]> groups;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Random rnd = new Random(42);
+			String[] words = new String[keys + (keys >>> 3)];
+			for (int i = 0; i < words.length; i++) words[i] = "key-" + Integer.toHexString(rnd.nextInt()) + "-" + i;
+			stream = new String[OPS];
+			for (int i = 0; i < OPS; i++) stream[i] = words[rnd.nextInt(words.length)];
+
+			counts = newMap();
+			groups = newMap();
+			for (int i = 0; i < keys; i++) {
+				counts.put(words[i], 0L);
+				groups.put(words[i], new int[1]);
+			}
+		}
+
+		<V> Map<String, V> newMap() {
+			return switch (impl) {
+				case "swiss" -> new SwissMap<>();
+				case "swissSimd" -> new SwissSimdMap<>();
+				case "jdk" -> new HashMap<>();
+				default -> throw new IllegalArgumentException(impl);
+			};
+		}
+
+		String next() {
+			String k = stream[idx];
+			idx = (idx + 1) & (OPS - 1);
+			return k;
+		}
+	}
+
+	@Benchmark
+	public void merge(ComputeState s, Blackhole bh) {
+		bh.consume(s.counts.merge(s.next(), 1L, Long::sum));
+	}
+
+	@Benchmark
+	public void compute(ComputeState s, Blackhole bh) {
+		bh.consume(s.counts.compute(s.next(), (k, v) -> v == null ? 1L : v + 1));
+	}
+
+	@Benchmark
+	public void computeIfAbsent(ComputeState s) {
+		s.groups.computeIfAbsent(s.next(), NEW_COUNTER)[0]++;
+	}
+
+	@Benchmark
+	public void putIfAbsent(ComputeState s, Blackhole bh) {
+		bh.consume(s.counts.putIfAbsent(s.next(), 0L));
+	}
+
+	@Benchmark
+	public void getOrDefault(ComputeState s, Blackhole bh) {
+		bh.consume(s.counts.getOrDefault(s.next(), -1L));
+	}
+}
@@ -0,0 +1,170 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Multi-threaded read-through cache access (get, load on miss) under a Zipfian key distribution:
+ * {@link ConcurrentSwissCache} (per-shard CLOCK, optimistic hits) versus a {@code synchronizedMap}-wrapped
+ * access-ordered {@link LinkedHashMap} LRU, at 1 to 32 threads. All threads share one cache; each walks the
+ * sample sequence from its own random offset.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms4g",
+        "-Xmx4g",
+    }
+)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConcurrentCacheBenchmark {
+
+	private static final int SAMPLES = 1 << 20;
+
+	@State(Scope.Benchmark)
+	public static class Shared {
+		@Param({ "1000000" })
+		int keySpace;
+
+		@Param({ "100000" })
+		int cacheSize;
+
+		@Param({ "0.8", "1.0" })
+		double skew;
+
+		Integer[] keys;
+		ConcurrentSwissCache<Integer, Integer> swiss;
+		Map<Integer, Integer> lru;
+
+		@Setup(Level.Trial)
+		public void samples() {
+			keys = CacheBenchmark.Workload.zipf(keySpace, skew, SAMPLES, new Random(42));
+		}
+
+		@Setup(Level.Iteration)
+		public void caches() {
+			int max = cacheSize;
+			swiss = new ConcurrentSwissCache<>(max);
+			lru = Collections.synchronizedMap(new LinkedHashMap<>(max * 2, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+					return size() > max;
+				}
+			});
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int next;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			next = ThreadLocalRandom.current().nextInt(SAMPLES);
+		}
+
+		Integer nextKey(Shared s) {
+			Integer k = s.keys[next];
+			next = (next + 1) & (SAMPLES - 1);
+			return k;
+		}
+	}
+
+	private static Integer swiss(Shared s, Cursor c) {
+		Integer k = c.nextKey(s);
+		Integer v = s.swiss.get(k);
+		if (v != null) return v;
+		s.swiss.put(k, k);
+		return k;
+	}
+
+	private static Integer lru(Shared s, Cursor c) {
+		Integer k = c.nextKey(s);
+		Integer v = s.lru.get(k);
+		if (v != null) return v;
+		s.lru.put(k, k);
+		return k;
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Integer concurrentSwissCache_t1(Shared s, Cursor c) {
+		return swiss(s, c);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Integer synchronizedLru_t1(Shared s, Cursor c) {
+		return lru(s, c);
+	}
+
+	@Benchmark
+	@Threads(2)
+	public Integer concurrentSwissCache_t2(Shared s, Cursor c) {
+		return swiss(s, c);
+	}
+
+	@Benchmark
+	@Threads(2)
+	public Integer synchronizedLru_t2(Shared s, Cursor c) {
+		return lru(s, c);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Integer concurrentSwissCache_t4(Shared s, Cursor c) {
+		return swiss(s, c);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Integer synchronizedLru_t4(Shared s, Cursor c) {
+		return lru(s, c);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Integer concurrentSwissCache_t8(Shared s, Cursor c) {
+		return swiss(s, c);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Integer synchronizedLru_t8(Shared s, Cursor c) {
+		return lru(s, c);
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Integer concurrentSwissCache_t16(Shared s, Cursor c) {
+		return swiss(s, c);
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Integer synchronizedLru_t16(Shared s, Cursor c) {
+		return lru(s, c);
+	}
+
+	@Benchmark
+	@Threads(32)
+	public Integer concurrentSwissCache_t32(Shared s, Cursor c) {
+		return swiss(s, c);
+	}
+
+	@Benchmark
+	@Threads(32)
+	public Integer synchronizedLru_t32(Shared s, Cursor c) {
+		return lru(s, c);
+	}
+}
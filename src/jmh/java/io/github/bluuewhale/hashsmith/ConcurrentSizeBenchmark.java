@@ -0,0 +1,81 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * A metrics-exporter pattern: writers put/remove on a shared map while one thread polls {@code size()}.
+ * Reports the throughput of both roles for {@link ConcurrentSwissMap} (per-shard sizes published on unlock,
+ * summed without locking) and {@link ConcurrentHashMap} (striped counter cells).
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms4g",
+        "-Xmx4g",
+    }
+)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentSizeBenchmark {
+
+	@State(Scope.Group)
+	public static class Shared {
+		@Param({ "1000000" })
+		int keySpace;
+
+		ConcurrentSwissMap<Integer, Integer> swiss;
+		ConcurrentHashMap<Integer, Integer> chm;
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			swiss = new ConcurrentSwissMap<>();
+			chm = new ConcurrentHashMap<>();
+			for (int i = 0; i < keySpace; i += 2) {
+				swiss.put(i, i);
+				chm.put(i, i);
+			}
+		}
+	}
+
+	private static Integer write(Map<Integer, Integer> m, int keySpace) {
+		ThreadLocalRandom rnd = ThreadLocalRandom.current();
+		Integer k = rnd.nextInt(keySpace);
+		return rnd.nextBoolean() ? m.put(k, k) : m.remove(k);
+	}
+
+	@Benchmark
+	@Group("concurrentSwissMap")
+	@GroupThreads(3)
+	public Integer concurrentSwissMapWriter(Shared s) {
+		return write(s.swiss, s.keySpace);
+	}
+
+	@Benchmark
+	@Group("concurrentSwissMap")
+	@GroupThreads(1)
+	public int concurrentSwissMapSize(Shared s) {
+		return s.swiss.size();
+	}
+
+	@Benchmark
+	@Group("concurrentHashMap")
+	@GroupThreads(3)
+	public Integer concurrentHashMapWriter(Shared s) {
+		return write(s.chm, s.keySpace);
+	}
+
+	@Benchmark
+	@Group("concurrentHashMap")
+	@GroupThreads(1)
+	public int concurrentHashMapSize(Shared s) {
+		return s.chm.size();
+	}
+}
@@ -0,0 +1,63 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Full traversal of a {@link SwissMap}: {@code entrySet()} iterator versus {@link MapCursor} versus
+ * {@code forEach(BiConsumer)}. Run with {@code -prof gc} to see the per-entry allocation of the iterator.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms4g",
+        "-Xmx4g",
+    }
+)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CursorBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class IterState {
+		@Param({ "10000", "1000000" })
+		int size;
+
+		SwissMap<Integer, Integer> map;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Random rnd = new Random(42);
+			map = new SwissMap<>();
+			while (map.size() < size) map.put(rnd.nextInt(), rnd.nextInt());
+		}
+	}
+
+	@Benchmark
+	public long entryIterator(IterState s) {
+		long acc = 0;
+		for (Map.Entry<Integer, Integer> e : s.map.entrySet()) acc += e.getKey() ^ e.getValue();
+		return acc;
+	}
+
+	@Benchmark
+	public long cursor(IterState s) {
+		long acc = 0;
+		MapCursor<Integer, Integer> c = s.map.cursor();
+		while (c.advance()) acc += c.key() ^ c.value();
+		return acc;
+	}
+
+	@Benchmark
+	public long forEach(IterState s) {
+		long[] acc = new long[1];
+		s.map.forEach((k, v) -> acc[0] += k ^ v);
+		return acc[0];
+	}
+}
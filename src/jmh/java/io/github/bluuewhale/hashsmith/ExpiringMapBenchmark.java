@@ -0,0 +1,109 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Session-table churn: every operation writes a new key and reads a recent one, with a fixed TTL so that about
+ * {@code live} entries are unexpired at any time. {@link ExpiringSwissMap} (deadline array, lazy and incremental
+ * reclamation) versus a {@link HashMap} of value/deadline holder objects swept by a full-table scan every
+ * {@code sweepEvery} operations. The clock is logical (one tick per operation), so runs are deterministic.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms4g",
+        "-Xmx4g",
+    }
+)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpiringMapBenchmark {
+
+	private record Holder(Integer value, long deadline) {}
+
+	@State(Scope.Thread)
+	public abstract static class Churn {
+		@Param({ "10000", "1000000" })
+		int live;
+
+		@Param({ "10000" })
+		int sweepEvery;
+
+		long clock;
+		int next;
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			clock = 0;
+			next = 0;
+			reset();
+			for (int i = 0; i < 2 * live; i++) op(); // reach the steady state before measuring
+		}
+
+		abstract void reset();
+
+		/* Writes a new key (expiring after live ticks) and reads a recent, unexpired one. */
+		abstract Integer op();
+
+		/* Session ids are random: scatter the sequence numbers so neither map gets sequential-key locality. */
+		static Integer key(int seq) {
+			return seq * 0x9E3779B1;
+		}
+
+		Integer recentKey() {
+			return key(next - 1 - (int) (((next * 0x9E3779B97F4A7C15L) >>> 33) % (live / 2)));
+		}
+	}
+
+	public static class SwissChurn extends Churn {
+		ExpiringSwissMap<Integer, Integer> map;
+
+		@Override
+		void reset() {
+			map = new ExpiringSwissMap<>(live, 16, () -> clock);
+		}
+
+		@Override
+		Integer op() {
+			clock++;
+			Integer k = key(next++);
+			map.put(k, k);
+			return map.get(recentKey());
+		}
+	}
+
+	public static class HolderChurn extends Churn {
+		HashMap<Integer, Holder> map;
+
+		@Override
+		void reset() {
+			map = new HashMap<>();
+		}
+
+		@Override
+		Integer op() {
+			long now = ++clock;
+			Integer k = key(next++);
+			map.put(k, new Holder(k, now + live));
+			Holder h = map.get(recentKey());
+			if (next % sweepEvery == 0) map.values().removeIf(x -> x.deadline() <= now);
+			return (h == null || h.deadline() <= now) ? null : h.value();
+		}
+	}
+
+	@Benchmark
+	public Integer expiringSwissMap(SwissChurn c) {
+		return c.op();
+	}
+
+	@Benchmark
+	public Integer holderHashMapWithSweeper(HolderChurn c) {
+		return c.op();
+	}
+}
@@ -0,0 +1,65 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Full-map iteration with the randomized stride of {@code entrySet()} versus physical slot order of
+ * {@code entrySetSequential()}, for {@link SwissMap} and {@link SwissSimdMap}.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms8g",
+        "-Xmx8g",
+    }
+)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IterationOrderBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class IterState {
+		@Param({ "1000000", "10000000" })
+		int size;
+
+		SwissMap<Integer, Integer> swiss;
+		SwissSimdMap<Integer, Integer> swissSimd;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Random rnd = new Random(42);
+			swiss = new SwissMap<>();
+			swissSimd = new SwissSimdMap<>();
+			while (swiss.size() < size) {
+				int k = rnd.nextInt();
+				swiss.put(k, k);
+				swissSimd.put(k, k);
+			}
+		}
+	}
+
+	private static long walk(Iterable<Map.Entry<Integer, Integer>> entries) {
+		long acc = 0;
+		for (Map.Entry<Integer, Integer> e : entries) acc += e.getKey() ^ e.getValue();
+		return acc;
+	}
+
+	@Benchmark
+	public long swissRandomCycle(IterState s) { return walk(s.swiss.entrySet()); }
+
+	@Benchmark
+	public long swissSequential(IterState s) { return walk(s.swiss.entrySetSequential()); }
+
+	@Benchmark
+	public long swissSimdRandomCycle(IterState s) { return walk(s.swissSimd.entrySet()); }
+
+	@Benchmark
+	public long swissSimdSequential(IterState s) { return walk(s.swissSimd.entrySetSequential()); }
+}
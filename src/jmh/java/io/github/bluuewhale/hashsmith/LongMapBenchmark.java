@@ -0,0 +1,287 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link MapBenchmark}-style get/put benchmarks for {@code long}-keyed maps:
+ * {@link LongSwissMap} vs fastutil {@link Long2ObjectOpenHashMap}, with boxed {@link SwissMap} and
+ * {@link HashMap} as baselines.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "--enable-preview",
+    }
+)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LongMapBenchmark {
+
+	/**
+	 * Generates random long keys and miss-keys such that:
+	 * - keys are unique
+	 * - misses are unique
+	 * - misses never overlap with keys
+	 */
+	private static void generateKeysAndMisses(Random rnd, long[] keys, long[] misses) {
+		if (keys.length != misses.length) throw new IllegalArgumentException("keys and misses must have same length");
+		int size = keys.length;
+		var set = new HashSet<Long>(size * 4);
+		for (int i = 0; i < size; i++) {
+			long k;
+			do { k = rnd.nextLong(); } while (!set.add(k));
+			keys[i] = k;
+		}
+		for (int i = 0; i < size; i++) {
+			long miss;
+			do { miss = rnd.nextLong(); } while (!set.add(miss));
+			misses[i] = miss;
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class ReadState {
+		@Param({ "12000", "48000", "196000", "784000" }) // load factor equals to 74.x% (right before resizing)
+		int size;
+
+		LongSwissMap<Object> longSwiss;
+		Long2ObjectOpenHashMap<Object> fastutil;
+		SwissMap<Long, Object> swiss;
+		HashMap<Long, Object> jdk;
+		long[] keys;
+		long[] misses;
+		int nextKeyIndex;
+		int nextMissIndex;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Random rnd = new Random(123);
+			keys = new long[size];
+			misses = new long[size];
+			generateKeysAndMisses(rnd, keys, misses);
+			nextKeyIndex = 0;
+			nextMissIndex = 0;
+			longSwiss = new LongSwissMap<>();
+			fastutil = new Long2ObjectOpenHashMap<>();
+			swiss = new SwissMap<>();
+			jdk = new HashMap<>();
+			for (int i = 0; i < size; i++) {
+				longSwiss.put(keys[i], "dummy");
+				fastutil.put(keys[i], "dummy");
+				swiss.put(keys[i], "dummy");
+				jdk.put(keys[i], "dummy");
+			}
+		}
+
+		long nextHitKey() {
+			long k = keys[nextKeyIndex];
+			nextKeyIndex = (nextKeyIndex + 1) % keys.length;
+			return k;
+		}
+
+		long nextMissingKey() {
+			long k = misses[nextMissIndex];
+			nextMissIndex = (nextMissIndex + 1) % misses.length;
+			return k;
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class PutHitState {
+		@Param({ "12000", "48000", "196000", "784000" }) // load factor equals to 74.x% (right before resizing)
+		int size;
+
+		int idx;
+		long[] keys;
+		long[] misses;
+		LongSwissMap<Object> longSwiss;
+		Long2ObjectOpenHashMap<Object> fastutil;
+		SwissMap<Long, Object> swiss;
+		HashMap<Long, Object> jdk;
+
+		@Setup(Level.Trial)
+		public void initKeys() {
+			Random rnd = new Random(456);
+			keys = new long[size];
+			misses = new long[size];
+			generateKeysAndMisses(rnd, keys, misses);
+		}
+
+		@Setup(Level.Iteration)
+		public void resetMaps() {
+			longSwiss = new LongSwissMap<>();
+			fastutil = new Long2ObjectOpenHashMap<>();
+			swiss = new SwissMap<>();
+			jdk = new HashMap<>();
+			for (int i = 0; i < size; i++) {
+				longSwiss.put(keys[i], "dummy");
+				fastutil.put(keys[i], "dummy");
+				swiss.put(keys[i], "dummy");
+				jdk.put(keys[i], "dummy");
+			}
+			idx = 0;
+		}
+
+		long nextHitKey() {
+			long k = keys[idx];
+			idx = (idx + 1) % keys.length;
+			return k;
+		}
+		Object nextValue() { return "dummy"; }
+	}
+
+	/**
+	 * Keeps entry count constant at n by doing the compensating remove
+	 * in {@code @Setup(Level.Invocation)} (excluded from measurement).
+	 */
+	@State(Scope.Thread)
+	public static class PutMissState {
+		@Param({ "12000", "48000", "196000", "784000" }) // load factor equals to 74.x% (right before resizing)
+		int size;
+
+		int idx;
+		long[] keys;   // keys currently present in the maps
+		long[] misses; // keys currently absent from the maps
+		long nextKey;
+
+		LongSwissMap<Object> longSwiss;
+		Long2ObjectOpenHashMap<Object> fastutil;
+		SwissMap<Long, Object> swiss;
+		HashMap<Long, Object> jdk;
+
+		@Setup(Level.Trial)
+		public void initKeys() {
+			Random rnd = new Random(456);
+			keys = new long[size];
+			misses = new long[size];
+			generateKeysAndMisses(rnd, keys, misses);
+		}
+
+		@Setup(Level.Iteration)
+		public void resetMaps() {
+			longSwiss = new LongSwissMap<>();
+			fastutil = new Long2ObjectOpenHashMap<>();
+			swiss = new SwissMap<>();
+			jdk = new HashMap<>();
+			for (int i = 0; i < size; i++) {
+				longSwiss.put(keys[i], "dummy");
+				fastutil.put(keys[i], "dummy");
+				swiss.put(keys[i], "dummy");
+				jdk.put(keys[i], "dummy");
+			}
+			idx = 0;
+		}
+
+		@Setup(Level.Invocation)
+		public void beforeInvocation() {
+			long evictKey = keys[idx];
+			longSwiss.remove(evictKey);
+			fastutil.remove(evictKey);
+			swiss.remove(evictKey);
+			jdk.remove(evictKey);
+
+			nextKey = misses[idx];
+
+			// swap so that nextKey becomes a "present" key and evict becomes an "absent" key
+			keys[idx] = nextKey;
+			misses[idx] = evictKey;
+
+			idx = (idx + 1) % keys.length;
+		}
+
+		long nextMissKey() { return nextKey; }
+		Object nextValue() { return "dummy"; }
+	}
+
+	// ------- get hit/miss -------
+	@Benchmark
+	public void longSwissGetHit(ReadState s, Blackhole bh) {
+		bh.consume(s.longSwiss.get(s.nextHitKey()));
+	}
+
+	@Benchmark
+	public void fastutilGetHit(ReadState s, Blackhole bh) {
+		bh.consume(s.fastutil.get(s.nextHitKey()));
+	}
+
+	@Benchmark
+	public void swissGetHit(ReadState s, Blackhole bh) {
+		bh.consume(s.swiss.get(s.nextHitKey()));
+	}
+
+	@Benchmark
+	public void jdkGetHit(ReadState s, Blackhole bh) {
+		bh.consume(s.jdk.get(s.nextHitKey()));
+	}
+
+	@Benchmark
+	public void longSwissGetMiss(ReadState s, Blackhole bh) {
+		bh.consume(s.longSwiss.get(s.nextMissingKey()));
+	}
+
+	@Benchmark
+	public void fastutilGetMiss(ReadState s, Blackhole bh) {
+		bh.consume(s.fastutil.get(s.nextMissingKey()));
+	}
+
+	@Benchmark
+	public void swissGetMiss(ReadState s, Blackhole bh) {
+		bh.consume(s.swiss.get(s.nextMissingKey()));
+	}
+
+	@Benchmark
+	public void jdkGetMiss(ReadState s, Blackhole bh) {
+		bh.consume(s.jdk.get(s.nextMissingKey()));
+	}
+
+	// ------- mutating: put hit/miss -------
+	@Benchmark
+	public void longSwissPutHit(PutHitState s, Blackhole bh) {
+		bh.consume(s.longSwiss.put(s.nextHitKey(), s.nextValue()));
+	}
+
+	@Benchmark
+	public void fastutilPutHit(PutHitState s, Blackhole bh) {
+		bh.consume(s.fastutil.put(s.nextHitKey(), s.nextValue()));
+	}
+
+	@Benchmark
+	public void swissPutHit(PutHitState s, Blackhole bh) {
+		bh.consume(s.swiss.put(s.nextHitKey(), s.nextValue()));
+	}
+
+	@Benchmark
+	public void jdkPutHit(PutHitState s, Blackhole bh) {
+		bh.consume(s.jdk.put(s.nextHitKey(), s.nextValue()));
+	}
+
+	@Benchmark
+	public void longSwissPutMiss(PutMissState s, Blackhole bh) {
+		bh.consume(s.longSwiss.put(s.nextMissKey(), s.nextValue()));
+	}
+
+	@Benchmark
+	public void fastutilPutMiss(PutMissState s, Blackhole bh) {
+		bh.consume(s.fastutil.put(s.nextMissKey(), s.nextValue()));
+	}
+
+	@Benchmark
+	public void swissPutMiss(PutMissState s, Blackhole bh) {
+		bh.consume(s.swiss.put(s.nextMissKey(), s.nextValue()));
+	}
+
+	@Benchmark
+	public void jdkPutMiss(PutMissState s, Blackhole bh) {
+		bh.consume(s.jdk.put(s.nextMissKey(), s.nextValue()));
+	}
+}
@@ -0,0 +1,216 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link SetBenchmark}-style contains/add benchmarks for {@code long} sets:
+ * {@link LongSwissSet} vs fastutil {@link LongOpenHashSet}, with boxed {@link SwissSet} and
+ * {@link HashSet} as baselines.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "--enable-preview",
+    }
+)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LongSetBenchmark {
+
+	/**
+	 * Generates unique random long elements and unique misses that never overlap with them.
+	 */
+	private static void generateKeysAndMisses(Random rnd, long[] keys, long[] misses) {
+		if (keys.length != misses.length) throw new IllegalArgumentException("keys and misses must have same length");
+		int size = keys.length;
+		var set = new HashSet<Long>(size * 4);
+		for (int i = 0; i < size; i++) {
+			long k;
+			do { k = rnd.nextLong(); } while (!set.add(k));
+			keys[i] = k;
+		}
+		for (int i = 0; i < size; i++) {
+			long miss;
+			do { miss = rnd.nextLong(); } while (!set.add(miss));
+			misses[i] = miss;
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class ReadState {
+		@Param({ "12000", "48000", "196000", "784000" }) // align with MapBenchmark load factors
+		int size;
+
+		LongSwissSet longSwiss;
+		LongOpenHashSet fastutil;
+		SwissSet<Long> swiss;
+		HashSet<Long> jdk;
+		long[] keys;
+		long[] misses;
+		int nextKeyIndex;
+		int nextMissIndex;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Random rnd = new Random(123);
+			keys = new long[size];
+			misses = new long[size];
+			generateKeysAndMisses(rnd, keys, misses);
+			longSwiss = new LongSwissSet();
+			fastutil = new LongOpenHashSet();
+			swiss = new SwissSet<>();
+			jdk = new HashSet<>();
+			for (int i = 0; i < size; i++) {
+				longSwiss.add(keys[i]);
+				fastutil.add(keys[i]);
+				swiss.add(keys[i]);
+				jdk.add(keys[i]);
+			}
+		}
+
+		long nextHitKey() {
+			long k = keys[nextKeyIndex];
+			nextKeyIndex = (nextKeyIndex + 1) % keys.length;
+			return k;
+		}
+
+		long nextMissingKey() {
+			long k = misses[nextMissIndex];
+			nextMissIndex = (nextMissIndex + 1) % misses.length;
+			return k;
+		}
+	}
+
+	/**
+	 * Keeps element count constant at n by doing the compensating remove
+	 * in {@code @Setup(Level.Invocation)} (excluded from measurement).
+	 */
+	@State(Scope.Thread)
+	public static class AddMissState {
+		@Param({ "12000", "48000", "196000", "784000" })
+		int size;
+
+		int idx;
+		long[] keys;   // elements currently present in the sets
+		long[] misses; // elements currently absent from the sets
+		long nextKey;
+
+		LongSwissSet longSwiss;
+		LongOpenHashSet fastutil;
+		SwissSet<Long> swiss;
+		HashSet<Long> jdk;
+
+		@Setup(Level.Trial)
+		public void initKeys() {
+			Random rnd = new Random(456);
+			keys = new long[size];
+			misses = new long[size];
+			generateKeysAndMisses(rnd, keys, misses);
+		}
+
+		@Setup(Level.Iteration)
+		public void resetSets() {
+			longSwiss = new LongSwissSet();
+			fastutil = new LongOpenHashSet();
+			swiss = new SwissSet<>();
+			jdk = new HashSet<>();
+			for (int i = 0; i < size; i++) {
+				longSwiss.add(keys[i]);
+				fastutil.add(keys[i]);
+				swiss.add(keys[i]);
+				jdk.add(keys[i]);
+			}
+			idx = 0;
+		}
+
+		@Setup(Level.Invocation)
+		public void beforeInvocation() {
+			long evictKey = keys[idx];
+			longSwiss.remove(evictKey);
+			fastutil.remove(evictKey);
+			swiss.remove(evictKey);
+			jdk.remove(evictKey);
+
+			nextKey = misses[idx];
+
+			// swap so that nextKey becomes a "present" element and evict becomes an "absent" element
+			keys[idx] = nextKey;
+			misses[idx] = evictKey;
+
+			idx = (idx + 1) % keys.length;
+		}
+
+		long nextMissKey() { return nextKey; }
+	}
+
+	// ------- contains hit/miss -------
+	@Benchmark
+	public void longSwissContainsHit(ReadState s, Blackhole bh) {
+		bh.consume(s.longSwiss.contains(s.nextHitKey()));
+	}
+
+	@Benchmark
+	public void fastutilContainsHit(ReadState s, Blackhole bh) {
+		bh.consume(s.fastutil.contains(s.nextHitKey()));
+	}
+
+	@Benchmark
+	public void swissContainsHit(ReadState s, Blackhole bh) {
+		bh.consume(s.swiss.contains(s.nextHitKey()));
+	}
+
+	@Benchmark
+	public void jdkContainsHit(ReadState s, Blackhole bh) {
+		bh.consume(s.jdk.contains(s.nextHitKey()));
+	}
+
+	@Benchmark
+	public void longSwissContainsMiss(ReadState s, Blackhole bh) {
+		bh.consume(s.longSwiss.contains(s.nextMissingKey()));
+	}
+
+	@Benchmark
+	public void fastutilContainsMiss(ReadState s, Blackhole bh) {
+		bh.consume(s.fastutil.contains(s.nextMissingKey()));
+	}
+
+	@Benchmark
+	public void swissContainsMiss(ReadState s, Blackhole bh) {
+		bh.consume(s.swiss.contains(s.nextMissingKey()));
+	}
+
+	@Benchmark
+	public void jdkContainsMiss(ReadState s, Blackhole bh) {
+		bh.consume(s.jdk.contains(s.nextMissingKey()));
+	}
+
+	// ------- mutating: add miss -------
+	@Benchmark
+	public void longSwissAddMiss(AddMissState s, Blackhole bh) {
+		bh.consume(s.longSwiss.add(s.nextMissKey()));
+	}
+
+	@Benchmark
+	public void fastutilAddMiss(AddMissState s, Blackhole bh) {
+		bh.consume(s.fastutil.add(s.nextMissKey()));
+	}
+
+	@Benchmark
+	public void swissAddMiss(AddMissState s, Blackhole bh) {
+		bh.consume(s.swiss.add(s.nextMissKey()));
+	}
+
+	@Benchmark
+	public void jdkAddMiss(AddMissState s, Blackhole bh) {
+		bh.consume(s.jdk.add(s.nextMissKey()));
+	}
+}
@@ -0,0 +1,89 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cold start: time until the first {@code get} is answered, for {@link MappedSwissMap#open} versus
+ * rebuilding a heap map from a dump ({@code long[]} keys/values).
+ *
+ * <p>The table file is written once per trial, so the OS page cache is usually warm; drop caches between
+ * runs to measure a truly cold disk.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms12g",
+        "-Xmx12g",
+    }
+)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappedColdStartBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class DumpState {
+		@Param({ "1000000", "10000000", "50000000" })
+		int size;
+
+		Path file;
+		long[] keys;
+		long[] vals;
+		long probeKey;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException {
+			keys = new long[size];
+			vals = new long[size];
+			for (int i = 0; i < size; i++) {
+				keys[i] = Hashing.mix64(i);
+				vals[i] = i;
+			}
+			probeKey = keys[size / 2];
+
+			file = Files.createTempFile("mapped-swiss-bench", ".tbl");
+			try (var m = MappedSwissMap.create(file, size)) {
+				for (int i = 0; i < size; i++) m.put(keys[i], vals[i]);
+				m.force();
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Benchmark
+	public void mmapOpen(DumpState s, Blackhole bh) throws IOException {
+		try (var m = MappedSwissMap.open(s.file, MappedSwissMap.Mode.READ_ONLY)) {
+			bh.consume(m.get(s.probeKey));
+		}
+	}
+
+	@Benchmark
+	public void rebuildSwissMap(DumpState s, Blackhole bh) {
+		var m = new SwissMap<Long, Long>();
+		long[] keys = s.keys;
+		long[] vals = s.vals;
+		for (int i = 0; i < keys.length; i++) m.put(keys[i], vals[i]);
+		bh.consume(m.get(s.probeKey));
+	}
+
+	@Benchmark
+	public void rebuildLongLongSwissMap(DumpState s, Blackhole bh) {
+		var m = new LongLongSwissMap(s.size);
+		long[] keys = s.keys;
+		long[] vals = s.vals;
+		for (int i = 0; i < keys.length; i++) m.put(keys[i], vals[i]);
+		bh.consume(m.get(s.probeKey));
+	}
+}
@@ -0,0 +1,121 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * get/put at 10M+ entries: {@link OffHeapSwissMap} vs heap {@link SwissMap} (boxed) and
+ * {@link LongLongSwissMap} (primitive heap arrays). Run with {@code -prof gc} to compare heap pressure.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms6g",
+        "-Xmx6g",
+        "-XX:MaxDirectMemorySize=8g",
+    }
+)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OffHeapMapBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class MapState {
+		@Param({ "10000000", "40000000" })
+		int size;
+
+		@Param({ "offHeap", "swiss", "longLong" })
+		String impl;
+
+		OffHeapSwissMap offHeap;
+		SwissMap<Long, Long> swiss;
+		LongLongSwissMap longLong;
+		long[] keys;
+		long[] misses;
+		int nextKeyIndex;
+		int nextMissIndex;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			// Keys/misses come from disjoint halves of a scrambled sequence, so they never collide.
+			Random rnd = new Random(123);
+			long seed = rnd.nextLong();
+			keys = new long[size];
+			misses = new long[size];
+			for (int i = 0; i < size; i++) {
+				keys[i] = Hashing.mix64(seed + 2L * i);
+				misses[i] = Hashing.mix64(seed + 2L * i + 1);
+			}
+			switch (impl) {
+				case "offHeap" -> {
+					offHeap = new OffHeapSwissMap();
+					for (long k : keys) offHeap.put(k, k);
+				}
+				case "swiss" -> {
+					swiss = new SwissMap<>();
+					for (long k : keys) swiss.put(k, k);
+				}
+				case "longLong" -> {
+					longLong = new LongLongSwissMap();
+					for (long k : keys) longLong.put(k, k);
+				}
+				default -> throw new IllegalArgumentException(impl);
+			}
+			nextKeyIndex = 0;
+			nextMissIndex = 0;
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			if (offHeap != null) offHeap.close();
+		}
+
+		long nextHitKey() {
+			long k = keys[nextKeyIndex];
+			nextKeyIndex = (nextKeyIndex + 1) % keys.length;
+			return k;
+		}
+
+		long nextMissingKey() {
+			long k = misses[nextMissIndex];
+			nextMissIndex = (nextMissIndex + 1) % misses.length;
+			return k;
+		}
+	}
+
+	@Benchmark
+	public void getHit(MapState s, Blackhole bh) {
+		long k = s.nextHitKey();
+		switch (s.impl) {
+			case "offHeap" -> bh.consume(s.offHeap.get(k));
+			case "swiss" -> bh.consume(s.swiss.get(k));
+			default -> bh.consume(s.longLong.get(k));
+		}
+	}
+
+	@Benchmark
+	public void getMiss(MapState s, Blackhole bh) {
+		long k = s.nextMissingKey();
+		switch (s.impl) {
+			case "offHeap" -> bh.consume(s.offHeap.get(k));
+			case "swiss" -> bh.consume(s.swiss.get(k));
+			default -> bh.consume(s.longLong.get(k));
+		}
+	}
+
+	@Benchmark
+	public void putHit(MapState s, Blackhole bh) {
+		long k = s.nextHitKey();
+		switch (s.impl) {
+			case "offHeap" -> bh.consume(s.offHeap.put(k, k + 1));
+			case "swiss" -> bh.consume(s.swiss.put(k, k + 1));
+			default -> bh.consume(s.longLong.put(k, k + 1));
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Wall time to build a {@link SwissMap} of {@code size} entries with {@link SwissMap#buildParallel} on a pool of
+ * {@code threads} workers, against the single-threaded columnar {@code putAll}.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms12g",
+        "-Xmx12g",
+    }
+)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelBuildBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BuildState {
+		@Param({ "1000000", "10000000" })
+		int size;
+
+		@Param({ "1", "4", "16" })
+		int threads;
+
+		Integer[] keys;
+		Integer[] vals;
+		ForkJoinPool pool;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Random rnd = new Random(42);
+			keys = new Integer[size];
+			vals = new Integer[size];
+			for (int i = 0; i < size; i++) {
+				keys[i] = rnd.nextInt();
+				vals[i] = i;
+			}
+			pool = new ForkJoinPool(threads);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			pool.shutdown();
+		}
+	}
+
+	@Benchmark
+	public SwissMap<Integer, Integer> buildParallel(BuildState s) {
+		return SwissMap.buildParallel(s.keys, s.vals, s.pool);
+	}
+
+	@Benchmark
+	public SwissMap<Integer, Integer> putAllSequential(BuildState s) {
+		var m = new SwissMap<Integer, Integer>();
+		m.putAll(s.keys, s.vals, 0, s.size);
+		return m;
+	}
+}
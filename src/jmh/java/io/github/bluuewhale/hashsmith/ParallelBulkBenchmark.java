@@ -0,0 +1,72 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * {@link ConcurrentSwissMap} bulk operations (one common-pool task per shard) versus the {@link ConcurrentHashMap}
+ * equivalents: a full {@code reduceToLong} and a {@code search} that matches nothing (a full scan). The
+ * {@code parallelismThreshold} of {@code 1} fans out; {@code Long.MAX_VALUE} is the sequential baseline. To
+ * measure scaling, rerun with {@code -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=N}.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms8g",
+        "-Xmx8g",
+    }
+)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelBulkBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BulkState {
+		@Param({ "1000000", "10000000" })
+		int size;
+
+		@Param({ "1", "9223372036854775807" })
+		long parallelismThreshold;
+
+		ConcurrentSwissMap<Integer, Integer> swiss;
+		ConcurrentHashMap<Integer, Integer> chm;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Random rnd = new Random(42);
+			swiss = new ConcurrentSwissMap<>();
+			chm = new ConcurrentHashMap<>();
+			for (int i = 0; i < size; i++) {
+				int k = rnd.nextInt();
+				swiss.put(k, i);
+				chm.put(k, i);
+			}
+		}
+	}
+
+	@Benchmark
+	public long concurrentSwissMapReduceToLong(BulkState s) {
+		return s.swiss.reduceToLong(s.parallelismThreshold, (k, v) -> (long) k ^ v, 0L, Long::sum);
+	}
+
+	@Benchmark
+	public long concurrentHashMapReduceToLong(BulkState s) {
+		return s.chm.reduceToLong(s.parallelismThreshold, (k, v) -> (long) k ^ v, 0L, Long::sum);
+	}
+
+	@Benchmark
+	public Integer concurrentSwissMapSearchMiss(BulkState s) {
+		return s.swiss.search(s.parallelismThreshold, (k, v) -> v < 0 ? k : null);
+	}
+
+	@Benchmark
+	public Integer concurrentHashMapSearchMiss(BulkState s) {
+		return s.chm.search(s.parallelismThreshold, (k, v) -> v < 0 ? k : null);
+	}
+}
@@ -0,0 +1,70 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Wall time of the single resize triggered by one {@code put} into a {@link SwissMap} sitting exactly at its
+ * max load, with the parallel rehash on a pool of {@code threads} workers ({@code threads = 0} keeps the
+ * sequential rehash).
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms16g",
+        "-Xmx16g",
+    }
+)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelRehashBenchmark {
+
+	@State(Scope.Thread)
+	public static class FullTable {
+		@Param({ "1000000", "10000000", "50000000" })
+		int size;
+
+		@Param({ "0", "4", "16" })
+		int threads;
+
+		ForkJoinPool pool;
+		SwissMap<Integer, Integer> map;
+		Integer trigger;
+
+		@Setup(Level.Trial)
+		public void setupPool() {
+			if (threads > 0) pool = new ForkJoinPool(threads);
+		}
+
+		@Setup(Level.Iteration)
+		public void fill() {
+			Random rnd = new Random(42);
+			map = new SwissMap<>(size);
+			if (pool != null) map.setParallelRehashThreshold(1, pool);
+			while (map.size() < map.maxLoad - 1) {
+				int k = rnd.nextInt();
+				map.put(k, k);
+			}
+			Integer k;
+			do { k = rnd.nextInt(); } while (map.containsKey(k));
+			trigger = k;
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			if (pool != null) pool.shutdown();
+		}
+	}
+
+	@Benchmark
+	public SwissMap<Integer, Integer> resize(FullTable s) {
+		s.map.put(s.trigger, 0);
+		return s.map;
+	}
+}
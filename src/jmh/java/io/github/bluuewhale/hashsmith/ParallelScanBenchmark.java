@@ -0,0 +1,68 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Aggregation over {@code entrySet()} with sequential and parallel streams. The parallel variants show how
+ * well each map's spliterator splits ({@link HashMap} as the baseline).
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms8g",
+        "-Xmx8g",
+    }
+)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelScanBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class ScanState {
+		@Param({ "1000000", "10000000" })
+		int size;
+
+		SwissMap<Integer, Integer> swiss;
+		SwissSimdMap<Integer, Integer> swissSimd;
+		HashMap<Integer, Integer> hashMap;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Random rnd = new Random(42);
+			swiss = new SwissMap<>();
+			swissSimd = new SwissSimdMap<>();
+			hashMap = new HashMap<>();
+			for (int i = 0; i < size; i++) {
+				int k = rnd.nextInt();
+				swiss.put(k, i);
+				swissSimd.put(k, i);
+				hashMap.put(k, i);
+			}
+		}
+	}
+
+	private static long sum(Map<Integer, Integer> m, boolean parallel) {
+		var s = parallel ? m.entrySet().parallelStream() : m.entrySet().stream();
+		return s.mapToLong(e -> (long) e.getKey() ^ e.getValue()).sum();
+	}
+
+	@Benchmark
+	public long swissSequential(ScanState s) { return sum(s.swiss, false); }
+
+	@Benchmark
+	public long swissParallel(ScanState s) { return sum(s.swiss, true); }
+
+	@Benchmark
+	public long swissSimdParallel(ScanState s) { return sum(s.swissSimd, true); }
+
+	@Benchmark
+	public long hashMapParallel(ScanState s) { return sum(s.hashMap, true); }
+}
@@ -0,0 +1,76 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-put latency distribution while a map grows from empty to {@code size} entries, crossing every resize
+ * threshold on the way. {@link Mode#SampleTime} reports p99/p99.9/p99.99/max; compare the tail of
+ * {@link SwissMap} (stop-the-world rehash) with {@link IncrementalSwissMap} (amortized migration).
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms8g",
+        "-Xmx8g",
+    }
+)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResizeLatencyBenchmark {
+
+	@State(Scope.Thread)
+	public static class GrowState {
+		@Param({ "1000000", "20000000" })
+		int size;
+
+		@Param({ "swiss", "incremental" })
+		String impl;
+
+		Integer[] keys;
+		Map<Integer, Integer> map;
+		int idx;
+
+		@Setup(Level.Trial)
+		public void initKeys() {
+			Random rnd = new Random(42);
+			keys = new Integer[size];
+			for (int i = 0; i < size; i++) keys[i] = rnd.nextInt();
+		}
+
+		@Setup(Level.Iteration)
+		public void resetMap() {
+			map = newMap();
+			idx = 0;
+		}
+
+		Map<Integer, Integer> newMap() {
+			return switch (impl) {
+				case "swiss" -> new SwissMap<>();
+				case "incremental" -> new IncrementalSwissMap<>();
+				default -> throw new IllegalArgumentException(impl);
+			};
+		}
+
+		Integer nextKey() {
+			if (idx == keys.length) {
+				// Start growing again from empty; the (tiny) allocation cost is the same for both maps.
+				map = newMap();
+				idx = 0;
+			}
+			return keys[idx++];
+		}
+	}
+
+	@Benchmark
+	public void growPut(GrowState s, Blackhole bh) {
+		bh.consume(s.map.put(s.nextKey(), 1));
+	}
+}
@@ -0,0 +1,80 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Read latency while a writer keeps resizing the map: three readers {@code get} keys that are always present,
+ * one writer grows a fresh map from {@code stable} to {@code size} entries over and over, so its shards cross
+ * every resize threshold. {@link Mode#SampleTime} reports the readers' p99.9/max, where a reader waiting out a
+ * multi-millisecond shard rehash shows up. {@link ConcurrentSwissMap} readers use the table the rehash copies from;
+ * {@link ConcurrentHashMap} is the baseline.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "-Xms8g",
+        "-Xmx8g",
+    }
+)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResizeReadLatencyBenchmark {
+
+	@State(Scope.Group)
+	public static class Shared {
+		@Param({ "4000000" })
+		int size;
+
+		@Param({ "10000" })
+		int stable;
+
+		@Param({ "4" })
+		int shards;
+
+		@Param({ "concurrentSwissMap", "concurrentHashMap" })
+		String impl;
+
+		volatile Map<Integer, Integer> map;
+		int next;
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			map = newMap();
+		}
+
+		Map<Integer, Integer> newMap() {
+			Map<Integer, Integer> m = switch (impl) {
+				case "concurrentSwissMap" -> new ConcurrentSwissMap<>(shards, 16, 0.875d);
+				case "concurrentHashMap" -> new ConcurrentHashMap<>();
+				default -> throw new IllegalArgumentException(impl);
+			};
+			for (int i = 0; i < stable; i++) m.put(i, i);
+			next = stable;
+			return m;
+		}
+	}
+
+	@Benchmark
+	@Group("resize")
+	@GroupThreads(1)
+	public Integer writer(Shared s) {
+		if (s.next == s.size) s.map = s.newMap(); // grow again from small, crossing every threshold
+		int k = s.next++;
+		return s.map.put(k, k);
+	}
+
+	@Benchmark
+	@Group("resize")
+	@GroupThreads(3)
+	public Integer reader(Shared s) {
+		return s.map.get(ThreadLocalRandom.current().nextInt(s.stable));
+	}
+}
@@ -53,6 +53,7 @@ public class SetBenchmark {
 		int size;
 
 		SwissSet<String> swiss;
+		SwissSimdSet<String> swissSimd;
 		HashSet<String> jdk;
 		ObjectOpenHashSet<String> fastutil;
 		UnifiedSet<String> unified;
@@ -81,11 +82,13 @@ public class SetBenchmark {
 			nextMissIndex = 0;
 
 			swiss = new SwissSet<>();
+			swissSimd = new SwissSimdSet<>();
 			jdk = new HashSet<>();
 			fastutil = new ObjectOpenHashSet<>();
 			unified = new UnifiedSet<>();
 			for (String k : keys) {
 				swiss.add(k);
+				swissSimd.add(k);
 				jdk.add(k);
 				fastutil.add(k);
 				unified.add(k);
@@ -115,6 +118,7 @@ public class SetBenchmark {
 		int hitIndex;
 		int missIndex;
 		SwissSet<String> swiss;
+		SwissSimdSet<String> swissSimd;
 		HashSet<String> jdk;
 		ObjectOpenHashSet<String> fastutil;
 		UnifiedSet<String> unified;
@@ -131,11 +135,13 @@ public class SetBenchmark {
 		@Setup(Level.Iteration)
 		public void resetSets() {
 			swiss = new SwissSet<>();
+			swissSimd = new SwissSimdSet<>();
 			jdk = new HashSet<>();
 			fastutil = new ObjectOpenHashSet<>();
 			unified = new UnifiedSet<>();
 			for (String k : keys) {
 				swiss.add(k);
+				swissSimd.add(k);
 				jdk.add(k);
 				fastutil.add(k);
 				unified.add(k);
@@ -174,6 +180,7 @@ public class SetBenchmark {
 		Random rnd;
 
 		SwissSet<String> swiss;
+		SwissSimdSet<String> swissSimd;
 		HashSet<String> jdk;
 		ObjectOpenHashSet<String> fastutil;
 		UnifiedSet<String> unified;
@@ -189,11 +196,13 @@ public class SetBenchmark {
 		@Setup(Level.Iteration)
 		public void resetSets() {
 			swiss = new SwissSet<>();
+			swissSimd = new SwissSimdSet<>();
 			jdk = new HashSet<>();
 			fastutil = new ObjectOpenHashSet<>();
 			unified = new UnifiedSet<>();
 			for (String k : keys) {
 				swiss.add(k);
+				swissSimd.add(k);
 				jdk.add(k);
 				fastutil.add(k);
 				unified.add(k);
@@ -209,6 +218,7 @@ public class SetBenchmark {
 
 			String evict = keys[ei];
 			swiss.remove(evict);
+			swissSimd.remove(evict);
 			jdk.remove(evict);
 			fastutil.remove(evict);
 			unified.remove(evict);
@@ -227,9 +237,12 @@ public class SetBenchmark {
 	}
 
 	// contains hit/miss
-//	@Benchmark
+	@Benchmark
 	public void swissContainsHit(ReadState s, Blackhole bh) { boolean res = s.swiss.contains(s.nextHitKey()); bh.consume(res); }
 
+	@Benchmark
+	public void swissSimdContainsHit(ReadState s, Blackhole bh) { boolean res = s.swissSimd.contains(s.nextHitKey()); bh.consume(res); }
+
 //	@Benchmark
 	public void jdkContainsHit(ReadState s, Blackhole bh) { boolean res = s.jdk.contains(s.nextHitKey()); bh.consume(res); }
 
@@ -239,9 +252,12 @@ public class SetBenchmark {
 //	@Benchmark
 	public void unifiedContainsHit(ReadState s, Blackhole bh) { boolean res = s.unified.contains(s.nextHitKey()); bh.consume(res); }
 
-//	@Benchmark
+	@Benchmark
 	public void swissContainsMiss(ReadState s, Blackhole bh) { boolean res = s.swiss.contains(s.nextMissKey()); bh.consume(res); }
 
+	@Benchmark
+	public void swissSimdContainsMiss(ReadState s, Blackhole bh) { boolean res = s.swissSimd.contains(s.nextMissKey()); bh.consume(res); }
+
 //	@Benchmark
 	public void jdkContainsMiss(ReadState s, Blackhole bh) { boolean res = s.jdk.contains(s.nextMissKey()); bh.consume(res); }
 
@@ -252,9 +268,12 @@ public class SetBenchmark {
 	public void unifiedContainsMiss(ReadState s, Blackhole bh) { boolean res = s.unified.contains(s.nextMissKey()); bh.consume(res); }
 
 	// add hit/miss
-//	@Benchmark
+	@Benchmark
 	public void swissAddHit(PutHitState s, Blackhole bh) { boolean res = s.swiss.add(s.nextHitKey()); bh.consume(res); }
 
+	@Benchmark
+	public void swissSimdAddHit(PutHitState s, Blackhole bh) { boolean res = s.swissSimd.add(s.nextHitKey()); bh.consume(res); }
+
 //	@Benchmark
 	public void jdkAddHit(PutHitState s, Blackhole bh) { boolean res = s.jdk.add(s.nextHitKey()); bh.consume(res); }
 
@@ -264,8 +283,11 @@ public class SetBenchmark {
 //	@Benchmark
 	public void unifiedAddHit(PutHitState s, Blackhole bh) { boolean res = s.unified.add(s.nextHitKey()); bh.consume(res); }
 
-//	@Benchmark
-	public void swissAddMiss(PutHitState s, Blackhole bh) { boolean res = s.swiss.add(s.nextMissKey()); bh.consume(res); }
+	@Benchmark
+	public void swissAddMiss(PutMissState s, Blackhole bh) { boolean res = s.swiss.add(s.nextMissKey()); bh.consume(res); }
+
+	@Benchmark
+	public void swissSimdAddMiss(PutMissState s, Blackhole bh) { boolean res = s.swissSimd.add(s.nextMissKey()); bh.consume(res); }
 
 //	@Benchmark
 	public void jdkAddMiss(PutHitState s, Blackhole bh) { boolean res = s.jdk.add(s.nextMissKey()); bh.consume(res); }
@@ -0,0 +1,99 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Word-count style aggregation: one counter increment per token over a skewed vocabulary.
+ *
+ * <p>Compares in-place primitive counters ({@link Object2LongSwissMap#addTo}, fastutil
+ * {@link Object2LongOpenHashMap#addTo}) against boxed {@code merge(k, 1L, Long::sum)} on {@link HashMap}
+ * and {@link SwissMap}. Run with {@code -prof gc} to see the per-increment {@code Long} allocation.
+ */
+@Fork(
+    value=1,
+    jvmArgsAppend = {
+        "--add-modules=jdk.incubator.vector",
+        "--enable-preview",
+    }
+)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WordCountBenchmark {
+
+	private static final int TOKENS = 1 << 20;
+
+	@State(Scope.Thread)
+	public static class CountState {
+		@Param({ "1000", "50000", "500000" }) // distinct words (vocabulary size)
+		int vocabulary;
+
+		String[] tokens;
+		int idx;
+
+		Object2LongSwissMap<String> swissCounter;
+		Object2LongOpenHashMap<String> fastutil;
+		SwissMap<String, Long> swiss;
+		HashMap<String, Long> jdk;
+
+		@Setup(Level.Trial)
+		public void initTokens() {
+			Random rnd = new Random(42);
+			String[] words = new String[vocabulary];
+			for (int i = 0; i < vocabulary; i++) words[i] = "word-" + Integer.toHexString(rnd.nextInt()) + "-" + i;
+			tokens = new String[TOKENS];
+			for (int i = 0; i < TOKENS; i++) {
+				// Cheap Zipf-like skew: squaring a uniform variate favors low ranks.
+				double u = rnd.nextDouble();
+				tokens[i] = words[(int) (u * u * vocabulary)];
+			}
+		}
+
+		@Setup(Level.Iteration)
+		public void resetMaps() {
+			swissCounter = new Object2LongSwissMap<>();
+			fastutil = new Object2LongOpenHashMap<>();
+			swiss = new SwissMap<>();
+			jdk = new HashMap<>();
+			idx = 0;
+		}
+
+		String nextToken() {
+			String t = tokens[idx];
+			idx = (idx + 1) & (TOKENS - 1);
+			return t;
+		}
+	}
+
+	@Benchmark
+	public void swissCounterAddTo(CountState s, Blackhole bh) {
+		bh.consume(s.swissCounter.addTo(s.nextToken(), 1L));
+	}
+
+	@Benchmark
+	public void swissCounterIncrementAndGet(CountState s, Blackhole bh) {
+		bh.consume(s.swissCounter.incrementAndGet(s.nextToken()));
+	}
+
+	@Benchmark
+	public void fastutilAddTo(CountState s, Blackhole bh) {
+		bh.consume(s.fastutil.addTo(s.nextToken(), 1L));
+	}
+
+	@Benchmark
+	public void swissMerge(CountState s, Blackhole bh) {
+		bh.consume(s.swiss.merge(s.nextToken(), 1L, Long::sum));
+	}
+
+	@Benchmark
+	public void jdkMerge(CountState s, Blackhole bh) {
+		bh.consume(s.jdk.merge(s.nextToken(), 1L, Long::sum));
+	}
+}
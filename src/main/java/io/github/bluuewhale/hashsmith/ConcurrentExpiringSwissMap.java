@@ -0,0 +1,277 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A sharded, thread-safe {@link ExpiringSwissMap}: one shard per {@link StampedLock}, in the style of
+ * {@link ConcurrentSwissMap}.
+ *
+ * <p>Concurrency model:
+ * <ul>
+ *   <li><b>Shard selection</b>: the high bits of {@code Hashing.smearedHash(key)}, as in {@link ConcurrentSwissMap}.</li>
+ *   <li><b>Reads</b>: {@link StampedLock#tryOptimisticRead()} first, falling back to {@code readLock()}. Reads treat
+ *   expired entries as absent but never reclaim them, so they never take the write lock.</li>
+ *   <li><b>Writes</b>: {@code writeLock()} of the shard. Inserts reclaim expired entries on their probe sequence and
+ *   sweep a few groups of the shard, as in {@link ExpiringSwissMap}.</li>
+ * </ul>
+ *
+ * <p>{@link #size()} counts entries not yet reclaimed, so it may include expired ones. {@link #sweep(int)} and
+ * {@link #purgeExpired()} reclaim shard by shard, holding one shard's write lock at a time.
+ *
+ * <p>Null keys are not supported; null values are.
+ */
+public final class ConcurrentExpiringSwissMap<K, V> {
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	private final StampedLock[] locks;
+	private final ExpiringSwissMap<K, V>[] maps;
+	private final int shardBits;
+	/** Right-shift count to extract shard bits from the MSBs of the smeared hash. */
+	private final int shardShift;
+
+	public ConcurrentExpiringSwissMap(long ttl, TimeUnit unit) {
+		this(defaultShardCount(), ttl, unit, DEFAULT_INITIAL_CAPACITY);
+	}
+
+	public ConcurrentExpiringSwissMap(long ttl, TimeUnit unit, int initialCapacity) {
+		this(defaultShardCount(), ttl, unit, initialCapacity);
+	}
+
+	public ConcurrentExpiringSwissMap(int shardCount, long ttl, TimeUnit unit, int initialCapacity) {
+		this(shardCount, ExpiringSwissMap.toTtlNanos(ttl, unit), initialCapacity, System::nanoTime);
+	}
+
+	/* Test hook: custom clock, shared by every shard. */
+	ConcurrentExpiringSwissMap(int shardCount, long ttlNanos, int initialCapacity, LongSupplier ticker) {
+		if (shardCount <= 0) throw new IllegalArgumentException("shardCount must be > 0");
+		int sc = Utils.ceilPow2(shardCount);
+		this.shardBits = Integer.numberOfTrailingZeros(sc);
+		this.shardShift = Integer.SIZE - shardBits;
+		// Shards probe with H1 (hash >>> 7) and tag with H2 (low 7 bits); shard by the high bits of H1.
+		if (shardShift - 7 < 0) {
+			throw new IllegalArgumentException("shardCount too large: max shards is 2^(Integer.SIZE-7)");
+		}
+
+		StampedLock[] locks = new StampedLock[sc];
+		@SuppressWarnings("unchecked")
+		ExpiringSwissMap<K, V>[] maps = (ExpiringSwissMap<K, V>[]) new ExpiringSwissMap[sc];
+		int cap = Math.max(DEFAULT_INITIAL_CAPACITY, initialCapacity);
+		int perShard = Math.max(1, (cap + sc - 1) / sc);
+		for (int i = 0; i < sc; i++) {
+			locks[i] = new StampedLock();
+			maps[i] = new ExpiringSwissMap<>(ttlNanos, perShard, ticker);
+		}
+		this.locks = locks;
+		this.maps = maps;
+	}
+
+	private static int defaultShardCount() {
+		int cores = Runtime.getRuntime().availableProcessors();
+		return Utils.ceilPow2(Math.max(1, cores * 4));
+	}
+
+	private static int smearedHashNonNull(Object key) {
+		if (key == null) throw new NullPointerException("Null keys not supported");
+		return Hashing.smearedHash(key);
+	}
+
+	private int shardOfHash(int smearedHash) {
+		if (shardBits == 0) return 0;
+		// shardBits are taken from the MSBs of the smeared hash.
+		return smearedHash >>> shardShift;
+	}
+
+	public V get(Object key) {
+		int h = smearedHashNonNull(key);
+		int s = shardOfHash(h);
+		StampedLock lock = locks[s];
+		ExpiringSwissMap<K, V> map = maps[s];
+		long now = map.now();
+
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0L) {
+			try {
+				int idx = map.findLiveConcurrent(key, h, now);
+				V v = (idx >= 0) ? map.valueAt(idx) : null;
+				if (lock.validate(stamp)) return v;
+			} catch (RuntimeException torn) {
+				// Arrays swapped or a slot torn by a racing writer; retry under the read lock.
+			}
+		}
+
+		// Fallback to read lock.
+		stamp = lock.readLock();
+		try {
+			int idx = map.findLiveConcurrent(key, h, now);
+			return (idx >= 0) ? map.valueAt(idx) : null;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	public boolean containsKey(Object key) {
+		int h = smearedHashNonNull(key);
+		int s = shardOfHash(h);
+		StampedLock lock = locks[s];
+		ExpiringSwissMap<K, V> map = maps[s];
+		long now = map.now();
+
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0L) {
+			try {
+				boolean found = map.findLiveConcurrent(key, h, now) >= 0;
+				if (lock.validate(stamp)) return found;
+			} catch (RuntimeException torn) {
+				// Arrays swapped or a slot torn by a racing writer; retry under the read lock.
+			}
+		}
+
+		// Fallback to read lock.
+		stamp = lock.readLock();
+		try {
+			return map.findLiveConcurrent(key, h, now) >= 0;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Maps {@code key} to {@code value}, expiring after the map's time-to-live.
+	 *
+	 * @return the previous value, or {@code null} if there was none (or it had expired)
+	 */
+	public V put(K key, V value) {
+		int s = shardOfHash(smearedHashNonNull(key));
+		StampedLock lock = locks[s];
+		long stamp = lock.writeLock();
+		try {
+			return maps[s].put(key, value);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Maps {@code key} to {@code value} with its own time-to-live instead of the map's default.
+	 *
+	 * @return the previous value, or {@code null} if there was none (or it had expired)
+	 */
+	public V put(K key, V value, long ttl, TimeUnit unit) {
+		long ttlNanos = ExpiringSwissMap.toTtlNanos(ttl, unit);
+		int s = shardOfHash(smearedHashNonNull(key));
+		StampedLock lock = locks[s];
+		long stamp = lock.writeLock();
+		try {
+			return maps[s].put(key, value, ttlNanos);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Maps {@code key} to {@code value} unless it already has a live non-null value, which is returned instead
+	 * (an expired mapping counts as absent). Atomic per key, which makes this the primitive for dedup tables.
+	 */
+	public V putIfAbsent(K key, V value) {
+		int s = shardOfHash(smearedHashNonNull(key));
+		StampedLock lock = locks[s];
+		long stamp = lock.writeLock();
+		try {
+			return maps[s].putIfAbsent(key, value);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	public V remove(Object key) {
+		int s = shardOfHash(smearedHashNonNull(key));
+		StampedLock lock = locks[s];
+		long stamp = lock.writeLock();
+		try {
+			return maps[s].remove(key);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	public void clear() {
+		for (int i = 0; i < maps.length; i++) {
+			StampedLock lock = locks[i];
+			long stamp = lock.writeLock();
+			try {
+				maps[i].clear();
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+	}
+
+	/**
+	 * Entries not yet reclaimed, summed shard by shard; may include expired entries.
+	 */
+	public int size() {
+		long sum = 0L;
+		for (int i = 0; i < maps.length; i++) {
+			StampedLock lock = locks[i];
+			long stamp = lock.readLock();
+			try {
+				sum += maps[i].size();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+			if (sum > Integer.MAX_VALUE) return Integer.MAX_VALUE;
+		}
+		return (int) sum;
+	}
+
+	/**
+	 * Reclaims expired entries in the next {@code maxGroupsPerShard} groups of every shard's rotating sweep (see
+	 * {@link ExpiringSwissMap#sweep(int)}), taking one shard's write lock at a time.
+	 *
+	 * @return the number of entries reclaimed
+	 */
+	public int sweep(int maxGroupsPerShard) {
+		if (maxGroupsPerShard < 0) {
+			throw new IllegalArgumentException("maxGroupsPerShard must be >= 0: " + maxGroupsPerShard);
+		}
+		int reclaimed = 0;
+		for (int i = 0; i < maps.length; i++) {
+			StampedLock lock = locks[i];
+			long stamp = lock.writeLock();
+			try {
+				reclaimed += maps[i].sweep(maxGroupsPerShard);
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+		return reclaimed;
+	}
+
+	/**
+	 * Reclaims every expired entry, one shard at a time.
+	 *
+	 * @return the number of entries reclaimed
+	 */
+	public int purgeExpired() {
+		int reclaimed = 0;
+		for (int i = 0; i < maps.length; i++) {
+			StampedLock lock = locks[i];
+			long stamp = lock.writeLock();
+			try {
+				reclaimed += maps[i].purgeExpired();
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+		return reclaimed;
+	}
+
+	@Override
+	public String toString() {
+		return "ConcurrentExpiringSwissMap[size=" + size() + ", shards=" + maps.length + "]";
+	}
+}
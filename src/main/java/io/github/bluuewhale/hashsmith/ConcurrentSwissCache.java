@@ -0,0 +1,292 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+/**
+ * A sharded, thread-safe, size-bounded cache: one {@link SwissCache} (CLOCK eviction) per shard, each guarded by
+ * its own {@link StampedLock}, in the style of {@link ConcurrentSwissMap}.
+ *
+ * <p>Concurrency model:
+ * <ul>
+ *   <li><b>Shard selection</b>: the high bits of {@code Hashing.smearedHash(key)}, as in {@link ConcurrentSwissMap}.</li>
+ *   <li><b>Hits</b>: {@link StampedLock#tryOptimisticRead()} first, falling back to {@code readLock()}. The CLOCK
+ *   reference bit is then set with a plain byte store, so a hit never takes the write lock.</li>
+ *   <li><b>Misses and writes</b>: {@code writeLock()} of the shard, covering insert, eviction and tombstone purges.</li>
+ * </ul>
+ *
+ * <p>Each shard evicts independently, so the cache holds at most {@link #maxEntries()} entries but may evict
+ * from a full shard while others have room. {@link #computeIfAbsent} runs the loader under the shard's write
+ * lock: it blocks that shard (but not others) and must not access this cache.
+ *
+ * <p>Null keys and values are not supported.
+ */
+public final class ConcurrentSwissCache<K, V> {
+
+	/* Default sharding keeps at least this many entries per shard so per-shard CLOCK still sees enough history */
+	private static final int MIN_SHARD_ENTRIES = 64;
+
+	private final StampedLock[] locks;
+	private final SwissCache<K, V>[] shards;
+	private final int shardBits;
+	/** Right-shift count to extract shard bits from the MSBs of the smeared hash. */
+	private final int shardShift;
+	private final int maxEntries;
+
+	/* Statistics */
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public ConcurrentSwissCache(int maxEntries) {
+		this(defaultShardCount(maxEntries), maxEntries);
+	}
+
+	/**
+	 * @param shardCount rounded up to a power of two
+	 * @param maxEntries total capacity, split evenly across shards; must be at least the shard count
+	 */
+	public ConcurrentSwissCache(int shardCount, int maxEntries) {
+		if (shardCount <= 0) throw new IllegalArgumentException("shardCount must be > 0");
+		int sc = Utils.ceilPow2(shardCount);
+		if (maxEntries < sc) {
+			throw new IllegalArgumentException("maxEntries (" + maxEntries + ") must be >= shard count (" + sc + ")");
+		}
+		this.shardBits = Integer.numberOfTrailingZeros(sc);
+		this.shardShift = Integer.SIZE - shardBits;
+		// SwissCache probes with H1 (hash >>> 7) and tags with H2 (low 7 bits); shard by the high bits of H1.
+		if (shardShift - 7 < 0) {
+			throw new IllegalArgumentException("shardCount too large: max shards is 2^(Integer.SIZE-7)");
+		}
+
+		StampedLock[] locks = new StampedLock[sc];
+		@SuppressWarnings("unchecked")
+		SwissCache<K, V>[] shards = (SwissCache<K, V>[]) new SwissCache[sc];
+		int perShard = maxEntries / sc;
+		int remainder = maxEntries % sc;
+		for (int i = 0; i < sc; i++) {
+			locks[i] = new StampedLock();
+			shards[i] = new SwissCache<>(perShard + (i < remainder ? 1 : 0));
+		}
+		this.locks = locks;
+		this.shards = shards;
+		this.maxEntries = maxEntries;
+	}
+
+	private static int defaultShardCount(int maxEntries) {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int byCores = Utils.ceilPow2(Math.max(1, cores * 4));
+		int byEntries = Integer.highestOneBit(Math.max(1, maxEntries / MIN_SHARD_ENTRIES));
+		return Math.min(byCores, byEntries);
+	}
+
+	private static int smearedHashNonNull(Object key) {
+		if (key == null) throw new NullPointerException("Null keys not supported");
+		return Hashing.smearedHash(key);
+	}
+
+	private int shardOfHash(int smearedHash) {
+		if (shardBits == 0) return 0;
+		// shardBits are taken from the MSBs of the smeared hash.
+		return smearedHash >>> shardShift;
+	}
+
+	/**
+	 * Returns the cached value for {@code key} (marking it recently used), or {@code null} on a miss.
+	 */
+	public V get(Object key) {
+		int h = smearedHashNonNull(key);
+		int s = shardOfHash(h);
+		V v = lookup(locks[s], shards[s], key, h);
+		if (v == null) misses.increment();
+		else hits.increment();
+		return v;
+	}
+
+	/**
+	 * Like {@link #get}, but on a miss loads the value with {@code loader} under the shard's write lock and
+	 * caches it (evicting from the shard if full). A {@code null} result is returned and not cached.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+		Objects.requireNonNull(loader, "loader");
+		int h = smearedHashNonNull(key);
+		int s = shardOfHash(h);
+		StampedLock lock = locks[s];
+		SwissCache<K, V> shard = shards[s];
+		V v = lookup(lock, shard, key, h);
+		if (v != null) {
+			hits.increment();
+			return v;
+		}
+
+		long stamp = lock.writeLock();
+		try {
+			// Re-check: another thread may have loaded the key since the optimistic miss.
+			int idx = shard.findIndex(key, h);
+			if (idx >= 0) {
+				hits.increment();
+				shard.touch(idx);
+				return shard.valueAt(idx);
+			}
+			misses.increment();
+			v = loader.apply(key);
+			if (v != null) shard.insert(key, v, h);
+			return v;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Whether {@code key} is cached. Does not count as an access or touch the statistics.
+	 */
+	public boolean containsKey(Object key) {
+		int h = smearedHashNonNull(key);
+		int s = shardOfHash(h);
+		StampedLock lock = locks[s];
+		SwissCache<K, V> shard = shards[s];
+
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0L) {
+			boolean found = shard.findIndexConcurrent(key, h) >= 0;
+			if (lock.validate(stamp)) return found;
+		}
+
+		// Fallback to read lock.
+		stamp = lock.readLock();
+		try {
+			return shard.findIndex(key, h) >= 0;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Caches {@code value} under {@code key}, evicting from the key's shard if it is full and the key is new.
+	 *
+	 * @return the previous value, or {@code null}
+	 */
+	public V put(K key, V value) {
+		Objects.requireNonNull(value, "value");
+		int h = smearedHashNonNull(key);
+		int s = shardOfHash(h);
+		StampedLock lock = locks[s];
+		long stamp = lock.writeLock();
+		try {
+			return shards[s].put(key, value, h);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	public V remove(Object key) {
+		int h = smearedHashNonNull(key);
+		int s = shardOfHash(h);
+		StampedLock lock = locks[s];
+		long stamp = lock.writeLock();
+		try {
+			return shards[s].remove(key, h);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Drops every entry, one shard at a time; statistics are kept.
+	 */
+	public void clear() {
+		for (int i = 0; i < shards.length; i++) {
+			StampedLock lock = locks[i];
+			long stamp = lock.writeLock();
+			try {
+				shards[i].clear();
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+	}
+
+	public int size() {
+		int sum = 0; // bounded by maxEntries, cannot overflow
+		for (int i = 0; i < shards.length; i++) {
+			StampedLock lock = locks[i];
+			long stamp = lock.readLock();
+			try {
+				sum += shards[i].size();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return sum;
+	}
+
+	public int maxEntries() {
+		return maxEntries;
+	}
+
+	public long hitCount() {
+		return hits.sum();
+	}
+
+	public long missCount() {
+		return misses.sum();
+	}
+
+	public long evictionCount() {
+		long sum = 0L;
+		for (int i = 0; i < shards.length; i++) {
+			StampedLock lock = locks[i];
+			long stamp = lock.readLock();
+			try {
+				sum += shards[i].evictionCount();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * {@code hits / (hits + misses)}, or {@code 0} before the first lookup.
+	 */
+	public double hitRate() {
+		long h = hits.sum();
+		long total = h + misses.sum();
+		return (total == 0) ? 0d : (double) h / total;
+	}
+
+	@Override
+	public String toString() {
+		return "ConcurrentSwissCache[size=" + size() + ", maxEntries=" + maxEntries + ", shards=" + shards.length
+			+ ", hits=" + hitCount() + ", misses=" + missCount() + ", evictions=" + evictionCount() + "]";
+	}
+
+	/* Internals */
+	private V lookup(StampedLock lock, SwissCache<K, V> shard, Object key, int h) {
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0L) {
+			try {
+				int idx = shard.findIndexConcurrent(key, h);
+				V v = (idx >= 0) ? shard.valueAt(idx) : null;
+				if (lock.validate(stamp)) {
+					if (idx >= 0) shard.touch(idx);
+					return v;
+				}
+			} catch (RuntimeException torn) {
+				// key.equals on a slot torn by a racing writer; retry under the read lock.
+			}
+		}
+
+		// Fallback to read lock.
+		stamp = lock.readLock();
+		try {
+			int idx = shard.findIndex(key, h);
+			if (idx < 0) return null;
+			shard.touch(idx);
+			return shard.valueAt(idx);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+}
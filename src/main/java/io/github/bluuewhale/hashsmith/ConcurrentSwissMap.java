@@ -1,19 +1,30 @@
 package io.github.bluuewhale.hashsmith;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.AbstractCollection;
 import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.StampedLock;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToLongBiFunction;
 
 /**
  * A sharded, thread-safe wrapper around {@link SwissMap}.
@@ -23,6 +34,13 @@ import java.util.function.Function;
  *   <li><b>Shard selection</b>: choose a shard by the high bits of {@code Hashing.smearedHash(key)}.</li>
  *   <li><b>Reads</b>: {@link StampedLock#tryOptimisticRead()} first, fallback to {@code readLock()}.</li>
  *   <li><b>Writes</b>: {@code writeLock()} per shard, covering put/remove/clear/rehash inside the shard.</li>
+ *   <li><b>Resizes</b>: a shard rehash copies into fresh arrays under the write lock and publishes the table it
+ *   copies from ({@link SwissMap#resizeSource()}); reads that find the lock held by a resize look up in that frozen
+ *   table instead of blocking in {@code readLock()} for the length of the copy.</li>
+ *   <li><b>Size</b>: each writer publishes its shard's size (release store) before unlocking, so
+ *   {@link #size()} and {@link #isEmpty()} sum those counters with acquire loads and never take a lock.</li>
+ *   <li><b>Traversal</b>: {@link #forEach} and the views' iterators are weakly consistent, walking the shard
+ *   tables in place one group at a time without copying entries (see {@link Traverser}).</li>
  * </ul>
  *
  * <p>Note: The underlying {@link SwissMap} is written for single-threaded use. If an optimistic read
@@ -34,8 +52,14 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 	private static final int DEFAULT_INITIAL_CAPACITY = 16;
 	private static final double DEFAULT_LOAD_FACTOR = 0.875d;
 
+	/* ints between two shards' size counters: 64 bytes, so writers of neighbouring shards do not false-share */
+	private static final int SIZE_STRIDE = 16;
+	private static final VarHandle SIZE = MethodHandles.arrayElementVarHandle(int[].class);
+
 	private final StampedLock[] locks;
 	private final SwissMap<K, V>[] maps;
+	/** Size of shard {@code i} at {@code i * SIZE_STRIDE}, published by its writers on unlock. */
+	private final int[] sizes;
 	private final int shardBits;
 	/** Right-shift count to extract shard bits from the MSBs of the smeared hash. */
 	private final int shardShift;
@@ -76,6 +100,7 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 		}
 		this.locks = locks;
 		this.maps = maps;
+		this.sizes = new int[sc * SIZE_STRIDE];
 	}
 
 	private static int defaultShardCount() {
@@ -98,6 +123,16 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 		return shardOfHash(smearedHashNonNull(key));
 	}
 
+	/* Every write path unlocks through here: publish the shard's size, then release the write lock. */
+	private void unlockWrite(int shard, long stamp) {
+		SIZE.setRelease(sizes, shard * SIZE_STRIDE, maps[shard].size());
+		locks[shard].unlockWrite(stamp);
+	}
+
+	private int publishedSize(int shard) {
+		return (int) SIZE.getAcquire(sizes, shard * SIZE_STRIDE);
+	}
+
 	@Override
 	public V get(Object key) {
 		int h = smearedHashNonNull(key);
@@ -111,6 +146,10 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 			if (lock.validate(stamp)) return v;
 		}
 
+		// A writer holds the lock. If it is resizing the shard, read the frozen table it copies from instead.
+		SwissMap<K, V>.ResizeSource resizing = map.resizeSource();
+		if (resizing != null) return resizing.get(key, h);
+
 		// Fallback to read lock.
 		stamp = lock.readLock();
 		try {
@@ -133,6 +172,9 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 			if (lock.validate(stamp)) return ok;
 		}
 
+		SwissMap<K, V>.ResizeSource resizing = map.resizeSource();
+		if (resizing != null) return resizing.findIndex(key, h) >= 0;
+
 		// Fallback to read lock.
 		stamp = lock.readLock();
 		try {
@@ -142,6 +184,115 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 		}
 	}
 
+	/**
+	 * Batched {@link #get}: stores the value mapped to {@code keys[i]} (or {@code null}) in {@code out[i]}.
+	 * <p>
+	 * Keys are hashed and grouped by shard up front; each shard is then read once per batch (optimistic
+	 * read, falling back to its read lock) using {@link SwissMap}'s interleaved batch probe. Results of one
+	 * shard are a consistent snapshot of that shard; the batch as a whole is not atomic across shards.
+	 *
+	 * @return the number of keys found
+	 * @throws NullPointerException if any key is null
+	 * @throws IllegalArgumentException if {@code out} is shorter than {@code keys}
+	 */
+	public int getAll(Object[] keys, V[] out) {
+		if (out.length < keys.length) {
+			throw new IllegalArgumentException("out.length " + out.length + " < keys.length " + keys.length);
+		}
+		Object[] vals = new Object[keys.length];
+		int[] slots = new int[keys.length];
+		int[] order = lookupByShard(keys, slots, vals);
+		int hits = 0;
+		for (int p = 0; p < order.length; p++) {
+			int i = order[p];
+			@SuppressWarnings("unchecked")
+			V v = (V) vals[p];
+			out[i] = v;
+			if (slots[p] >= 0) hits++;
+		}
+		return hits;
+	}
+
+	/**
+	 * Batched {@link #containsKey}: stores whether {@code keys[i]} is present in {@code out[i]}, taking each
+	 * shard's lock at most once per batch (see {@link #getAll}).
+	 *
+	 * @return the number of keys found
+	 * @throws NullPointerException if any key is null
+	 * @throws IllegalArgumentException if {@code out} is shorter than {@code keys}
+	 */
+	public int containsAll(Object[] keys, boolean[] out) {
+		if (out.length < keys.length) {
+			throw new IllegalArgumentException("out.length " + out.length + " < keys.length " + keys.length);
+		}
+		int[] slots = new int[keys.length];
+		int[] order = lookupByShard(keys, slots, null);
+		int hits = 0;
+		for (int p = 0; p < order.length; p++) {
+			boolean found = slots[p] >= 0;
+			out[order[p]] = found;
+			if (found) hits++;
+		}
+		return hits;
+	}
+
+	/**
+	 * Sorts the batch by shard (counting sort) and resolves each shard's run under one stamp.
+	 * Position {@code p} of {@code slots}/{@code vals} holds the result for {@code keys[order[p]]}.
+	 */
+	private int[] lookupByShard(Object[] keys, int[] slots, Object[] vals) {
+		int n = keys.length;
+		int shards = maps.length;
+		int[] hashes = new int[n];
+		int[] start = new int[shards + 1];
+		for (int i = 0; i < n; i++) {
+			int h = smearedHashNonNull(keys[i]);
+			hashes[i] = h;
+			start[shardOfHash(h) + 1]++;
+		}
+		for (int s = 0; s < shards; s++) start[s + 1] += start[s];
+
+		int[] order = new int[n];
+		Object[] sortedKeys = new Object[n];
+		int[] sortedHashes = new int[n];
+		int[] next = Arrays.copyOf(start, shards);
+		for (int i = 0; i < n; i++) {
+			int p = next[shardOfHash(hashes[i])]++;
+			order[p] = i;
+			sortedKeys[p] = keys[i];
+			sortedHashes[p] = hashes[i];
+		}
+
+		for (int s = 0; s < shards; s++) {
+			int from = start[s];
+			int to = start[s + 1];
+			if (from == to) continue;
+			StampedLock lock = locks[s];
+			SwissMap<K, V> map = maps[s];
+
+			long stamp = lock.tryOptimisticRead();
+			if (stamp != 0L) {
+				map.getAllConcurrent(sortedKeys, sortedHashes, slots, vals, from, to);
+				if (lock.validate(stamp)) continue;
+			}
+
+			SwissMap<K, V>.ResizeSource resizing = map.resizeSource();
+			if (resizing != null) {
+				resizing.getAll(sortedKeys, sortedHashes, slots, vals, from, to);
+				continue;
+			}
+
+			// Fallback to read lock.
+			stamp = lock.readLock();
+			try {
+				map.getAllConcurrent(sortedKeys, sortedHashes, slots, vals, from, to);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return order;
+	}
+
 	@Override
 	public boolean containsValue(Object value) {
 		// Read-only scan; lock each shard to avoid concurrent structural changes.
@@ -169,7 +320,7 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 		try {
 			return map.putConcurrent(key, value, h);
 		} finally {
-			lock.unlockWrite(stamp);
+			unlockWrite(idx, stamp);
 		}
 	}
 
@@ -184,7 +335,7 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 		try {
 			return map.removeConcurrent(key, h);
 		} finally {
-			lock.unlockWrite(stamp);
+			unlockWrite(idx, stamp);
 		}
 	}
 
@@ -213,10 +364,11 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 			long stamp = lock.writeLock();
 			try {
 				for (Entry<? extends K, ? extends V> e : b) {
-					map.put(e.getKey(), e.getValue());
+					K k = e.getKey();
+					map.putConcurrent(k, e.getValue(), Hashing.smearedHash(k));
 				}
 			} finally {
-				lock.unlockWrite(stamp);
+				unlockWrite(i, stamp);
 			}
 		}
 	}
@@ -230,167 +382,164 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 			try {
 				map.clear();
 			} finally {
-				lock.unlockWrite(stamp);
+				unlockWrite(i, stamp);
 			}
 		}
 	}
 
+	/**
+	 * Sums the per-shard sizes published by completed writes, without locking. Like
+	 * {@code ConcurrentHashMap.size()}, the result is exact when the map is quiescent and otherwise
+	 * reflects some interleaving of the concurrent writes.
+	 */
 	@Override
 	public int size() {
 		long sum = 0L;
 		for (int i = 0; i < maps.length; i++) {
-			StampedLock lock = locks[i];
-			SwissMap<K, V> map = maps[i];
-			long stamp = lock.readLock();
-			try {
-				sum += map.size();
-			} finally {
-				lock.unlockRead(stamp);
-			}
-			if (sum > Integer.MAX_VALUE) return Integer.MAX_VALUE;
+			sum += publishedSize(i);
 		}
-		return (int) sum;
+		return (sum > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) sum;
 	}
 
 	@Override
 	public boolean isEmpty() {
 		for (int i = 0; i < maps.length; i++) {
-			StampedLock lock = locks[i];
-			SwissMap<K, V> map = maps[i];
-			long stamp = lock.readLock();
-			try {
-				if (!map.isEmpty()) return false;
-			} finally {
-				lock.unlockRead(stamp);
-			}
+			if (publishedSize(i) != 0) return false;
 		}
 		return true;
 	}
 
 	@Override
 	public V putIfAbsent(K key, V value) {
-		int idx = shardOf(key);
+		int h = smearedHashNonNull(key);
+		int idx = shardOfHash(h);
 		StampedLock lock = locks[idx];
 		SwissMap<K, V> map = maps[idx];
 		long stamp = lock.writeLock();
 		try {
 			// Map/ConcurrentMap contract: treat "mapped-to-null" as absent and insert the value.
-			V cur = map.get(key);
+			V cur = map.getConcurrent(key, h);
 			if (cur != null) return cur;
-			map.put(key, value);
+			map.putConcurrent(key, value, h);
 			return null;
 		} finally {
-			lock.unlockWrite(stamp);
+			unlockWrite(idx, stamp);
 		}
 	}
 
 	@Override
 	public boolean remove(Object key, Object value) {
-		int idx = shardOf(key);
+		int h = smearedHashNonNull(key);
+		int idx = shardOfHash(h);
 		StampedLock lock = locks[idx];
 		SwissMap<K, V> map = maps[idx];
 		long stamp = lock.writeLock();
 		try {
-			if (!map.containsKey(key)) return false;
-			Object cur = map.get(key);
+			if (!map.containsKeyConcurrent(key, h)) return false;
+			Object cur = map.getConcurrent(key, h);
 			if (!Objects.equals(cur, value)) return false;
-			map.remove(key);
+			map.removeConcurrent(key, h);
 			return true;
 		} finally {
-			lock.unlockWrite(stamp);
+			unlockWrite(idx, stamp);
 		}
 	}
 
 	@Override
 	public boolean replace(K key, V oldValue, V newValue) {
-		int idx = shardOf(key);
+		int h = smearedHashNonNull(key);
+		int idx = shardOfHash(h);
 		StampedLock lock = locks[idx];
 		SwissMap<K, V> map = maps[idx];
 		long stamp = lock.writeLock();
 		try {
-			if (!map.containsKey(key)) return false;
-			Object cur = map.get(key);
+			if (!map.containsKeyConcurrent(key, h)) return false;
+			Object cur = map.getConcurrent(key, h);
 			if (!Objects.equals(cur, oldValue)) return false;
-			map.put(key, newValue);
+			map.putConcurrent(key, newValue, h);
 			return true;
 		} finally {
-			lock.unlockWrite(stamp);
+			unlockWrite(idx, stamp);
 		}
 	}
 
 	@Override
 	public V replace(K key, V value) {
-		int idx = shardOf(key);
+		int h = smearedHashNonNull(key);
+		int idx = shardOfHash(h);
 		StampedLock lock = locks[idx];
 		SwissMap<K, V> map = maps[idx];
 		long stamp = lock.writeLock();
 		try {
-			if (!map.containsKey(key)) return null;
-			return map.put(key, value);
+			if (!map.containsKeyConcurrent(key, h)) return null;
+			return map.putConcurrent(key, value, h);
 		} finally {
-			lock.unlockWrite(stamp);
+			unlockWrite(idx, stamp);
 		}
 	}
 
 	@Override
 	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
 		Objects.requireNonNull(mappingFunction, "mappingFunction");
-		int idx = shardOf(key);
+		int h = smearedHashNonNull(key);
+		int idx = shardOfHash(h);
 		StampedLock lock = locks[idx];
 		SwissMap<K, V> map = maps[idx];
 		long stamp = lock.writeLock();
 		try {
-			V cur = map.get(key);
+			V cur = map.getConcurrent(key, h);
 			if (cur != null) return cur;
 			V newVal = mappingFunction.apply(key);
 			if (newVal == null) return null; // do not create a new mapping
-			map.put(key, newVal);
+			map.putConcurrent(key, newVal, h);
 			return newVal;
 		} finally {
-			lock.unlockWrite(stamp);
+			unlockWrite(idx, stamp);
 		}
 	}
 
 	@Override
 	public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
 		Objects.requireNonNull(remappingFunction, "remappingFunction");
-		int idx = shardOf(key);
+		int h = smearedHashNonNull(key);
+		int idx = shardOfHash(h);
 		StampedLock lock = locks[idx];
 		SwissMap<K, V> map = maps[idx];
 		long stamp = lock.writeLock();
 		try {
-			V cur = map.get(key);
+			V cur = map.getConcurrent(key, h);
 			if (cur == null) return null; // treat mapped-to-null as absent
 			V newVal = remappingFunction.apply(key, cur);
 			if (newVal == null) {
-				map.remove(key);
+				map.removeConcurrent(key, h);
 				return null;
 			}
-			map.put(key, newVal);
+			map.putConcurrent(key, newVal, h);
 			return newVal;
 		} finally {
-			lock.unlockWrite(stamp);
+			unlockWrite(idx, stamp);
 		}
 	}
 
 	@Override
 	public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
 		Objects.requireNonNull(remappingFunction, "remappingFunction");
-		int idx = shardOf(key);
+		int h = smearedHashNonNull(key);
+		int idx = shardOfHash(h);
 		StampedLock lock = locks[idx];
 		SwissMap<K, V> map = maps[idx];
 		long stamp = lock.writeLock();
 		try {
-			V oldVal = map.get(key);
+			V oldVal = map.getConcurrent(key, h);
 			V newVal = remappingFunction.apply(key, oldVal);
 			if (newVal == null) {
-                map.remove(key);
+				map.removeConcurrent(key, h);
 				return null;
 			}
-			map.put(key, newVal);
+			map.putConcurrent(key, newVal, h);
 			return newVal;
 		} finally {
-			lock.unlockWrite(stamp);
+			unlockWrite(idx, stamp);
 		}
 	}
 
@@ -398,33 +547,171 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 	public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
 		Objects.requireNonNull(value, "value");
 		Objects.requireNonNull(remappingFunction, "remappingFunction");
-		int idx = shardOf(key);
+		int h = smearedHashNonNull(key);
+		int idx = shardOfHash(h);
 		StampedLock lock = locks[idx];
 		SwissMap<K, V> map = maps[idx];
 		long stamp = lock.writeLock();
 		try {
-			V oldVal = map.get(key);
+			V oldVal = map.getConcurrent(key, h);
 			if (oldVal == null) {
-				map.put(key, value);
+				map.putConcurrent(key, value, h);
 				return value;
 			}
 			V newVal = remappingFunction.apply(oldVal, value);
 			if (newVal == null) {
-				map.remove(key);
+				map.removeConcurrent(key, h);
 				return null;
 			}
-			map.put(key, newVal);
+			map.putConcurrent(key, newVal, h);
 			return newVal;
 		} finally {
-			lock.unlockWrite(stamp);
+			unlockWrite(idx, stamp);
 		}
 	}
 
 	@Override
 	public void forEach(BiConsumer<? super K, ? super V> action) {
 		Objects.requireNonNull(action, "action");
-		for (Entry<K, V> e : snapshotEntries()) {
-			action.accept(e.getKey(), e.getValue());
+		Traverser t = new Traverser();
+		while (t.advance()) {
+			action.accept(t.key, t.value);
+		}
+	}
+
+	/* Bulk operations in the style of ConcurrentHashMap: shards are the unit of parallel work. */
+
+	/**
+	 * Like {@link #forEach(BiConsumer)}, running shards in parallel on the common {@link ForkJoinPool} when the map
+	 * holds at least {@code parallelismThreshold} entries ({@code Long.MAX_VALUE} keeps it sequential, {@code 1}
+	 * always fans out). Each shard is traversed as in {@link #forEach(BiConsumer)}; {@code action} must be safe
+	 * to call from several threads at once.
+	 */
+	public void forEach(long parallelismThreshold, BiConsumer<? super K, ? super V> action) {
+		Objects.requireNonNull(action, "action");
+		forEachShard(parallelismThreshold, s -> {
+			Traverser t = new Traverser(s, s + 1);
+			while (t.advance()) {
+				action.accept(t.key, t.value);
+			}
+		});
+	}
+
+	/**
+	 * Returns a non-null result of {@code searchFunction} on some entry, or {@code null} if there is none; once a
+	 * result is found, the other shards stop early. Parallel as in {@link #forEach(long, BiConsumer)}.
+	 */
+	public <U> U search(long parallelismThreshold, BiFunction<? super K, ? super V, ? extends U> searchFunction) {
+		Objects.requireNonNull(searchFunction, "searchFunction");
+		AtomicReference<U> result = new AtomicReference<>();
+		forEachShard(parallelismThreshold, s -> {
+			Traverser t = new Traverser(s, s + 1);
+			while (result.get() == null && t.advance()) {
+				U u = searchFunction.apply(t.key, t.value);
+				if (u != null) {
+					result.compareAndSet(null, u);
+					return;
+				}
+			}
+		});
+		return result.get();
+	}
+
+	/**
+	 * Combines the non-null results of {@code transformer} over all entries with {@code reducer}, or returns
+	 * {@code null} if there are none. Each shard is reduced on its own, then the shard results in shard order.
+	 * Parallel as in {@link #forEach(long, BiConsumer)}.
+	 */
+	public <U> U reduce(
+		long parallelismThreshold,
+		BiFunction<? super K, ? super V, ? extends U> transformer,
+		BiFunction<? super U, ? super U, ? extends U> reducer
+	) {
+		Objects.requireNonNull(transformer, "transformer");
+		Objects.requireNonNull(reducer, "reducer");
+		Object[] partial = new Object[maps.length];
+		forEachShard(parallelismThreshold, s -> {
+			Traverser t = new Traverser(s, s + 1);
+			U r = null;
+			while (t.advance()) {
+				U u = transformer.apply(t.key, t.value);
+				if (u != null) r = (r == null) ? u : reducer.apply(r, u);
+			}
+			partial[s] = r;
+		});
+		U r = null;
+		for (Object o : partial) {
+			@SuppressWarnings("unchecked")
+			U u = (U) o;
+			if (u != null) r = (r == null) ? u : reducer.apply(r, u);
+		}
+		return r;
+	}
+
+	/**
+	 * Reduces {@code transformer} over all entries with {@code reducer}, starting every shard and the final
+	 * combination from {@code basis} (which should be the reducer's identity). Parallel as in
+	 * {@link #forEach(long, BiConsumer)}.
+	 */
+	public long reduceToLong(
+		long parallelismThreshold,
+		ToLongBiFunction<? super K, ? super V> transformer,
+		long basis,
+		LongBinaryOperator reducer
+	) {
+		Objects.requireNonNull(transformer, "transformer");
+		Objects.requireNonNull(reducer, "reducer");
+		long[] partial = new long[maps.length];
+		forEachShard(parallelismThreshold, s -> {
+			Traverser t = new Traverser(s, s + 1);
+			long r = basis;
+			while (t.advance()) {
+				r = reducer.applyAsLong(r, transformer.applyAsLong(t.key, t.value));
+			}
+			partial[s] = r;
+		});
+		long r = basis;
+		for (long p : partial) {
+			r = reducer.applyAsLong(r, p);
+		}
+		return r;
+	}
+
+	/**
+	 * {@code double} counterpart of {@link #reduceToLong}.
+	 */
+	public double reduceToDouble(
+		long parallelismThreshold,
+		ToDoubleBiFunction<? super K, ? super V> transformer,
+		double basis,
+		DoubleBinaryOperator reducer
+	) {
+		Objects.requireNonNull(transformer, "transformer");
+		Objects.requireNonNull(reducer, "reducer");
+		double[] partial = new double[maps.length];
+		forEachShard(parallelismThreshold, s -> {
+			Traverser t = new Traverser(s, s + 1);
+			double r = basis;
+			while (t.advance()) {
+				r = reducer.applyAsDouble(r, transformer.applyAsDouble(t.key, t.value));
+			}
+			partial[s] = r;
+		});
+		double r = basis;
+		for (double p : partial) {
+			r = reducer.applyAsDouble(r, p);
+		}
+		return r;
+	}
+
+	/* Runs {@code body} for every shard: on the common pool if the map is big enough, else in order on this thread. */
+	private void forEachShard(long parallelismThreshold, IntConsumer body) {
+		if (maps.length > 1 && size() >= parallelismThreshold) {
+			Utils.runParallel(ForkJoinPool.commonPool(), maps.length, body);
+			return;
+		}
+		for (int s = 0; s < maps.length; s++) {
+			body.accept(s);
 		}
 	}
 
@@ -442,12 +729,13 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 					keys.add(e.getKey());
 				}
 				for (K k : keys) {
-					V oldVal = map.get(k);
+					int h = Hashing.smearedHash(k);
+					V oldVal = map.getConcurrent(k, h);
 					V newVal = function.apply(k, oldVal);
-					map.put(k, newVal);
+					map.putConcurrent(k, newVal, h);
 				}
 			} finally {
-				lock.unlockWrite(stamp);
+				unlockWrite(i, stamp);
 			}
 		}
 	}
@@ -521,45 +809,26 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 
 		@Override
 		public boolean remove(Object o) {
-			int idx = shardOf(o);
+			int h = smearedHashNonNull(o);
+			int idx = shardOfHash(h);
 			StampedLock lock = locks[idx];
 			SwissMap<K, V> map = maps[idx];
 			long stamp = lock.writeLock();
 			try {
-				if (!map.containsKey(o)) return false;
-				map.remove(o);
+				if (!map.containsKeyConcurrent(o, h)) return false;
+				map.removeConcurrent(o, h);
 				return true;
 			} finally {
-				lock.unlockWrite(stamp);
+				unlockWrite(idx, stamp);
 			}
 		}
 
 		@Override
 		public Iterator<K> iterator() {
-			ArrayList<Entry<K, V>> snap = snapshotEntries();
-			return new Iterator<>() {
-				private int i = 0;
-				private K lastKey;
-				private boolean canRemove;
-
-				@Override
-				public boolean hasNext() {
-					return i < snap.size();
-				}
-
+			return new TraversalIterator<>() {
 				@Override
-				public K next() {
-					Entry<K, V> e = snap.get(i++);
-					lastKey = e.getKey();
-					canRemove = true;
-					return lastKey;
-				}
-
-				@Override
-				public void remove() {
-					if (!canRemove) throw new IllegalStateException();
-					ConcurrentSwissMap.this.remove(lastKey);
-					canRemove = false;
+				K current(Traverser t) {
+					return t.key;
 				}
 			};
 		}
@@ -588,30 +857,10 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 
 		@Override
 		public Iterator<V> iterator() {
-			ArrayList<Entry<K, V>> snap = snapshotEntries();
-			return new Iterator<>() {
-				private int i = 0;
-				private K lastKey;
-				private boolean canRemove;
-
-				@Override
-				public boolean hasNext() {
-					return i < snap.size();
-				}
-
-				@Override
-				public V next() {
-					Entry<K, V> e = snap.get(i++);
-					lastKey = e.getKey();
-					canRemove = true;
-					return e.getValue();
-				}
-
+			return new TraversalIterator<>() {
 				@Override
-				public void remove() {
-					if (!canRemove) throw new IllegalStateException();
-					ConcurrentSwissMap.this.remove(lastKey);
-					canRemove = false;
+				V current(Traverser t) {
+					return t.value;
 				}
 			};
 		}
@@ -626,12 +875,13 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 				try {
 					for (Entry<K, V> e : map.entrySet()) {
 						if (Objects.equals(e.getValue(), o)) {
-							map.remove(e.getKey());
+							K k = e.getKey();
+							map.removeConcurrent(k, Hashing.smearedHash(k));
 							return true;
 						}
 					}
 				} finally {
-					lock.unlockWrite(stamp);
+					unlockWrite(i, stamp);
 				}
 			}
 			return false;
@@ -680,71 +930,212 @@ public final class ConcurrentSwissMap<K, V> implements ConcurrentMap<K, V> {
 				map.removeConcurrent(key, h);
 				return true;
 			} finally {
-				lock.unlockWrite(stamp);
+				unlockWrite(idx, stamp);
 			}
 		}
 
 		@Override
 		public Iterator<Entry<K, V>> iterator() {
-			// Phase 1: snapshot iterator (weakly consistent). iterator.remove delegates to map.remove.
-			ArrayList<Entry<K, V>> snap = snapshotEntries();
-			return new SnapshotEntryIterator(snap);
+			return new TraversalIterator<>() {
+				@Override
+				Entry<K, V> current(Traverser t) {
+					return new MapEntry(t.key, t.value);
+				}
+			};
 		}
 	}
 
-	private ArrayList<Entry<K, V>> snapshotEntries() {
-		ArrayList<Entry<K, V>> out = new ArrayList<>();
-		for (int i = 0; i < maps.length; i++) {
-			StampedLock lock = locks[i];
-			SwissMap<K, V> map = maps[i];
-			long stamp = lock.readLock();
-			try {
-				for (Entry<K, V> e : map.entrySet()) {
-					out.add(new SnapshotEntry(e.getKey(), e.getValue()));
+	/**
+	 * Weakly consistent walk over every shard's {@link SwissMap} arrays in place, one ctrl group (8 slots) at a
+	 * time, with no per-entry allocation.
+	 * <p>
+	 * Each group's FULL lanes are copied into a reusable buffer under an optimistic stamp; if validation fails, the
+	 * group and the next few are read under one read-lock acquisition. No lock is held while the caller consumes
+	 * entries, so the caller may write to the map. The guarantees match {@code ConcurrentHashMap} traversal: an entry present for
+	 * the whole walk is reported exactly once, entries added or removed meanwhile may or may not be, and values are
+	 * as of some point during the walk.
+	 * <p>
+	 * That relies on every restructuring of a shard table building fresh arrays ({@code putConcurrent} /
+	 * {@code removeConcurrent} never rehash in place) and leaving the old ones untouched: once a walk sees its
+	 * shard's table replaced, it finishes on the retired arrays, a frozen copy of the shard as of that rehash.
+	 * Plain writes never move an entry; only a key removed and re-inserted mid-walk can land in a slot not yet
+	 * visited and be reported twice.
+	 */
+	private final class Traverser {
+		/* Groups read per read-lock acquisition once a validation has failed (a writer is active on the shard) */
+		private static final int LOCKED_GROUPS = 8;
+
+		private final Object[] bufKeys = new Object[LOCKED_GROUPS * 8];
+		private final Object[] bufVals = new Object[LOCKED_GROUPS * 8];
+		private final int endShard;
+		private int shard;
+		private long[] ctrl;        // current shard's table
+		private Object[] keys;
+		private Object[] vals;
+		private boolean retired;    // the table has been replaced by a rehash: frozen, read without the lock
+		private int group;          // next group of the table
+		private int count;          // entries buffered
+		private int pos;            // next buffered entry
+
+		K key;                      // current entry, after advance() returned true
+		V value;
+
+		/* Walks every shard. */
+		Traverser() {
+			this(0, maps.length);
+		}
+
+		/* Walks shards [fromShard, toShard). */
+		Traverser(int fromShard, int toShard) {
+			this.shard = fromShard - 1;
+			this.endShard = toShard;
+		}
+
+		@SuppressWarnings("unchecked")
+		boolean advance() {
+			while (pos == count) {
+				if (!fill()) {
+					key = null;
+					value = null;
+					return false;
 				}
+			}
+			key = (K) bufKeys[pos];
+			value = (V) bufVals[pos];
+			pos++;
+			return true;
+		}
+
+		/* Buffers the entries of the next group(s); false once every shard is done. */
+		private boolean fill() {
+			while (ctrl == null || group == ctrl.length) {
+				if (shard + 1 == endShard) {
+					Arrays.fill(bufKeys, null);
+					Arrays.fill(bufVals, null);
+					return false;
+				}
+				openShard(++shard);
+			}
+			pos = 0;
+			if (retired) {
+				count = copyGroups(1);
+				return true;
+			}
+			StampedLock lock = locks[shard];
+			long stamp = lock.tryOptimisticRead();
+			if (stamp != 0L) {
+				int n = SwissMap.copyGroupConcurrent(ctrl, keys, vals, group, bufKeys, bufVals, 0);
+				if (lock.validate(stamp)) {
+					count = n;
+					group++;
+					return true;
+				}
+			}
+
+			// A resize copying from our table has frozen it: finish the shard on it without the lock.
+			SwissMap<K, V>.ResizeSource resizing = maps[shard].resizeSource();
+			if (resizing != null && resizing.ctrl == ctrl) {
+				retired = true;
+				count = copyGroups(1);
+				return true;
+			}
+
+			// Fallback to read lock.
+			stamp = lock.readLock();
+			try {
+				// The lock orders us after any rehash, so replaced arrays hold their final contents.
+				retired = maps[shard].ctrlTable() != ctrl;
+				count = copyGroups(Math.min(LOCKED_GROUPS, ctrl.length - group));
+			} finally {
+				lock.unlockRead(stamp);
+			}
+			return true;
+		}
+
+		private int copyGroups(int groups) {
+			int n = 0;
+			for (int i = 0; i < groups; i++) {
+				n += SwissMap.copyGroupConcurrent(ctrl, keys, vals, group++, bufKeys, bufVals, n);
+			}
+			return n;
+		}
+
+		private void openShard(int s) {
+			StampedLock lock = locks[s];
+			SwissMap<K, V> map = maps[s];
+			group = 0;
+			retired = false;
+			long stamp = lock.tryOptimisticRead();
+			if (stamp != 0L) {
+				ctrl = map.ctrlTable();
+				keys = map.keyTable();
+				vals = map.valTable();
+				if (lock.validate(stamp)) return;
+			}
+
+			SwissMap<K, V>.ResizeSource resizing = map.resizeSource();
+			if (resizing != null) {
+				ctrl = resizing.ctrl;
+				keys = resizing.keys;
+				vals = resizing.vals;
+				retired = true;
+				return;
+			}
+
+			// Fallback to read lock.
+			stamp = lock.readLock();
+			try {
+				ctrl = map.ctrlTable();
+				keys = map.keyTable();
+				vals = map.valTable();
 			} finally {
 				lock.unlockRead(stamp);
 			}
 		}
-		return out;
 	}
 
-	private final class SnapshotEntryIterator implements Iterator<Entry<K, V>> {
-		private final ArrayList<Entry<K, V>> snap;
-		private int idx = 0;
+	/* Views' iterators: one {@link Traverser} each; remove() delegates to map.remove(key). */
+	private abstract class TraversalIterator<T> implements Iterator<T> {
+		private final Traverser t = new Traverser();
+		private boolean ready;
+		private boolean exhausted;
 		private K lastKey;
 		private boolean canRemove;
 
-		SnapshotEntryIterator(ArrayList<Entry<K, V>> snap) {
-			this.snap = snap;
-		}
+		abstract T current(Traverser t);
 
 		@Override
-		public boolean hasNext() {
-			return idx < snap.size();
+		public final boolean hasNext() {
+			if (!ready && !exhausted) {
+				ready = t.advance();
+				exhausted = !ready;
+			}
+			return ready;
 		}
 
 		@Override
-		public Entry<K, V> next() {
-			Entry<K, V> e = snap.get(idx++);
-			lastKey = e.getKey();
+		public final T next() {
+			if (!hasNext()) throw new NoSuchElementException();
+			ready = false;
+			lastKey = t.key;
 			canRemove = true;
-			return e;
+			return current(t);
 		}
 
 		@Override
-		public void remove() {
+		public final void remove() {
 			if (!canRemove) throw new IllegalStateException();
 			ConcurrentSwissMap.this.remove(lastKey);
 			canRemove = false;
 		}
 	}
 
-	private final class SnapshotEntry implements Entry<K, V> {
+	/* Entry handed out by entrySet() iterators; setValue writes through to the map. */
+	private final class MapEntry implements Entry<K, V> {
 		private final K key;
 		private V value;
 
-		SnapshotEntry(K key, V value) {
+		MapEntry(K key, V value) {
 			this.key = key;
 			this.value = value;
 		}
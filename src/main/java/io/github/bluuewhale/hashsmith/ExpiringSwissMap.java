@@ -0,0 +1,576 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link SwissMap} variant whose entries expire a fixed time after they were last written.
+ *
+ * <p>Each slot carries its deadline in a {@code long[]} next to {@code vals}, so there is no holder object per
+ * entry. Expired entries are treated as absent by every read, and reclaimed lazily:
+ * <ul>
+ *   <li>a lookup that finds an expired entry removes it;</li>
+ *   <li>{@code put} removes expired entries from the groups its probe cannot stop at (no EMPTY lane), so inserts
+ *   reuse their slots instead of probing further;</li>
+ *   <li>every insert also sweeps a few groups from a rotating cursor, and {@link #sweep(int)} does the same for
+ *   a caller-chosen number of groups (e.g. from a scheduled task), so reclamation never scans the whole table
+ *   at once. {@link #purgeExpired()} does a full pass; a resize drops expired entries as well.</li>
+ * </ul>
+ *
+ * <p>{@link #size()} counts entries not yet reclaimed, so it may include expired ones; iteration and the other
+ * views skip them. {@code put} sets the deadline to now plus the map's TTL (or the given TTL); replacing a value
+ * through an entry or {@code replaceAll} keeps it.
+ *
+ * <p>Null keys are not supported; null values are. Not thread-safe; see {@link ConcurrentExpiringSwissMap}.
+ */
+public class ExpiringSwissMap<K, V> extends AbstractArrayMap<K, V> {
+
+	/* Load factor: similar to Abseil SwissTable (7/8) */
+	private static final double DEFAULT_LOAD_FACTOR = 0.875d;
+
+	/* Groups the incremental sweep visits on each insert */
+	static final int SWEEP_GROUPS_PER_INSERT = 2;
+
+	/* Deadline of an entry that never expires */
+	private static final long NEVER = Long.MAX_VALUE;
+
+	private final long ttlNanos;
+	private final LongSupplier ticker;  // nanosecond clock (System::nanoTime outside tests)
+	private final long origin;          // ticker value at construction; deadlines are relative to it
+
+	private long[] ctrl;       // each long packs 8 control bytes (EMPTY/DELETED/H2 fingerprint)
+	private Object[] keys;
+	private Object[] vals;
+	private long[] deadlines;  // per slot: nanos since origin after which the entry is expired
+	private int tombstones;    // deleted slots
+	private int sweepGroup;    // next group of the incremental sweep
+	private int modCount;      // structural changes other than expiry; iterators fail fast on them
+
+	public ExpiringSwissMap(long ttl, TimeUnit unit) {
+		this(ttl, unit, 16);
+	}
+
+	public ExpiringSwissMap(long ttl, TimeUnit unit, int initialCapacity) {
+		this(toTtlNanos(ttl, unit), initialCapacity, System::nanoTime);
+	}
+
+	/* Test hook: custom clock. */
+	ExpiringSwissMap(long ttlNanos, int initialCapacity, LongSupplier ticker) {
+		super(initialCapacity, DEFAULT_LOAD_FACTOR);
+		this.ttlNanos = ttlNanos;
+		this.ticker = Objects.requireNonNull(ticker, "ticker");
+		this.origin = ticker.getAsLong();
+	}
+
+	static long toTtlNanos(long ttl, TimeUnit unit) {
+		if (ttl <= 0) throw new IllegalArgumentException("ttl must be > 0: " + ttl);
+		return unit.toNanos(ttl);
+	}
+
+	@Override
+	protected void init(int desiredCapacity) {
+		int nGroups = Swar.groupsFor(desiredCapacity);
+		this.capacity = nGroups * Swar.GROUP_SIZE;
+		this.ctrl = new long[nGroups];
+		Arrays.fill(this.ctrl, Swar.EMPTY_BROADCAST);
+		this.keys = new Object[capacity];
+		this.vals = new Object[capacity];
+		this.deadlines = new long[capacity];
+		this.size = 0;
+		this.tombstones = 0;
+		this.sweepGroup = 0;
+		this.maxLoad = calcMaxLoad(capacity);
+	}
+
+	/* Nanos since origin; never negative, so deadlines compare without overflow tricks. */
+	long now() {
+		return ticker.getAsLong() - origin;
+	}
+
+	private static long deadline(long now, long ttlNanos) {
+		long d = now + ttlNanos;
+		return (d < 0) ? NEVER : d; // saturate
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return put(key, value, ttlNanos);
+	}
+
+	/**
+	 * Maps {@code key} to {@code value} with its own time-to-live instead of the map's default.
+	 *
+	 * @return the previous value, or {@code null} if there was none (or it had expired)
+	 */
+	public V put(K key, V value, long ttl, TimeUnit unit) {
+		return put(key, value, toTtlNanos(ttl, unit));
+	}
+
+	V put(K key, V value, long ttlNanos) {
+		int h = hashNonNull(key);
+		long now = now();
+		int idx = findIndexForWrite(key, h, now);
+		if (idx >= 0) {
+			V old = (deadlines[idx] > now) ? castValue(vals[idx]) : null; // an expired mapping is replaced as absent
+			vals[idx] = value;
+			deadlines[idx] = deadline(now, ttlNanos);
+			return old;
+		}
+		sweep(SWEEP_GROUPS_PER_INSERT, now);
+		maybeRehash(now);
+		insert(key, value, h, deadline(now, ttlNanos));
+		return null;
+	}
+
+	@Override
+	public V remove(Object key) {
+		int h = hashNonNull(key);
+		int idx = findIndex(key, h);
+		if (idx < 0) return null;
+		V old = castValue(vals[idx]);
+		boolean live = deadlines[idx] > now();
+		deleteAt(idx);
+		modCount++;
+		return live ? old : null;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(ctrl, Swar.EMPTY_BROADCAST);
+		Arrays.fill(keys, null);
+		Arrays.fill(vals, null);
+		size = 0;
+		tombstones = 0;
+		modCount++;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		long now = now();
+		for (int i = 0; i < capacity; i++) {
+			if (isLive(i, now) && Objects.equals(vals[i], value)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Reclaims expired entries in the next {@code maxGroups} groups (8 slots each) of a rotating sweep, so a
+	 * caller can spread cleanup over time, e.g. from a scheduled task.
+	 *
+	 * @return the number of entries reclaimed
+	 */
+	public int sweep(int maxGroups) {
+		if (maxGroups < 0) throw new IllegalArgumentException("maxGroups must be >= 0: " + maxGroups);
+		return sweep(maxGroups, now());
+	}
+
+	/**
+	 * Reclaims every expired entry; afterwards {@link #size()} is exact until the next entry expires.
+	 *
+	 * @return the number of entries reclaimed
+	 */
+	public int purgeExpired() {
+		return sweep(ctrl.length, now());
+	}
+
+	/**
+	 * Remaining time to live of {@code key} in {@code unit}, or {@code -1} if it is absent or expired.
+	 */
+	public long expiresIn(Object key, TimeUnit unit) {
+		int idx = findIndex(key);
+		return (idx < 0) ? -1 : unit.convert(deadlines[idx] - now(), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new KeyView();
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new ValuesView();
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new EntryView();
+	}
+
+	/* lookup utilities */
+
+	/* Live slot of {@code key}, or -1; an expired match is reclaimed on the way (get/containsKey path). */
+	@Override
+	protected int findIndex(Object key) {
+		int idx = findIndex(key, hashNonNull(key));
+		if (idx >= 0 && deadlines[idx] <= now()) {
+			deleteAt(idx);
+			return -1;
+		}
+		return idx;
+	}
+
+	@Override
+	protected V valueAt(int idx) {
+		return castValue(vals[idx]);
+	}
+
+	/* Slot of {@code key}, expired or not, or -1. */
+	int findIndex(Object key, int h) {
+		long h2Broadcast = Swar.broadcast(Swar.h2(h));
+		long[] ctrl = this.ctrl; // local snapshot
+		Object[] keys = this.keys;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		int step = 0; // triangular probing step over groups
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || key.equals(k)) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/*
+	 * Slot of {@code key} if it is live at {@code now}, else -1. Never reclaims, so it is safe under a read lock,
+	 * and it tolerates a racing writer for optimistic readers (see ConcurrentExpiringSwissMap): it reads from
+	 * local snapshots, skips keys cleared under it and gives up after one pass over the groups. Under a race the
+	 * result only counts once the caller's stamp validates.
+	 */
+	int findLiveConcurrent(Object key, int h, long now) {
+		long h2Broadcast = Swar.broadcast(Swar.h2(h));
+		long[] ctrl = this.ctrl;
+		Object[] keys = this.keys;
+		long[] deadlines = this.deadlines;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		for (int step = 0; step <= mask; ) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || (k != null && key.equals(k))) return (deadlines[idx] > now) ? idx : -1;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+		return -1;
+	}
+
+	/* Like findIndex, but reclaims the expired entries of visited groups that have no EMPTY lane (put path). */
+	private int findIndexForWrite(Object key, int h, long now) {
+		long h2Broadcast = Swar.broadcast(Swar.h2(h));
+		long[] ctrl = this.ctrl;
+		Object[] keys = this.keys;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		int step = 0;
+		for (;;) {
+			long word = ctrl[g];
+			// A group without EMPTY lanes sends probes onward; freeing its expired lanes lets the insert reuse them.
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) == 0 && reclaimExpired(g, now) > 0) word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || key.equals(k)) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/* Whether slot {@code idx} holds an entry that has not expired at {@code now}. */
+	boolean isLive(int idx, long now) {
+		return Swar.isFull(Swar.ctrlAt(ctrl, idx)) && deadlines[idx] > now;
+	}
+
+	/* First EMPTY or DELETED slot on the probe sequence of {@code h}. */
+	private static int findFirstNonFull(long[] ctrl, int h) {
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		int step = 0;
+		for (;;) {
+			int free = ~Swar.fullMask(ctrl[g]) & 0xFF;
+			if (free != 0) return (g << 3) + Integer.numberOfTrailingZeros(free);
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/* Inserts a key known to be absent; the caller has made room. */
+	private void insert(Object key, Object value, int h, long deadline) {
+		int idx = findFirstNonFull(ctrl, h);
+		if (Swar.isDeleted(Swar.ctrlAt(ctrl, idx))) tombstones--;
+		keys[idx] = key;
+		vals[idx] = value;
+		deadlines[idx] = deadline;
+		Swar.setCtrlAt(ctrl, idx, Swar.h2(h));
+		size++;
+		modCount++;
+	}
+
+	/*
+	 * Frees a slot. Expiry goes through here too, without bumping modCount: entries never move, and iterators
+	 * re-check the slot, so reclaiming an expired entry under an iterator is harmless.
+	 */
+	private void deleteAt(int idx) {
+		// No probe sequence runs past a group that has an EMPTY lane (a group only regains EMPTY lanes through
+		// a rehash), so a slot in such a group can go straight back to EMPTY instead of becoming a tombstone.
+		boolean groupHasEmpty = Swar.eqMask(ctrl[idx >>> 3], Swar.EMPTY_BROADCAST) != 0;
+		Swar.setCtrlAt(ctrl, idx, groupHasEmpty ? Swar.EMPTY : Swar.DELETED);
+		if (!groupHasEmpty) tombstones++;
+		keys[idx] = null;
+		vals[idx] = null;
+		size--;
+	}
+
+	private int reclaimExpired(int g, long now) {
+		long[] deadlines = this.deadlines;
+		int base = g << 3;
+		// Branch-free over the group's 8 deadlines (one cache line): bit i is set iff deadline <= now. Deadlines
+		// and now are non-negative, so the subtraction cannot overflow.
+		int expired = 0;
+		for (int i = 0; i < Swar.GROUP_SIZE; i++) {
+			expired |= (int) ((deadlines[base + i] - now - 1) >>> 63) << i;
+		}
+		expired &= Swar.fullMask(ctrl[g]);
+		int reclaimed = Integer.bitCount(expired);
+		while (expired != 0) {
+			deleteAt(base + Integer.numberOfTrailingZeros(expired));
+			expired &= expired - 1;
+		}
+		return reclaimed;
+	}
+
+	private int sweep(int maxGroups, long now) {
+		int groups = ctrl.length;
+		int n = Math.min(maxGroups, groups);
+		int g = sweepGroup;
+		int reclaimed = 0;
+		for (int i = 0; i < n; i++) {
+			reclaimed += reclaimExpired(g, now);
+			g = (g + 1) & (groups - 1);
+		}
+		sweepGroup = g;
+		return reclaimed;
+	}
+
+	/* Resize */
+	private void maybeRehash(long now) {
+		if (size + tombstones < maxLoad) return;
+		// Grow only when the live entries need the room; otherwise a same-capacity rehash drops the tombstones.
+		// Either way expired entries are not carried over.
+		rehash(size >= (maxLoad >>> 1) ? capacity * 2 : capacity, now);
+	}
+
+	private void rehash(int newCapacity, long now) {
+		long[] oldCtrl = this.ctrl;
+		Object[] oldKeys = this.keys;
+		Object[] oldVals = this.vals;
+		long[] oldDeadlines = this.deadlines;
+		int oldCapacity = this.capacity;
+		int oldSweepGroup = this.sweepGroup;
+
+		init(newCapacity);
+		this.sweepGroup = oldSweepGroup & (ctrl.length - 1);
+		for (int i = 0; i < oldCapacity; i++) {
+			if (!Swar.isFull(Swar.ctrlAt(oldCtrl, i)) || oldDeadlines[i] <= now) continue;
+			int h = Hashing.smearedHash(oldKeys[i]);
+			int idx = findFirstNonFull(ctrl, h);
+			keys[idx] = oldKeys[i];
+			vals[idx] = oldVals[i];
+			deadlines[idx] = oldDeadlines[i];
+			Swar.setCtrlAt(ctrl, idx, Swar.h2(h));
+			size++;
+		}
+		modCount++;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V castValue(Object v) {
+		return (V) v;
+	}
+
+	@SuppressWarnings("unchecked")
+	private K castKey(Object k) {
+		return (K) k;
+	}
+
+	/* iterator base: slots in table order, skipping free slots and entries expired when the iterator was made */
+	private abstract class BaseIter<T> implements Iterator<T> {
+		private final long now = now();
+		private int next = -1;
+		private int last = -1;
+		private Object lastKey;
+		private int expectedModCount = modCount;
+
+		BaseIter() {
+			advance(0);
+		}
+
+		private void advance(int from) {
+			for (int i = from; i < capacity; i++) {
+				if (isLive(i, now)) {
+					next = i;
+					return;
+				}
+			}
+			next = -1;
+		}
+
+		@Override
+		public boolean hasNext() {
+			// A lookup may have reclaimed the next entry since (it had expired by then): move past it.
+			if (next >= 0 && !Swar.isFull(Swar.ctrlAt(ctrl, next))) advance(next + 1);
+			return next >= 0;
+		}
+
+		int nextIndex() {
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			if (!hasNext()) throw new NoSuchElementException();
+			int i = next;
+			last = i;
+			lastKey = keys[i];
+			advance(i + 1);
+			return i;
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0) throw new IllegalStateException();
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			// Unless a lookup has reclaimed it meanwhile (no modCount change, and the slot is not reused).
+			if (keys[last] == lastKey) {
+				deleteAt(last);
+				modCount++;
+			}
+			expectedModCount = modCount;
+			last = -1;
+			lastKey = null;
+		}
+	}
+
+	private class KeyIter extends BaseIter<K> {
+		@Override
+		public K next() {
+			return castKey(keys[nextIndex()]);
+		}
+	}
+
+	private class ValueIter extends BaseIter<V> {
+		@Override
+		public V next() {
+			return castValue(vals[nextIndex()]);
+		}
+	}
+
+	private class EntryIter extends BaseIter<Entry<K, V>> {
+		@Override
+		public Entry<K, V> next() {
+			return new EntryRef(nextIndex());
+		}
+	}
+
+	private class EntryRef implements Entry<K, V> {
+		private final int idx;
+		private final K key;
+		EntryRef(int idx) {
+			this.idx = idx;
+			this.key = castKey(keys[idx]);
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return castValue(vals[idx]);
+		}
+
+		@Override
+		public V setValue(V value) {
+			V old = castValue(vals[idx]);
+			vals[idx] = value;
+			return old;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Entry)) return false;
+			Entry<?, ?> e = (Entry<?, ?>) o;
+			return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+
+	private final class KeyView extends AbstractSet<K> {
+		@Override
+		public Iterator<K> iterator() {
+			return new KeyIter();
+		}
+
+		@Override
+		public int size() { return ExpiringSwissMap.this.size(); }
+
+		@Override
+		public boolean contains(Object o) { return o != null && containsKey(o); }
+	}
+
+	private final class ValuesView extends AbstractCollection<V> {
+		@Override
+		public Iterator<V> iterator() {
+			return new ValueIter();
+		}
+
+		@Override
+		public int size() { return ExpiringSwissMap.this.size(); }
+	}
+
+	private final class EntryView extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new EntryIter();
+		}
+
+		@Override
+		public int size() { return ExpiringSwissMap.this.size(); }
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof Entry<?, ?> e) || e.getKey() == null) return false;
+			int idx = findIndex(e.getKey());
+			return idx >= 0 && Objects.equals(vals[idx], e.getValue());
+		}
+	}
+}
@@ -31,4 +31,29 @@ final class Hashing {
 		return smear((o == null) ? 0 : o.hashCode());
 	}
 
+	/*
+	 * Primitive-key variants: identical to smearedHash(Integer.valueOf(key)) / smearedHash(Long.valueOf(key)),
+	 * so primitive tables distribute keys exactly like their boxed counterparts without allocating.
+	 */
+	static int smearedHash(int key) {
+		return smear(key);
+	}
+
+	static int smearedHash(long key) {
+		return smear(Long.hashCode(key));
+	}
+
+	/*
+	 * 64-bit finalizer (fmix64) from MurmurHash3, for tables with more groups than a 32-bit hash can address.
+	 */
+	static long mix64(long key) {
+		long h = key;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
 }
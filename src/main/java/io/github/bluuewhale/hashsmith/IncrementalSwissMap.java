@@ -0,0 +1,519 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link SwissMap} variant with incremental (amortized) resizing.
+ *
+ * <p>When the table crosses {@code maxLoad}, the new {@code ctrl/keys/vals} arrays are allocated but no entry
+ * is moved; the old arrays stay alive and every subsequent mutating call migrates a bounded number of groups
+ * ({@value #MIGRATE_GROUPS_PER_OP}) from the old table into the new one. Lookups probe the new table first and
+ * fall back to the old table until migration completes, so no single operation pays for a full rehash.
+ * Each key lives in exactly one of the two tables at any time.
+ *
+ * <p>Migration always finishes before the new table can reach its own {@code maxLoad}: the old table holds at
+ * most {@code 7/8} of its capacity and drains in {@code oldGroups / MIGRATE_GROUPS_PER_OP} mutations. If another
+ * resize is nonetheless triggered mid-migration, the remaining groups are drained synchronously first.
+ *
+ * <p>Uses the same control-word layout and SWAR matching as {@link SwissMap}. Null keys are not supported.
+ */
+public class IncrementalSwissMap<K, V> extends AbstractArrayMap<K, V> {
+
+	/* Load factor: similar to Abseil SwissTable (7/8) */
+	private static final double DEFAULT_LOAD_FACTOR = 0.875d;
+
+	/* Old-table groups migrated per mutating call while a resize is in progress */
+	static final int MIGRATE_GROUPS_PER_OP = 4;
+
+	/* Storage and state (current table) */
+	private long[] ctrl;     // each long packs 8 control bytes
+	private Object[] keys;   // key storage
+	private Object[] vals;   // value storage
+	private int tombstones;  // deleted slots in the current table
+
+	/* Table being drained; null when no resize is in progress */
+	private long[] oldCtrl;
+	private Object[] oldKeys;
+	private Object[] oldVals;
+	private int oldSize;        // live entries still in the old table (included in size)
+	private int migrateCursor;  // next old group to migrate
+
+	public IncrementalSwissMap() {
+		this(16, DEFAULT_LOAD_FACTOR);
+	}
+
+	public IncrementalSwissMap(int initialCapacity) {
+		this(initialCapacity, DEFAULT_LOAD_FACTOR);
+	}
+
+	public IncrementalSwissMap(int initialCapacity, double loadFactor) {
+		super(initialCapacity, loadFactor);
+	}
+
+	@Override
+	protected void init(int desiredCapacity) {
+		allocate(desiredCapacity);
+		this.size = 0;
+		this.oldCtrl = null;
+		this.oldKeys = null;
+		this.oldVals = null;
+		this.oldSize = 0;
+	}
+
+	private void allocate(int desiredCapacity) {
+		int nGroups = Swar.groupsFor(desiredCapacity);
+		this.capacity = nGroups * Swar.GROUP_SIZE;
+		this.ctrl = new long[nGroups];
+		Arrays.fill(this.ctrl, Swar.EMPTY_BROADCAST);
+		this.keys = new Object[capacity];
+		this.vals = new Object[capacity];
+		this.tombstones = 0;
+		this.maxLoad = calcMaxLoad(capacity);
+	}
+
+	/**
+	 * @return {@code true} while entries remain to be migrated out of the previous table
+	 */
+	public boolean isResizing() {
+		return oldCtrl != null;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		int h = hashNonNull(key);
+		migrateStep();
+		maybeRehash();
+		if (oldCtrl != null) {
+			int idx = probe(oldCtrl, oldKeys, key, h);
+			if (idx >= 0) {
+				// Still in the old table: update in place, the migration will carry the new value.
+				V old = castValue(oldVals[idx]);
+				oldVals[idx] = value;
+				return old;
+			}
+		}
+		return putValHashed(key, value, h);
+	}
+
+	@Override
+	public V remove(Object key) {
+		int h = hashNonNull(key);
+		int idx = probe(ctrl, keys, key, h);
+		if (idx >= 0) {
+			V old = castValue(vals[idx]);
+			Swar.setCtrlAt(ctrl, idx, Swar.DELETED);
+			keys[idx] = null;
+			vals[idx] = null;
+			size--;
+			tombstones++;
+			migrateStep();
+			maybeRehash();
+			return old;
+		}
+		if (oldCtrl != null) {
+			idx = probe(oldCtrl, oldKeys, key, h);
+			if (idx >= 0) {
+				V old = castValue(oldVals[idx]);
+				deleteOldAt(idx);
+				migrateStep();
+				return old;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(ctrl, Swar.EMPTY_BROADCAST);
+		Arrays.fill(keys, null);
+		Arrays.fill(vals, null);
+		dropOldTable();
+		size = 0;
+		tombstones = 0;
+		maxLoad = calcMaxLoad(capacity);
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new KeyView();
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new ValuesView();
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new EntryView();
+	}
+
+	/* Resize/migration */
+	private void maybeRehash() {
+		// Old-table entries count towards the load: they will all land in the current table.
+		boolean overMaxLoad = (size + tombstones) >= maxLoad;
+		// Tombstone cleanup is deferred while migrating; it would otherwise restart a resize mid-drain.
+		boolean tooManyTombstones = oldCtrl == null && tombstones > (size >>> 1);
+		if (!overMaxLoad && !tooManyTombstones) return;
+
+		int newCap = overMaxLoad ? Math.max(capacity * 2, Swar.GROUP_SIZE) : capacity;
+		startResize(newCap);
+	}
+
+	private void startResize(int newCapacity) {
+		if (oldCtrl != null) finishMigration();
+		oldCtrl = ctrl;
+		oldKeys = keys;
+		oldVals = vals;
+		oldSize = size;
+		migrateCursor = 0;
+		allocate(newCapacity);
+		if (oldSize == 0) dropOldTable();
+	}
+
+	private void migrateStep() {
+		if (oldCtrl == null) return;
+		int end = Math.min(oldCtrl.length, migrateCursor + MIGRATE_GROUPS_PER_OP);
+		for (int g = migrateCursor; g < end; g++) migrateGroup(g);
+		migrateCursor = end;
+		if (end == oldCtrl.length || oldSize == 0) dropOldTable();
+	}
+
+	private void finishMigration() {
+		for (int g = migrateCursor; g < oldCtrl.length; g++) migrateGroup(g);
+		dropOldTable();
+	}
+
+	private void migrateGroup(int g) {
+		int full = Swar.fullMask(oldCtrl[g]);
+		int base = g << 3;
+		while (full != 0) {
+			int idx = base + Integer.numberOfTrailingZeros(full);
+			insertAbsent(oldKeys[idx], oldVals[idx]);
+			oldKeys[idx] = null;
+			oldVals[idx] = null;
+			oldSize--;
+			full &= full - 1;
+		}
+		// DELETED (not EMPTY) keeps probe chains through this group intact for keys not yet migrated.
+		oldCtrl[g] = Swar.DELETED_BROADCAST;
+	}
+
+	private void dropOldTable() {
+		oldCtrl = null;
+		oldKeys = null;
+		oldVals = null;
+		oldSize = 0;
+		migrateCursor = 0;
+	}
+
+	/* Moves a key known to be absent from the current table; size is unchanged (it was counted in the old table). */
+	private void insertAbsent(Object key, Object value) {
+		int h = Hashing.smearedHash(key);
+		long[] ctrl = this.ctrl;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		int step = 0;
+		for (;;) {
+			long word = ctrl[g];
+			int freeMask = Swar.eqMask(word, Swar.EMPTY_BROADCAST) | Swar.eqMask(word, Swar.DELETED_BROADCAST);
+			if (freeMask != 0) {
+				int idx = (g << 3) + Integer.numberOfTrailingZeros(freeMask);
+				if (Swar.isDeleted(Swar.ctrlAt(ctrl, idx))) tombstones--;
+				keys[idx] = key;
+				vals[idx] = value;
+				Swar.setCtrlAt(ctrl, idx, Swar.h2(h));
+				return;
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	private V putValHashed(K key, V value, int smearedHash) {
+		byte h2 = Swar.h2(smearedHash);
+		long h2Broadcast = Swar.broadcast(h2);
+		long[] ctrl = this.ctrl; // local snapshot
+		Object[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(smearedHash) & mask;
+		int step = 0; // triangular probing step over groups
+		int firstTombstone = -1;
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || k.equals(key)) {
+					V old = castValue(vals[idx]);
+					vals[idx] = value;
+					return old;
+				}
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (firstTombstone < 0) {
+				int delMask = Swar.eqMask(word, Swar.DELETED_BROADCAST);
+				if (delMask != 0) firstTombstone = base + Integer.numberOfTrailingZeros(delMask);
+			}
+			int emptyMask = Swar.eqMask(word, Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int target = (firstTombstone >= 0) ? firstTombstone : base + Integer.numberOfTrailingZeros(emptyMask);
+				if (Swar.isDeleted(Swar.ctrlAt(ctrl, target))) tombstones--;
+				keys[target] = key;
+				vals[target] = value;
+				Swar.setCtrlAt(ctrl, target, h2);
+				size++;
+				return null;
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/* lookup utilities */
+
+	/**
+	 * Slot index in the current table ({@code [0, capacity)}), or {@code capacity + i} for slot {@code i} of the
+	 * old table, or {@code -1}.
+	 */
+	@Override
+	protected int findIndex(Object key) {
+		int h = hashNonNull(key);
+		if (size == 0) return -1;
+		int idx = probe(ctrl, keys, key, h);
+		if (idx >= 0 || oldCtrl == null) return idx;
+		idx = probe(oldCtrl, oldKeys, key, h);
+		return (idx >= 0) ? capacity + idx : -1;
+	}
+
+	private static int probe(long[] ctrl, Object[] keys, Object key, int smearedHash) {
+		long h2Broadcast = Swar.broadcast(Swar.h2(smearedHash));
+		int mask = ctrl.length - 1; // Derive mask from the array we index into (ctrl) to help JIT range-check elimination.
+		int g = Swar.h1(smearedHash) & mask;
+		int step = 0;
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || k.equals(key)) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			// Late in a migration the old table can run out of EMPTY lanes (migrated groups are all DELETED),
+			// so stop once every group has been visited.
+			if (step == mask) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	private void deleteOldAt(int idx) {
+		Swar.setCtrlAt(oldCtrl, idx, Swar.DELETED);
+		oldKeys[idx] = null;
+		oldVals[idx] = null;
+		oldSize--;
+		size--;
+	}
+
+	/* Accessors over the combined index space of findIndex */
+	private K keyAt(int idx) {
+		return castKey(idx < capacity ? keys[idx] : oldKeys[idx - capacity]);
+	}
+
+	@Override
+	protected V valueAt(int idx) {
+		return castValue(idx < capacity ? vals[idx] : oldVals[idx - capacity]);
+	}
+
+	private V setValueAt(int idx, V value) {
+		V old = valueAt(idx);
+		if (idx < capacity) vals[idx] = value;
+		else oldVals[idx - capacity] = value;
+		return old;
+	}
+
+	private boolean isFullAt(int idx) {
+		return idx < capacity
+			? Swar.isFull(Swar.ctrlAt(ctrl, idx))
+			: oldCtrl != null && Swar.isFull(Swar.ctrlAt(oldCtrl, idx - capacity));
+	}
+
+	private void deleteAt(int idx) {
+		if (idx < capacity) {
+			Swar.setCtrlAt(ctrl, idx, Swar.DELETED);
+			keys[idx] = null;
+			vals[idx] = null;
+			size--;
+			tombstones++;
+		} else {
+			deleteOldAt(idx - capacity);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private V castValue(Object v) {
+		return (V) v;
+	}
+
+	@SuppressWarnings("unchecked")
+	private K castKey(Object k) {
+		return (K) k;
+	}
+
+	/* iterator base: remaining old-table slots first (in order), then the current table in random-cycle order */
+	private abstract class BaseIter<T> implements Iterator<T> {
+		private final long[] oldCtrl = IncrementalSwissMap.this.oldCtrl;
+		private final int oldSlots = (oldCtrl == null) ? 0 : oldCtrl.length << 3;
+		private final int start;
+		private final int step;
+		private final int mask;
+		private int oldIter = 0;
+		private int iter = 0;
+		private int next = -1;
+		private int last = -1;
+
+		BaseIter() {
+			RandomCycle cycle = new RandomCycle(capacity, iterationSeed);
+			this.start = cycle.start;
+			this.step = cycle.step;
+			this.mask = cycle.mask;
+			advance();
+		}
+
+		private void advance() {
+			next = -1;
+			while (oldIter < oldSlots) {
+				int i = oldIter++;
+				if (Swar.isFull(Swar.ctrlAt(oldCtrl, i))) {
+					next = capacity + i;
+					return;
+				}
+			}
+			while (iter < capacity) {
+				int idx = (start + (iter++ * step)) & mask;
+				if (Swar.isFull(Swar.ctrlAt(ctrl, idx))) {
+					next = idx;
+					return;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next >= 0;
+		}
+
+		int nextIndex() {
+			if (!hasNext()) throw new NoSuchElementException();
+			int i = next;
+			last = i;
+			advance();
+			return i;
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0) throw new IllegalStateException();
+			// NOTE: no migration or rehash from iterator.remove(); it would move entries under the iterator.
+			if (isFullAt(last)) deleteAt(last);
+			last = -1;
+		}
+	}
+
+	private class KeyIter extends BaseIter<K> {
+		@Override
+		public K next() {
+			return keyAt(nextIndex());
+		}
+	}
+
+	private class ValueIter extends BaseIter<V> {
+		@Override
+		public V next() {
+			return valueAt(nextIndex());
+		}
+	}
+
+	private class EntryIter extends BaseIter<Entry<K, V>> {
+		@Override
+		public Entry<K, V> next() {
+			return new EntryRef(nextIndex());
+		}
+	}
+
+	private class EntryRef implements Entry<K, V> {
+		private final int idx;
+		EntryRef(int idx) { this.idx = idx; }
+
+		@Override
+		public K getKey() {
+			return keyAt(idx);
+		}
+
+		@Override
+		public V getValue() {
+			return valueAt(idx);
+		}
+
+		@Override
+		public V setValue(V value) {
+			return setValueAt(idx, value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Entry)) return false;
+			Entry<?, ?> e = (Entry<?, ?>) o;
+			return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+
+	private final class KeyView extends AbstractSet<K> {
+		@Override
+		public Iterator<K> iterator() {
+			return new KeyIter();
+		}
+
+		@Override
+		public int size() { return IncrementalSwissMap.this.size(); }
+	}
+
+	private final class ValuesView extends AbstractCollection<V> {
+		@Override
+		public Iterator<V> iterator() {
+			return new ValueIter();
+		}
+
+		@Override
+		public int size() { return IncrementalSwissMap.this.size(); }
+	}
+
+	private final class EntryView extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new EntryIter();
+		}
+
+		@Override
+		public int size() { return IncrementalSwissMap.this.size(); }
+	}
+}
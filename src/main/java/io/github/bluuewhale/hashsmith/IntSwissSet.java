@@ -0,0 +1,231 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Primitive {@code int} hash set using {@link SwissMap}'s packed control words and SWAR probing.
+ *
+ * <p>Elements are stored in a flat {@code int[]}, so {@link #add(int)}, {@link #contains(int)} and
+ * {@link #remove(int)} never allocate. Occupancy is tracked by the control bytes alone, so every
+ * {@code int} (including {@code 0}) is a valid element.
+ */
+public class IntSwissSet {
+
+	/* Defaults */
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+	private static final double DEFAULT_LOAD_FACTOR = 0.875d;
+
+	/* Storage and state */
+	private final double loadFactor;
+	private long[] ctrl;     // each long packs 8 control bytes
+	private int[] keys;      // element storage
+	private int capacity;
+	private int size;
+	private int tombstones;  // deleted slots
+	private int maxLoad;
+
+	public IntSwissSet() {
+		this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+	}
+
+	public IntSwissSet(int initialCapacity) {
+		this(initialCapacity, DEFAULT_LOAD_FACTOR);
+	}
+
+	public IntSwissSet(int initialCapacity, double loadFactor) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+		}
+		Utils.validateLoadFactor(loadFactor);
+		this.loadFactor = loadFactor;
+		init(initialCapacity);
+	}
+
+	private void init(int desiredCapacity) {
+		int nGroups = Swar.groupsFor(desiredCapacity);
+		this.capacity = nGroups * Swar.GROUP_SIZE;
+		this.ctrl = new long[nGroups];
+		Arrays.fill(this.ctrl, Swar.EMPTY_BROADCAST);
+		this.keys = new int[capacity];
+		this.size = 0;
+		this.tombstones = 0;
+		this.maxLoad = Utils.calcMaxLoad(capacity, loadFactor);
+	}
+
+	/* Public API */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean contains(int e) {
+		return findIndex(e) >= 0;
+	}
+
+	/**
+	 * @return {@code true} if the element was not already present
+	 */
+	public boolean add(int e) {
+		maybeRehash();
+		int h = Hashing.smearedHash(e);
+		int h1 = Swar.h1(h);
+		byte h2 = Swar.h2(h);
+		long h2Broadcast = Swar.broadcast(h2);
+		long[] ctrl = this.ctrl; // local snapshot
+		int[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1;
+		int g = h1 & mask;
+		int step = 0; // triangular probing step over groups
+		int firstTombstone = -1;
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				if (keys[idx] == e) return false;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (firstTombstone < 0) {
+				int delMask = Swar.eqMask(word, Swar.DELETED_BROADCAST);
+				if (delMask != 0) firstTombstone = base + Integer.numberOfTrailingZeros(delMask);
+			}
+			int emptyMask = Swar.eqMask(word, Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(emptyMask);
+				int target = (firstTombstone >= 0) ? firstTombstone : idx;
+				if (Swar.isDeleted(Swar.ctrlAt(ctrl, target))) tombstones--;
+				keys[target] = e;
+				Swar.setCtrlAt(ctrl, target, h2);
+				size++;
+				return true;
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/**
+	 * @return {@code true} if the element was present
+	 */
+	public boolean remove(int e) {
+		int idx = findIndex(e);
+		if (idx < 0) return false;
+		Swar.setCtrlAt(ctrl, idx, Swar.DELETED);
+		size--;
+		tombstones++;
+		maybeRehash();
+		return true;
+	}
+
+	public void clear() {
+		Arrays.fill(ctrl, Swar.EMPTY_BROADCAST);
+		size = 0;
+		tombstones = 0;
+		maxLoad = Utils.calcMaxLoad(capacity, loadFactor);
+	}
+
+	/**
+	 * Visits every element in slot order, scanning one control word (8 slots) at a time.
+	 * The set must not be structurally modified by {@code action}.
+	 */
+	public void forEach(IntConsumer action) {
+		Objects.requireNonNull(action, "action");
+		long[] ctrl = this.ctrl;
+		int[] keys = this.keys;
+		for (int g = 0; g < ctrl.length; g++) {
+			int full = Swar.fullMask(ctrl[g]);
+			int base = g << 3;
+			while (full != 0) {
+				action.accept(keys[base + Integer.numberOfTrailingZeros(full)]);
+				full &= full - 1;
+			}
+		}
+	}
+
+	public int[] toArray() {
+		int[] out = new int[size];
+		int[] n = { 0 };
+		forEach(e -> out[n[0]++] = e);
+		return out;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	/* Resize/rehash */
+	private void maybeRehash() {
+		boolean overMaxLoad = (size + tombstones) >= maxLoad;
+		boolean tooManyTombstones = tombstones > (size >>> 1);
+		if (!overMaxLoad && !tooManyTombstones) return;
+
+		// Only grow when over the max load threshold; tombstone cleanup keeps the capacity.
+		int newCap = overMaxLoad ? Math.max(capacity * 2, Swar.GROUP_SIZE) : capacity;
+		rehash(newCap);
+	}
+
+	private void rehash(int newCapacity) {
+		long[] oldCtrl = this.ctrl;
+		int[] oldKeys = this.keys;
+		init(newCapacity);
+
+		for (int g = 0; g < oldCtrl.length; g++) {
+			int full = Swar.fullMask(oldCtrl[g]);
+			int base = g << 3;
+			while (full != 0) {
+				insertFresh(oldKeys[base + Integer.numberOfTrailingZeros(full)]);
+				full &= full - 1;
+			}
+		}
+	}
+
+	/* fresh-table insertion used only during rehash */
+	private void insertFresh(int e) {
+		int h = Hashing.smearedHash(e);
+		long[] ctrl = this.ctrl;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		int step = 0;
+		for (;;) {
+			int emptyMask = Swar.eqMask(ctrl[g], Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int idx = (g << 3) + Integer.numberOfTrailingZeros(emptyMask);
+				keys[idx] = e;
+				Swar.setCtrlAt(ctrl, idx, Swar.h2(h));
+				size++;
+				return;
+			}
+			g = (g + (++step)) & mask;
+		}
+	}
+
+	private int findIndex(int e) {
+		if (size == 0) return -1;
+		int h = Hashing.smearedHash(e);
+		int h1 = Swar.h1(h);
+		long h2Broadcast = Swar.broadcast(Swar.h2(h));
+		long[] ctrl = this.ctrl; // local snapshot
+		int[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1; // Derive mask from the array we index into (ctrl) to help JIT range-check elimination.
+		int g = h1 & mask;
+		int step = 0;
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				if (keys[idx] == e) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+}
@@ -0,0 +1,553 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+
+/**
+ * Insertion-ordered {@link SwissMap} variant, a lighter replacement for {@link java.util.LinkedHashMap}.
+ *
+ * <p>Entries live in dense arrays ({@code keys/vals/hashes}) in insertion order, like CPython's compact dict.
+ * The SwissTable part only indexes them: the same SWAR control words as {@link SwissMap}, plus one {@code int}
+ * per slot holding the entry's position in the dense arrays. Iteration is a sequential scan of the dense
+ * arrays, and there are no per-entry node objects or links.
+ *
+ * <p>A removal leaves a hole (null key) at the entry's position; trailing holes are reclaimed at once. Holes
+ * are compacted lazily, by rebuilding the index at the same capacity, once they outnumber the live entries
+ * (and at the latest when the dense arrays fill up). Re-putting an existing key keeps its position.
+ *
+ * <p>Null keys are not supported; null values are.
+ */
+public class LinkedSwissMap<K, V> extends AbstractArrayMap<K, V> {
+
+	/* Load factor: similar to Abseil SwissTable (7/8) */
+	private static final double DEFAULT_LOAD_FACTOR = 0.875d;
+
+	/* Removals only compact once holes outnumber live entries and reach this count */
+	static final int COMPACT_MIN_HOLES = 32;
+
+	/* Index: ctrl words plus, for each FULL slot, the entry's position in the dense arrays */
+	private long[] ctrl;     // each long packs 8 control bytes (EMPTY/DELETED/H2 fingerprint)
+	private int[] index;     // slot -> dense position
+	private int tombstones;  // deleted slots
+
+	/* Entries in insertion order; sized to maxLoad by init, then grown on append (up to maxLoad) after the index grows */
+	private Object[] keys;   // null marks a hole
+	private Object[] vals;
+	private int[] hashes;    // smeared hashes, so rebuilds never call hashCode()
+	private int used;        // dense positions in use (live entries + holes)
+	private int modCount;    // structural changes; iterators fail fast on outside modification
+
+	public LinkedSwissMap() {
+		this(16, DEFAULT_LOAD_FACTOR);
+	}
+
+	public LinkedSwissMap(int initialCapacity) {
+		this(initialCapacity, DEFAULT_LOAD_FACTOR);
+	}
+
+	public LinkedSwissMap(int initialCapacity, double loadFactor) {
+		super(initialCapacity, loadFactor);
+	}
+
+	@Override
+	protected void init(int desiredCapacity) {
+		allocateIndex(desiredCapacity);
+		this.keys = new Object[maxLoad];
+		this.vals = new Object[maxLoad];
+		this.hashes = new int[maxLoad];
+		this.used = 0;
+		this.size = 0;
+	}
+
+	private void allocateIndex(int desiredCapacity) {
+		int nGroups = Swar.groupsFor(desiredCapacity);
+		this.capacity = nGroups * Swar.GROUP_SIZE;
+		this.ctrl = new long[nGroups];
+		Arrays.fill(this.ctrl, Swar.EMPTY_BROADCAST);
+		this.index = new int[capacity];
+		this.tombstones = 0;
+		this.maxLoad = calcMaxLoad(capacity);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		Object[] keys = this.keys;
+		Object[] vals = this.vals;
+		for (int i = 0; i < used; i++) {
+			if (keys[i] != null && Objects.equals(vals[i], value)) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		int h = hashNonNull(key);
+		int slot = findSlot(key, h);
+		if (slot >= 0) {
+			int pos = index[slot];
+			V old = castValue(vals[pos]);
+			vals[pos] = value;
+			return old;
+		}
+		maybeRehash();
+		insertNew(key, value, h);
+		return null;
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> m) {
+		if (m.isEmpty()) return;
+		long needed = (long) size + m.size();
+		if (needed > maxLoad) {
+			// Size the index once for the whole batch (duplicates may leave it larger than necessary).
+			rebuild((int) Math.min(1 << 30, (long) Math.ceil(needed / loadFactor)));
+		}
+		ensureDenseCapacity((int) Math.min(maxLoad, needed));
+		for (Entry<? extends K, ? extends V> e : m.entrySet()) put(e.getKey(), e.getValue());
+	}
+
+	@Override
+	public V remove(Object key) {
+		int h = hashNonNull(key);
+		int slot = findSlot(key, h);
+		if (slot < 0) return null;
+		V old = castValue(vals[index[slot]]);
+		removeSlot(slot);
+		maybeCompact();
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(ctrl, Swar.EMPTY_BROADCAST);
+		Arrays.fill(keys, 0, used, null);
+		Arrays.fill(vals, 0, used, null);
+		used = 0;
+		size = 0;
+		tombstones = 0;
+		modCount++;
+	}
+
+	/**
+	 * Visits every mapping in insertion order with a sequential scan of the dense arrays. Throws
+	 * {@link ConcurrentModificationException} if {@code action} structurally modifies the map.
+	 */
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		Objects.requireNonNull(action);
+		int mc = modCount;
+		Object[] keys = this.keys;
+		Object[] vals = this.vals;
+		for (int i = 0, n = used; i < n; i++) {
+			Object k = keys[i];
+			if (k != null) action.accept(castKey(k), castValue(vals[i]));
+		}
+		if (modCount != mc) throw new ConcurrentModificationException();
+	}
+
+	/**
+	 * Returns a {@link MapCursor} that visits mappings in insertion order without allocating per mapping.
+	 */
+	public MapCursor<K, V> cursor() {
+		return new Cursor();
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new KeyView();
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new ValuesView();
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new EntryView();
+	}
+
+	/* lookup utilities */
+	@Override
+	protected int findIndex(Object key) {
+		int h = hashNonNull(key);
+		int slot = findSlot(key, h);
+		return (slot >= 0) ? index[slot] : -1;
+	}
+
+	@Override
+	protected V valueAt(int pos) {
+		return castValue(vals[pos]);
+	}
+
+	/* Slot of {@code key} in the index, or -1. */
+	private int findSlot(Object key, int h) {
+		long h2Broadcast = Swar.broadcast(Swar.h2(h));
+		long[] ctrl = this.ctrl; // local snapshot
+		int[] index = this.index;
+		Object[] keys = this.keys;
+		int[] hashes = this.hashes;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		int step = 0; // triangular probing step over groups
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int slot = base + Integer.numberOfTrailingZeros(eqMask);
+				int pos = index[slot];
+				if (hashes[pos] == h && Objects.equals(keys[pos], key)) return slot;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/* First EMPTY or DELETED slot on the probe sequence of {@code h}. */
+	private static int findFirstNonFull(long[] ctrl, int h) {
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		int step = 0;
+		for (;;) {
+			int free = ~Swar.fullMask(ctrl[g]) & 0xFF;
+			if (free != 0) return (g << 3) + Integer.numberOfTrailingZeros(free);
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/* Appends an entry whose key is known to be absent; the caller has made room in the index. */
+	private void insertNew(Object key, Object value, int h) {
+		if (used == keys.length) ensureDenseCapacity(Math.min(maxLoad, used + (used >>> 1) + 1));
+		int pos = used++;
+		keys[pos] = key;
+		vals[pos] = value;
+		hashes[pos] = h;
+		int slot = findFirstNonFull(ctrl, h);
+		if (Swar.isDeleted(Swar.ctrlAt(ctrl, slot))) tombstones--;
+		Swar.setCtrlAt(ctrl, slot, Swar.h2(h));
+		index[slot] = pos;
+		size++;
+		modCount++;
+	}
+
+	/* Tombstones the slot and punches a hole at its dense position; never moves other entries. */
+	private void removeSlot(int slot) {
+		int pos = index[slot];
+		Swar.setCtrlAt(ctrl, slot, Swar.DELETED);
+		keys[pos] = null;
+		vals[pos] = null;
+		size--;
+		tombstones++;
+		modCount++;
+		while (used > 0 && keys[used - 1] == null) used--; // reclaim trailing holes
+	}
+
+	/* Resize/compaction */
+	private void maybeRehash() {
+		if (used < maxLoad && size + tombstones < maxLoad) return;
+		// Grow only when the live entries need the room; otherwise compacting the holes is enough.
+		rebuild(size >= (maxLoad >>> 1) ? capacity * 2 : capacity);
+	}
+
+	private void maybeCompact() {
+		int waste = Math.max(used - size, tombstones);
+		if (waste >= COMPACT_MIN_HOLES && waste > size) rebuild(capacity);
+	}
+
+	private void ensureDenseCapacity(int length) {
+		if (length <= keys.length) return;
+		keys = Arrays.copyOf(keys, length);
+		vals = Arrays.copyOf(vals, length);
+		hashes = Arrays.copyOf(hashes, length);
+	}
+
+	/**
+	 * Packs live entries to the front of the dense arrays in place (keeping their order) and rebuilds the
+	 * index for {@code newCapacity}. The dense arrays themselves only grow on append.
+	 */
+	private void rebuild(int newCapacity) {
+		int oldUsed = this.used;
+		allocateIndex(newCapacity);
+
+		Object[] keys = this.keys;
+		Object[] vals = this.vals;
+		int[] hashes = this.hashes;
+		long[] ctrl = this.ctrl;
+		int[] index = this.index;
+		int dst = 0;
+		for (int src = 0; src < oldUsed; src++) {
+			Object k = keys[src];
+			if (k == null) continue;
+			int h = hashes[src];
+			keys[dst] = k;
+			vals[dst] = vals[src];
+			hashes[dst] = h;
+			int slot = findFirstNonFull(ctrl, h);
+			Swar.setCtrlAt(ctrl, slot, Swar.h2(h));
+			index[slot] = dst;
+			dst++;
+		}
+		Arrays.fill(keys, dst, oldUsed, null);
+		Arrays.fill(vals, dst, oldUsed, null);
+		this.used = dst;
+		modCount++;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V castValue(Object v) {
+		return (V) v;
+	}
+
+	@SuppressWarnings("unchecked")
+	private K castKey(Object k) {
+		return (K) k;
+	}
+
+	/* Removes the entry at dense position {@code pos} without compacting (iterators and cursors). */
+	private void removeAtPosition(int pos) {
+		removeSlot(findSlot(keys[pos], hashes[pos]));
+	}
+
+	/* iterator base: dense positions in insertion order, skipping holes */
+	private abstract class BaseIter<T> implements Iterator<T> {
+		private int next = -1;
+		private int last = -1;
+		private int expectedModCount = modCount;
+
+		BaseIter() {
+			advance(0);
+		}
+
+		private void advance(int from) {
+			Object[] keys = LinkedSwissMap.this.keys;
+			for (int i = from; i < used; i++) {
+				if (keys[i] != null) {
+					next = i;
+					return;
+				}
+			}
+			next = -1;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next >= 0;
+		}
+
+		int nextIndex() {
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			if (!hasNext()) throw new NoSuchElementException();
+			int i = next;
+			last = i;
+			advance(i + 1);
+			return i;
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0) throw new IllegalStateException();
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			// NOTE: no compaction from iterator.remove(); it would move entries under the iterator.
+			removeAtPosition(last);
+			expectedModCount = modCount;
+			last = -1;
+		}
+	}
+
+	private class KeyIter extends BaseIter<K> {
+		@Override
+		public K next() {
+			return castKey(keys[nextIndex()]);
+		}
+	}
+
+	private class ValueIter extends BaseIter<V> {
+		@Override
+		public V next() {
+			return castValue(vals[nextIndex()]);
+		}
+	}
+
+	private class EntryIter extends BaseIter<Entry<K, V>> {
+		@Override
+		public Entry<K, V> next() {
+			return new EntryRef(nextIndex());
+		}
+	}
+
+	private final class Cursor implements MapCursor<K, V> {
+		private int pos = -1;     // current dense position
+		private boolean positioned;
+		private int expectedModCount = modCount;
+
+		@Override
+		public boolean advance() {
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			Object[] keys = LinkedSwissMap.this.keys;
+			while (++pos < used) {
+				if (keys[pos] != null) return positioned = true;
+			}
+			return positioned = false;
+		}
+
+		private int current() {
+			if (!positioned) throw new IllegalStateException();
+			return pos;
+		}
+
+		@Override
+		public K key() {
+			return castKey(keys[current()]);
+		}
+
+		@Override
+		public V value() {
+			return castValue(vals[current()]);
+		}
+
+		@Override
+		public V setValue(V value) {
+			int i = current();
+			V old = castValue(vals[i]);
+			vals[i] = value;
+			return old;
+		}
+
+		@Override
+		public void remove() {
+			int i = current();
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			removeAtPosition(i);
+			expectedModCount = modCount;
+			positioned = false;
+		}
+	}
+
+	private class EntryRef implements Entry<K, V> {
+		private final int pos;
+		EntryRef(int pos) { this.pos = pos; }
+
+		@Override
+		public K getKey() {
+			return castKey(keys[pos]);
+		}
+
+		@Override
+		public V getValue() {
+			return castValue(vals[pos]);
+		}
+
+		@Override
+		public V setValue(V value) {
+			V old = castValue(vals[pos]);
+			vals[pos] = value;
+			return old;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Entry)) return false;
+			Entry<?, ?> e = (Entry<?, ?>) o;
+			return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+
+	private final class KeyView extends AbstractSet<K> {
+		@Override
+		public Iterator<K> iterator() {
+			return new KeyIter();
+		}
+
+		@Override
+		public int size() { return LinkedSwissMap.this.size(); }
+
+		@Override
+		public boolean contains(Object o) { return o != null && containsKey(o); }
+
+		@Override
+		public boolean remove(Object o) {
+			if (o == null) return false;
+			int slot = findSlot(o, hashNonNull(o));
+			if (slot < 0) return false;
+			removeSlot(slot);
+			maybeCompact();
+			return true;
+		}
+
+		@Override
+		public Spliterator<K> spliterator() {
+			return Spliterators.spliterator(this, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+		}
+	}
+
+	private final class ValuesView extends AbstractCollection<V> {
+		@Override
+		public Iterator<V> iterator() {
+			return new ValueIter();
+		}
+
+		@Override
+		public int size() { return LinkedSwissMap.this.size(); }
+
+		@Override
+		public Spliterator<V> spliterator() {
+			return Spliterators.spliterator(this, Spliterator.ORDERED);
+		}
+	}
+
+	private final class EntryView extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new EntryIter();
+		}
+
+		@Override
+		public int size() { return LinkedSwissMap.this.size(); }
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof Entry<?, ?> e) || e.getKey() == null) return false;
+			int pos = findIndex(e.getKey());
+			return pos >= 0 && Objects.equals(vals[pos], e.getValue());
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if (!(o instanceof Entry<?, ?> e) || e.getKey() == null) return false;
+			Object key = e.getKey();
+			int slot = findSlot(key, hashNonNull(key));
+			if (slot < 0 || !Objects.equals(vals[index[slot]], e.getValue())) return false;
+			removeSlot(slot);
+			maybeCompact();
+			return true;
+		}
+
+		@Override
+		public Spliterator<Entry<K, V>> spliterator() {
+			return Spliterators.spliterator(this, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+		}
+	}
+}
@@ -0,0 +1,265 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link SwissMap} variant keyed by primitive {@code long}.
+ *
+ * <p>Keys are stored in a flat {@code long[]} next to the packed control words, so {@code get/put/remove}
+ * never box the key and never call {@code hashCode()/equals()}. Slot occupancy is tracked by the control
+ * bytes alone, so every {@code long} (including {@code 0}) is a valid key and no sentinel is reserved.
+ * Null values are allowed; use {@link #containsKey(long)} to tell them apart from missing keys.
+ */
+public class LongSwissMap<V> {
+
+	/* Defaults */
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+	private static final double DEFAULT_LOAD_FACTOR = 0.875d;
+
+	/* Storage and state */
+	private final double loadFactor;
+	private long[] ctrl;     // each long packs 8 control bytes
+	private long[] keys;     // key storage
+	private Object[] vals;   // value storage
+	private int capacity;
+	private int size;
+	private int tombstones;  // deleted slots
+	private int maxLoad;
+
+	/**
+	 * Receives one (key, value) pair per mapping from {@link #forEach(EntryConsumer)}.
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer<V> {
+		void accept(long key, V value);
+	}
+
+	public LongSwissMap() {
+		this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+	}
+
+	public LongSwissMap(int initialCapacity) {
+		this(initialCapacity, DEFAULT_LOAD_FACTOR);
+	}
+
+	public LongSwissMap(int initialCapacity, double loadFactor) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+		}
+		Utils.validateLoadFactor(loadFactor);
+		this.loadFactor = loadFactor;
+		init(initialCapacity);
+	}
+
+	private void init(int desiredCapacity) {
+		int nGroups = Swar.groupsFor(desiredCapacity);
+		this.capacity = nGroups * Swar.GROUP_SIZE;
+		this.ctrl = new long[nGroups];
+		Arrays.fill(this.ctrl, Swar.EMPTY_BROADCAST);
+		this.keys = new long[capacity];
+		this.vals = new Object[capacity];
+		this.size = 0;
+		this.tombstones = 0;
+		this.maxLoad = Utils.calcMaxLoad(capacity, loadFactor);
+	}
+
+	/* Public API */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean containsKey(long key) {
+		return findIndex(key) >= 0;
+	}
+
+	public V get(long key) {
+		int idx = findIndex(key);
+		return (idx >= 0) ? castValue(vals[idx]) : null;
+	}
+
+	public V getOrDefault(long key, V defaultValue) {
+		int idx = findIndex(key);
+		return (idx >= 0) ? castValue(vals[idx]) : defaultValue;
+	}
+
+	public V put(long key, V value) {
+		maybeRehash();
+		int h = Hashing.smearedHash(key);
+		int h1 = Swar.h1(h);
+		byte h2 = Swar.h2(h);
+		long h2Broadcast = Swar.broadcast(h2);
+		long[] ctrl = this.ctrl; // local snapshot
+		long[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1;
+		int g = h1 & mask;
+		int step = 0; // triangular probing step over groups
+		int firstTombstone = -1;
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				if (keys[idx] == key) {
+					V old = castValue(vals[idx]);
+					vals[idx] = value;
+					return old;
+				}
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (firstTombstone < 0) {
+				int delMask = Swar.eqMask(word, Swar.DELETED_BROADCAST);
+				if (delMask != 0) firstTombstone = base + Integer.numberOfTrailingZeros(delMask);
+			}
+			int emptyMask = Swar.eqMask(word, Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(emptyMask);
+				int target = (firstTombstone >= 0) ? firstTombstone : idx;
+				insertAt(target, key, value, h2);
+				return null;
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	public V remove(long key) {
+		int idx = findIndex(key);
+		if (idx < 0) return null;
+		V old = castValue(vals[idx]);
+		Swar.setCtrlAt(ctrl, idx, Swar.DELETED);
+		vals[idx] = null;
+		size--;
+		tombstones++;
+		maybeRehash();
+		return old;
+	}
+
+	public void clear() {
+		Arrays.fill(ctrl, Swar.EMPTY_BROADCAST);
+		Arrays.fill(vals, null);
+		size = 0;
+		tombstones = 0;
+		maxLoad = Utils.calcMaxLoad(capacity, loadFactor);
+	}
+
+	/**
+	 * Visits every mapping in slot order, scanning one control word (8 slots) at a time.
+	 * The map must not be structurally modified by {@code action}.
+	 */
+	public void forEach(EntryConsumer<? super V> action) {
+		Objects.requireNonNull(action, "action");
+		long[] ctrl = this.ctrl;
+		long[] keys = this.keys;
+		Object[] vals = this.vals;
+		for (int g = 0; g < ctrl.length; g++) {
+			int full = Swar.fullMask(ctrl[g]);
+			int base = g << 3;
+			while (full != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(full);
+				action.accept(keys[idx], castValue(vals[idx]));
+				full &= full - 1;
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+		forEach((k, v) -> {
+			if (sb.length() > 1) sb.append(", ");
+			sb.append(k).append('=').append(v == this ? "(this Map)" : v);
+		});
+		return sb.append('}').toString();
+	}
+
+	/* Resize/rehash */
+	private void maybeRehash() {
+		boolean overMaxLoad = (size + tombstones) >= maxLoad;
+		boolean tooManyTombstones = tombstones > (size >>> 1);
+		if (!overMaxLoad && !tooManyTombstones) return;
+
+		// Only grow when over the max load threshold; tombstone cleanup keeps the capacity.
+		int newCap = overMaxLoad ? Math.max(capacity * 2, Swar.GROUP_SIZE) : capacity;
+		rehash(newCap);
+	}
+
+	private void rehash(int newCapacity) {
+		long[] oldCtrl = this.ctrl;
+		long[] oldKeys = this.keys;
+		Object[] oldVals = this.vals;
+		init(newCapacity);
+
+		for (int g = 0; g < oldCtrl.length; g++) {
+			int full = Swar.fullMask(oldCtrl[g]);
+			int base = g << 3;
+			while (full != 0) {
+				int i = base + Integer.numberOfTrailingZeros(full);
+				insertFresh(oldKeys[i], oldVals[i]);
+				full &= full - 1;
+			}
+		}
+	}
+
+	/* fresh-table insertion used only during rehash */
+	private void insertFresh(long key, Object value) {
+		int h = Hashing.smearedHash(key);
+		long[] ctrl = this.ctrl;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		int step = 0;
+		for (;;) {
+			int emptyMask = Swar.eqMask(ctrl[g], Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int idx = (g << 3) + Integer.numberOfTrailingZeros(emptyMask);
+				keys[idx] = key;
+				vals[idx] = value;
+				Swar.setCtrlAt(ctrl, idx, Swar.h2(h));
+				size++;
+				return;
+			}
+			g = (g + (++step)) & mask;
+		}
+	}
+
+	private int findIndex(long key) {
+		if (size == 0) return -1;
+		int h = Hashing.smearedHash(key);
+		int h1 = Swar.h1(h);
+		long h2Broadcast = Swar.broadcast(Swar.h2(h));
+		long[] ctrl = this.ctrl; // local snapshot
+		long[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1; // Derive mask from the array we index into (ctrl) to help JIT range-check elimination.
+		int g = h1 & mask;
+		int step = 0;
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				if (keys[idx] == key) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	private void insertAt(int idx, long key, V value, byte h2) {
+		if (Swar.isDeleted(Swar.ctrlAt(ctrl, idx))) tombstones--;
+		keys[idx] = key;
+		vals[idx] = value;
+		Swar.setCtrlAt(ctrl, idx, h2);
+		size++;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V castValue(Object v) {
+		return (V) v;
+	}
+}
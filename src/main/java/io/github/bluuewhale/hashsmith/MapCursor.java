@@ -0,0 +1,55 @@
+package io.github.bluuewhale.hashsmith;
+
+/**
+ * Allocation-free traversal over the mappings of a map, as an alternative to {@code entrySet().iterator()}.
+ * <p>
+ * A cursor starts before the first mapping; each successful {@link #advance()} positions it on the next one,
+ * whose key and value are then read (or the value replaced, or the mapping removed) in place. No entry
+ * object is created per mapping. Structural modification of the map other than through {@link #remove()}
+ * makes the next {@code advance()} throw {@link java.util.ConcurrentModificationException}.
+ *
+ * <pre>{@code
+ * MapCursor<String, Integer> c = map.cursor();
+ * while (c.advance()) {
+ *     if (c.value() == 0) c.remove();
+ * }
+ * }</pre>
+ */
+public interface MapCursor<K, V> {
+
+	/**
+	 * Moves to the next mapping.
+	 *
+	 * @return {@code false} once every mapping has been visited
+	 */
+	boolean advance();
+
+	/**
+	 * Key of the current mapping.
+	 *
+	 * @throws IllegalStateException if the cursor is not positioned on a mapping
+	 */
+	K key();
+
+	/**
+	 * Value of the current mapping.
+	 *
+	 * @throws IllegalStateException if the cursor is not positioned on a mapping
+	 */
+	V value();
+
+	/**
+	 * Replaces the value of the current mapping (not a structural modification).
+	 *
+	 * @return the previous value
+	 * @throws IllegalStateException if the cursor is not positioned on a mapping
+	 */
+	V setValue(V value);
+
+	/**
+	 * Removes the current mapping. The cursor stays between mappings until the next {@link #advance()}.
+	 *
+	 * @throws IllegalStateException if the cursor is not positioned on a mapping
+	 */
+	void remove();
+}
@@ -0,0 +1,482 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * File-backed {@code long -> long} {@link SwissMap} variant stored in a memory-mapped file.
+ *
+ * <p>The file holds a small header followed by the control words, keys and values in exactly the layout
+ * the table probes, so {@link #open(Path, Mode)} maps the regions and is immediately queryable: nothing
+ * is rehashed or copied, and pages fault in lazily on first access.
+ *
+ * <p>Capacity is fixed when the file is {@link #create(Path, long) created}; inserting beyond the sizing
+ * limit throws {@link IllegalStateException} (tombstones are purged in place first). {@link Mode#READ_ONLY}
+ * maps are for serving and reject mutations with {@link UnsupportedOperationException};
+ * {@link Mode#READ_WRITE} maps are for builders, which call {@link #force()} to make the table durable.
+ * The header (size, tombstones) is only rewritten by {@link #force()} and {@link #close()}. Not thread-safe.
+ *
+ * <p>File layout (little-endian): 64-byte header, then {@code capacity / 8} ctrl words, {@code capacity}
+ * keys and {@code capacity} values.
+ */
+public final class MappedSwissMap implements AutoCloseable {
+
+	public enum Mode { READ_ONLY, READ_WRITE }
+
+	/* Defaults */
+	private static final double DEFAULT_LOAD_FACTOR = 0.875d;
+
+	/* Header layout */
+	private static final long MAGIC = 0x5353_4957_534D_5348L; // "HSMSWISS" read as little-endian
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 64;
+	private static final int OFF_MAGIC = 0;
+	private static final int OFF_VERSION = 8;
+	private static final int OFF_CAPACITY = 16;
+	private static final int OFF_SIZE = 24;
+	private static final int OFF_TOMBSTONES = 32;
+	private static final int OFF_LOAD_FACTOR = 40;
+	private static final int OFF_MISSING_VALUE = 48;
+
+	/* Storage and state */
+	private final Mode mode;
+	private final double loadFactor;
+	private final long missingValue;  // returned by get/put/remove when the key is absent
+	private final long capacity;
+	private final long maxLoad;
+	private MappedByteBuffer header;  // null once closed
+	private OffHeapLongArray ctrl;    // each long packs 8 control bytes
+	private OffHeapLongArray keys;    // key storage
+	private OffHeapLongArray vals;    // value storage
+	private long size;
+	private long tombstones;          // deleted slots
+
+	/**
+	 * Receives one (key, value) pair per mapping from {@link #forEach(EntryConsumer)}.
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer {
+		void accept(long key, long value);
+	}
+
+	private MappedSwissMap(Mode mode, MappedByteBuffer header, FileChannel ch, boolean fresh) throws IOException {
+		this.mode = mode;
+		this.header = header;
+		header.order(ByteOrder.LITTLE_ENDIAN);
+		if (header.getLong(OFF_MAGIC) != MAGIC) throw new IOException("not a MappedSwissMap file");
+		int version = header.getInt(OFF_VERSION);
+		if (version != VERSION) throw new IOException("unsupported MappedSwissMap version: " + version);
+		this.capacity = header.getLong(OFF_CAPACITY);
+		if (capacity < Swar.GROUP_SIZE || Long.bitCount(capacity) != 1) throw new IOException("corrupt MappedSwissMap capacity: " + capacity);
+		this.loadFactor = Double.longBitsToDouble(header.getLong(OFF_LOAD_FACTOR));
+		if (!fresh) {
+			try {
+				Utils.validateLoadFactor(loadFactor);
+			} catch (IllegalArgumentException e) {
+				throw new IOException("corrupt MappedSwissMap load factor: " + loadFactor, e);
+			}
+		}
+		this.missingValue = header.getLong(OFF_MISSING_VALUE);
+		this.size = header.getLong(OFF_SIZE);
+		this.tombstones = header.getLong(OFF_TOMBSTONES);
+		this.maxLoad = Utils.calcMaxLoad(capacity, loadFactor);
+
+		long nGroups = capacity / Swar.GROUP_SIZE;
+		long ctrlOffset = HEADER_BYTES;
+		long keysOffset = ctrlOffset + nGroups * Long.BYTES;
+		long valsOffset = keysOffset + capacity * Long.BYTES;
+		if (!fresh && ch.size() < valsOffset + capacity * Long.BYTES) throw new IOException("truncated MappedSwissMap file");
+
+		FileChannel.MapMode mapMode = (mode == Mode.READ_ONLY) ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+		this.ctrl = OffHeapLongArray.map(ch, mapMode, ctrlOffset, nGroups);
+		this.keys = OffHeapLongArray.map(ch, mapMode, keysOffset, capacity);
+		this.vals = OffHeapLongArray.map(ch, mapMode, valsOffset, capacity);
+		if (fresh) ctrl.fill(Swar.EMPTY_BROADCAST);
+	}
+
+	/**
+	 * Creates (or truncates) {@code path} as an empty read-write table sized for {@code expectedSize} entries.
+	 */
+	public static MappedSwissMap create(Path path, long expectedSize) throws IOException {
+		return create(path, expectedSize, DEFAULT_LOAD_FACTOR, 0L);
+	}
+
+	/**
+	 * @param missingValue value reported by {@link #get(long)}, {@link #put(long, long)} and {@link #remove(long)}
+	 *                     when the key has no mapping; persisted in the file header
+	 */
+	public static MappedSwissMap create(Path path, long expectedSize, double loadFactor, long missingValue) throws IOException {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("expectedSize must be >= 0: " + expectedSize);
+		}
+		Utils.validateLoadFactor(loadFactor);
+		// Leave room for expectedSize live entries below maxLoad.
+		long desired = (long) Math.ceil((expectedSize + 1) / loadFactor);
+		long nGroups = Utils.ceilPow2(Math.max(1, (desired + Swar.GROUP_SIZE - 1) / Swar.GROUP_SIZE));
+		long capacity = nGroups * Swar.GROUP_SIZE;
+
+		try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer header = ch.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+			header.order(ByteOrder.LITTLE_ENDIAN);
+			header.putLong(OFF_MAGIC, MAGIC);
+			header.putInt(OFF_VERSION, VERSION);
+			header.putLong(OFF_CAPACITY, capacity);
+			header.putLong(OFF_SIZE, 0L);
+			header.putLong(OFF_TOMBSTONES, 0L);
+			header.putLong(OFF_LOAD_FACTOR, Double.doubleToLongBits(loadFactor));
+			header.putLong(OFF_MISSING_VALUE, missingValue);
+			return new MappedSwissMap(Mode.READ_WRITE, header, ch, true);
+		}
+	}
+
+	/**
+	 * Maps an existing table. No entries are read or rehashed; the map is queryable immediately.
+	 */
+	public static MappedSwissMap open(Path path, Mode mode) throws IOException {
+		Objects.requireNonNull(mode, "mode");
+		var options = (mode == Mode.READ_ONLY)
+			? new StandardOpenOption[] { StandardOpenOption.READ }
+			: new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE };
+		try (FileChannel ch = FileChannel.open(path, options)) {
+			if (ch.size() < HEADER_BYTES) throw new IOException("not a MappedSwissMap file");
+			FileChannel.MapMode mapMode = (mode == Mode.READ_ONLY) ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+			return new MappedSwissMap(mode, ch.map(mapMode, 0, HEADER_BYTES), ch, false);
+		}
+	}
+
+	/* Public API */
+	public Mode mode() {
+		return mode;
+	}
+
+	public long size() {
+		ensureOpen();
+		return size;
+	}
+
+	public boolean isEmpty() {
+		ensureOpen();
+		return size == 0;
+	}
+
+	/**
+	 * Number of slots, fixed at creation time.
+	 */
+	public long capacity() {
+		return capacity;
+	}
+
+	public long missingValue() {
+		return missingValue;
+	}
+
+	public boolean containsKey(long key) {
+		return findIndex(key) >= 0;
+	}
+
+	public long get(long key) {
+		long idx = findIndex(key);
+		return (idx >= 0) ? vals.get(idx) : missingValue;
+	}
+
+	public long getOrDefault(long key, long defaultValue) {
+		long idx = findIndex(key);
+		return (idx >= 0) ? vals.get(idx) : defaultValue;
+	}
+
+	/**
+	 * @return the previous value, or {@link #missingValue()} if the key was absent
+	 * @throws IllegalStateException if the key is absent and the table is full
+	 */
+	public long put(long key, long value) {
+		long idx = findOrInsert(key);
+		if (idx < 0) {
+			vals.set(~idx, value);
+			return missingValue;
+		}
+		long old = vals.get(idx);
+		vals.set(idx, value);
+		return old;
+	}
+
+	/**
+	 * Adds {@code delta} to the value mapped to {@code key} in place, mapping the key to {@code delta}
+	 * if it was absent.
+	 *
+	 * @return the previous value, or {@link #missingValue()} if the key was absent
+	 * @throws IllegalStateException if the key is absent and the table is full
+	 */
+	public long addTo(long key, long delta) {
+		long idx = findOrInsert(key);
+		if (idx < 0) {
+			vals.set(~idx, delta);
+			return missingValue;
+		}
+		long old = vals.get(idx);
+		vals.set(idx, old + delta);
+		return old;
+	}
+
+	/**
+	 * @return the removed value, or {@link #missingValue()} if the key was absent
+	 */
+	public long remove(long key) {
+		ensureWritable();
+		long idx = findIndex(key);
+		if (idx < 0) return missingValue;
+		long old = vals.get(idx);
+		ctrl.setCtrlAt(idx, Swar.DELETED);
+		size--;
+		tombstones++;
+		return old;
+	}
+
+	public void clear() {
+		ensureWritable();
+		ctrl.fill(Swar.EMPTY_BROADCAST);
+		size = 0;
+		tombstones = 0;
+	}
+
+	/**
+	 * Visits every mapping in slot order, scanning one control word (8 slots) at a time.
+	 * The map must not be structurally modified by {@code action}.
+	 */
+	public void forEach(EntryConsumer action) {
+		Objects.requireNonNull(action, "action");
+		ensureOpen();
+		OffHeapLongArray ctrl = this.ctrl;
+		OffHeapLongArray keys = this.keys;
+		OffHeapLongArray vals = this.vals;
+		long nGroups = ctrl.length();
+		for (long g = 0; g < nGroups; g++) {
+			int full = Swar.fullMask(ctrl.get(g));
+			long base = g << 3;
+			while (full != 0) {
+				long idx = base + Integer.numberOfTrailingZeros(full);
+				action.accept(keys.get(idx), vals.get(idx));
+				full &= full - 1;
+			}
+		}
+	}
+
+	/**
+	 * Writes the header and flushes every mapped region to storage.
+	 */
+	public void force() {
+		ensureWritable();
+		writeHeader();
+		ctrl.force();
+		keys.force();
+		vals.force();
+		header.force();
+	}
+
+	/**
+	 * Writes the header (read-write mode) and drops the mappings; they are unmapped once the buffer
+	 * objects are reclaimed. Does not {@link #force()}. Idempotent; every other method throws
+	 * {@link IllegalStateException} afterwards.
+	 */
+	@Override
+	public void close() {
+		if (header == null) return;
+		if (mode == Mode.READ_WRITE) writeHeader();
+		header = null;
+		ctrl = null;
+		keys = null;
+		vals = null;
+	}
+
+	public boolean isClosed() {
+		return header == null;
+	}
+
+	@Override
+	public String toString() {
+		if (isClosed()) return "MappedSwissMap[closed]";
+		StringBuilder sb = new StringBuilder("{");
+		forEach((k, v) -> {
+			if (sb.length() > 1) sb.append(", ");
+			sb.append(k).append('=').append(v);
+		});
+		return sb.append('}').toString();
+	}
+
+	/* Internal helpers */
+	private void ensureOpen() {
+		if (header == null) throw new IllegalStateException("MappedSwissMap is closed");
+	}
+
+	private void ensureWritable() {
+		ensureOpen();
+		if (mode == Mode.READ_ONLY) throw new UnsupportedOperationException("MappedSwissMap is read-only");
+	}
+
+	private void writeHeader() {
+		header.putLong(OFF_SIZE, size);
+		header.putLong(OFF_TOMBSTONES, tombstones);
+	}
+
+	private static long h1(long hash) {
+		return hash >>> 7;
+	}
+
+	private static byte h2(long hash) {
+		return (byte) (hash & Swar.H2_MASK);
+	}
+
+	/* Capacity is fixed: reclaim tombstones in place, or fail when live entries fill the table. */
+	private void ensureInsertable() {
+		if (size >= maxLoad) {
+			throw new IllegalStateException("MappedSwissMap is full (capacity " + capacity + " fixed at create time)");
+		}
+		purgeTombstones();
+	}
+
+	/*
+	 * Same-capacity rebuild: copy live entries to scratch direct memory, reset ctrl, reinsert.
+	 * Scratch memory is proportional to the live size, not to the file, and is freed before returning.
+	 */
+	private void purgeTombstones() {
+		OffHeapLongArray liveKeys = OffHeapLongArray.allocateDirect(Math.max(1, size));
+		OffHeapLongArray liveVals = OffHeapLongArray.allocateDirect(Math.max(1, size));
+		try {
+			long n = 0;
+			long nGroups = ctrl.length();
+			for (long g = 0; g < nGroups; g++) {
+				int full = Swar.fullMask(ctrl.get(g));
+				long base = g << 3;
+				while (full != 0) {
+					long i = base + Integer.numberOfTrailingZeros(full);
+					liveKeys.set(n, keys.get(i));
+					liveVals.set(n, vals.get(i));
+					n++;
+					full &= full - 1;
+				}
+			}
+			ctrl.fill(Swar.EMPTY_BROADCAST);
+			size = 0;
+			tombstones = 0;
+			for (long i = 0; i < n; i++) insertFresh(liveKeys.get(i), liveVals.get(i));
+		} finally {
+			liveKeys.free();
+			liveVals.free();
+		}
+	}
+
+	/* insertion into a tombstone-free table, used only during tombstone purge */
+	private void insertFresh(long key, long value) {
+		long h = Hashing.mix64(key);
+		OffHeapLongArray ctrl = this.ctrl;
+		long mask = ctrl.length() - 1;
+		long g = h1(h) & mask;
+		long step = 0;
+		for (;;) {
+			long word = ctrl.get(g);
+			int emptyMask = Swar.eqMask(word, Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int lane = Integer.numberOfTrailingZeros(emptyMask);
+				long idx = (g << 3) + lane;
+				keys.set(idx, key);
+				vals.set(idx, value);
+				int shift = lane << 3;
+				ctrl.set(g, (word & ~(0xFFL << shift)) | (Swar.toUnsignedByte(h2(h)) << shift));
+				size++;
+				return;
+			}
+			g = (g + (++step)) & mask;
+		}
+	}
+
+	private long findIndex(long key) {
+		ensureOpen();
+		if (size == 0) return -1;
+		long h = Hashing.mix64(key);
+		long h2Broadcast = Swar.broadcast(h2(h));
+		OffHeapLongArray ctrl = this.ctrl; // local snapshot
+		OffHeapLongArray keys = this.keys; // local snapshot
+		long mask = ctrl.length() - 1;
+		long g = h1(h) & mask;
+		long step = 0;
+		for (;;) {
+			long word = ctrl.get(g);
+			long base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				long idx = base + Integer.numberOfTrailingZeros(eqMask);
+				if (keys.get(idx) == key) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/**
+	 * Single probe for put/addTo: returns the slot of an existing key, or {@code ~slot} of a freshly
+	 * claimed slot (key and ctrl already written, value left for the caller).
+	 */
+	private long findOrInsert(long key) {
+		ensureWritable();
+		long h = Hashing.mix64(key);
+		byte h2 = h2(h);
+		long h2Broadcast = Swar.broadcast(h2);
+		OffHeapLongArray ctrl = this.ctrl; // local snapshot
+		OffHeapLongArray keys = this.keys; // local snapshot
+		long mask = ctrl.length() - 1;
+		long g = h1(h) & mask;
+		long step = 0; // triangular probing step over groups
+		long firstTombstone = -1;
+		for (;;) {
+			long word = ctrl.get(g);
+			long base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				long idx = base + Integer.numberOfTrailingZeros(eqMask);
+				if (keys.get(idx) == key) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (firstTombstone < 0) {
+				int delMask = Swar.eqMask(word, Swar.DELETED_BROADCAST);
+				if (delMask != 0) firstTombstone = base + Integer.numberOfTrailingZeros(delMask);
+			}
+			int emptyMask = Swar.eqMask(word, Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				long target;
+				if (firstTombstone >= 0) {
+					target = firstTombstone;
+					tombstones--;
+				} else if (size + tombstones < maxLoad) {
+					target = base + Integer.numberOfTrailingZeros(emptyMask);
+				} else {
+					// Claiming an EMPTY slot would exceed the sizing limit: purge tombstones or fail.
+					ensureInsertable();
+					target = findEmptySlot(h);
+				}
+				keys.set(target, key);
+				this.ctrl.setCtrlAt(target, h2);
+				size++;
+				return ~target;
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	private long findEmptySlot(long h) {
+		OffHeapLongArray ctrl = this.ctrl;
+		long mask = ctrl.length() - 1;
+		long g = h1(h) & mask;
+		long step = 0;
+		for (;;) {
+			int emptyMask = Swar.eqMask(ctrl.get(g), Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) return (g << 3) + Integer.numberOfTrailingZeros(emptyMask);
+			g = (g + (++step)) & mask;
+		}
+	}
+}
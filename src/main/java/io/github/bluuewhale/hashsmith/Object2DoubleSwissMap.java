@@ -0,0 +1,322 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Object-keyed {@link SwissMap} variant with primitive {@code double} values.
+ *
+ * <p>Keys keep {@link SwissMap}'s {@code Object[]} storage and SWAR probe; values live in a flat
+ * {@code double[]}, so counters and aggregates are updated in place by {@link #addTo(Object, double)} and
+ * {@link #incrementAndGet(Object)} without allocating a box per update. Null keys are not supported.
+ * Lookups of absent keys return the configurable {@link #missingValue()} (default {@code 0.0}).
+ */
+public class Object2DoubleSwissMap<K> {
+
+	/* Defaults */
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+	private static final double DEFAULT_LOAD_FACTOR = 0.875d;
+
+	/* Storage and state */
+	private final double loadFactor;
+	private final double missingValue; // returned by get/put/remove when the key is absent
+	private long[] ctrl;     // each long packs 8 control bytes
+	private Object[] keys;   // key storage
+	private double[] vals;   // value storage
+	private int capacity;
+	private int size;
+	private int tombstones;  // deleted slots
+	private int maxLoad;
+
+	public Object2DoubleSwissMap() {
+		this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, 0.0d);
+	}
+
+	public Object2DoubleSwissMap(int initialCapacity) {
+		this(initialCapacity, DEFAULT_LOAD_FACTOR, 0.0d);
+	}
+
+	public Object2DoubleSwissMap(int initialCapacity, double loadFactor) {
+		this(initialCapacity, loadFactor, 0.0d);
+	}
+
+	/**
+	 * @param missingValue value reported by {@link #get(Object)}, {@link #put(Object, double)} and
+	 *                     {@link #remove(Object)} when the key has no mapping
+	 */
+	public Object2DoubleSwissMap(int initialCapacity, double loadFactor, double missingValue) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+		}
+		Utils.validateLoadFactor(loadFactor);
+		this.loadFactor = loadFactor;
+		this.missingValue = missingValue;
+		init(initialCapacity);
+	}
+
+	private void init(int desiredCapacity) {
+		int nGroups = Swar.groupsFor(desiredCapacity);
+		this.capacity = nGroups * Swar.GROUP_SIZE;
+		this.ctrl = new long[nGroups];
+		Arrays.fill(this.ctrl, Swar.EMPTY_BROADCAST);
+		this.keys = new Object[capacity];
+		this.vals = new double[capacity];
+		this.size = 0;
+		this.tombstones = 0;
+		this.maxLoad = Utils.calcMaxLoad(capacity, loadFactor);
+	}
+
+	/* Public API */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public double missingValue() {
+		return missingValue;
+	}
+
+	public boolean containsKey(Object key) {
+		return findIndex(key) >= 0;
+	}
+
+	public double get(Object key) {
+		int idx = findIndex(key);
+		return (idx >= 0) ? vals[idx] : missingValue;
+	}
+
+	public double getOrDefault(Object key, double defaultValue) {
+		int idx = findIndex(key);
+		return (idx >= 0) ? vals[idx] : defaultValue;
+	}
+
+	/**
+	 * @return the previous value, or {@link #missingValue()} if the key was absent
+	 */
+	public double put(K key, double value) {
+		int idx = findOrInsert(key);
+		if (idx < 0) {
+			vals[~idx] = value;
+			return missingValue;
+		}
+		double old = vals[idx];
+		vals[idx] = value;
+		return old;
+	}
+
+	/**
+	 * Adds {@code delta} to the value mapped to {@code key} in place, mapping the key to {@code delta}
+	 * if it was absent (counter semantics: an absent key counts as {@code 0}, not as {@link #missingValue()}).
+	 *
+	 * @return the previous value, or {@link #missingValue()} if the key was absent
+	 */
+	public double addTo(K key, double delta) {
+		int idx = findOrInsert(key);
+		if (idx < 0) {
+			vals[~idx] = delta;
+			return missingValue;
+		}
+		double old = vals[idx];
+		vals[idx] = old + delta;
+		return old;
+	}
+
+	/**
+	 * Increments the value mapped to {@code key} (an absent key counts as {@code 0}).
+	 *
+	 * @return the updated value
+	 */
+	public double incrementAndGet(K key) {
+		int idx = findOrInsert(key);
+		if (idx < 0) {
+			return vals[~idx] = 1;
+		}
+		return ++vals[idx];
+	}
+
+	/**
+	 * @return the removed value, or {@link #missingValue()} if the key was absent
+	 */
+	public double remove(Object key) {
+		int idx = findIndex(key);
+		if (idx < 0) return missingValue;
+		double old = vals[idx];
+		Swar.setCtrlAt(ctrl, idx, Swar.DELETED);
+		keys[idx] = null;
+		size--;
+		tombstones++;
+		maybeRehash();
+		return old;
+	}
+
+	public void clear() {
+		Arrays.fill(ctrl, Swar.EMPTY_BROADCAST);
+		Arrays.fill(keys, null);
+		size = 0;
+		tombstones = 0;
+		maxLoad = Utils.calcMaxLoad(capacity, loadFactor);
+	}
+
+	/**
+	 * Visits every mapping in slot order, scanning one control word (8 slots) at a time.
+	 * The map must not be structurally modified by {@code action}.
+	 */
+	public void forEach(ObjDoubleConsumer<? super K> action) {
+		Objects.requireNonNull(action, "action");
+		long[] ctrl = this.ctrl;
+		Object[] keys = this.keys;
+		double[] vals = this.vals;
+		for (int g = 0; g < ctrl.length; g++) {
+			int full = Swar.fullMask(ctrl[g]);
+			int base = g << 3;
+			while (full != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(full);
+				action.accept(castKey(keys[idx]), vals[idx]);
+				full &= full - 1;
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+		forEach((k, v) -> {
+			if (sb.length() > 1) sb.append(", ");
+			sb.append(k == this ? "(this Map)" : k).append('=').append(v);
+		});
+		return sb.append('}').toString();
+	}
+
+	/* Resize/rehash */
+	private void maybeRehash() {
+		boolean overMaxLoad = (size + tombstones) >= maxLoad;
+		boolean tooManyTombstones = tombstones > (size >>> 1);
+		if (!overMaxLoad && !tooManyTombstones) return;
+
+		// Only grow when over the max load threshold; tombstone cleanup keeps the capacity.
+		int newCap = overMaxLoad ? Math.max(capacity * 2, Swar.GROUP_SIZE) : capacity;
+		rehash(newCap);
+	}
+
+	private void rehash(int newCapacity) {
+		long[] oldCtrl = this.ctrl;
+		Object[] oldKeys = this.keys;
+		double[] oldVals = this.vals;
+		init(newCapacity);
+
+		for (int g = 0; g < oldCtrl.length; g++) {
+			int full = Swar.fullMask(oldCtrl[g]);
+			int base = g << 3;
+			while (full != 0) {
+				int i = base + Integer.numberOfTrailingZeros(full);
+				insertFresh(oldKeys[i], oldVals[i]);
+				full &= full - 1;
+			}
+		}
+	}
+
+	/* fresh-table insertion used only during rehash */
+	private void insertFresh(Object key, double value) {
+		int h = Hashing.smearedHash(key);
+		long[] ctrl = this.ctrl;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		int step = 0;
+		for (;;) {
+			int emptyMask = Swar.eqMask(ctrl[g], Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int idx = (g << 3) + Integer.numberOfTrailingZeros(emptyMask);
+				keys[idx] = key;
+				vals[idx] = value;
+				Swar.setCtrlAt(ctrl, idx, Swar.h2(h));
+				size++;
+				return;
+			}
+			g = (g + (++step)) & mask;
+		}
+	}
+
+	private static int hashNonNull(Object key) {
+		if (key == null) throw new NullPointerException("Null keys not supported");
+		return Hashing.smearedHash(key);
+	}
+
+	private int findIndex(Object key) {
+		// Disallow null keys even on empty maps for consistent semantics with SwissMap.
+		int h = hashNonNull(key);
+		if (size == 0) return -1;
+		int h1 = Swar.h1(h);
+		long h2Broadcast = Swar.broadcast(Swar.h2(h));
+		long[] ctrl = this.ctrl; // local snapshot
+		Object[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1; // Derive mask from the array we index into (ctrl) to help JIT range-check elimination.
+		int g = h1 & mask;
+		int step = 0;
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || k.equals(key)) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/**
+	 * Single probe for put/addTo/incrementAndGet: returns the slot of an existing key, or {@code ~slot}
+	 * of a freshly claimed slot (key and ctrl already written, value left for the caller).
+	 */
+	private int findOrInsert(K key) {
+		int h = hashNonNull(key);
+		maybeRehash();
+		int h1 = Swar.h1(h);
+		byte h2 = Swar.h2(h);
+		long h2Broadcast = Swar.broadcast(h2);
+		long[] ctrl = this.ctrl; // local snapshot
+		Object[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1;
+		int g = h1 & mask;
+		int step = 0; // triangular probing step over groups
+		int firstTombstone = -1;
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || k.equals(key)) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (firstTombstone < 0) {
+				int delMask = Swar.eqMask(word, Swar.DELETED_BROADCAST);
+				if (delMask != 0) firstTombstone = base + Integer.numberOfTrailingZeros(delMask);
+			}
+			int emptyMask = Swar.eqMask(word, Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(emptyMask);
+				int target = (firstTombstone >= 0) ? firstTombstone : idx;
+				if (Swar.isDeleted(Swar.ctrlAt(ctrl, target))) tombstones--;
+				keys[target] = key;
+				Swar.setCtrlAt(ctrl, target, h2);
+				size++;
+				return ~target;
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private K castKey(Object k) {
+		return (K) k;
+	}
+}
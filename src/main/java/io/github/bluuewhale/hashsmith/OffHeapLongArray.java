@@ -0,0 +1,154 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@code long} array stored outside the Java heap, split into {@link ByteBuffer} chunks.
+ *
+ * <p>Each chunk holds up to {@link #CHUNK_LONGS} elements (1 GiB), so the array is indexed by {@code long}
+ * and can grow past the 2^31-element limit of Java arrays. The GC only sees the small buffer objects,
+ * never the contents. Elements are little-endian regardless of platform so that file-backed tables
+ * ({@link MappedSwissMap}) are portable; on x86/ARM this is the native order.
+ */
+final class OffHeapLongArray {
+
+	static final int CHUNK_SHIFT = 27;
+	static final int CHUNK_LONGS = 1 << CHUNK_SHIFT;
+	private static final long CHUNK_MASK = CHUNK_LONGS - 1;
+
+	/* sun.misc.Unsafe#invokeCleaner bound to the Unsafe instance, or null when jdk.unsupported is unavailable. */
+	private static final MethodHandle INVOKE_CLEANER = lookupInvokeCleaner();
+
+	private final ByteBuffer[] chunks;
+	private final long length;
+
+	/**
+	 * Wraps existing buffers (e.g. slices of a mapped file). Every chunk but the last must hold exactly
+	 * {@link #CHUNK_LONGS} elements; buffers are switched to little-endian order.
+	 */
+	OffHeapLongArray(ByteBuffer[] chunks, long length) {
+		if (length < 0 || chunksFor(length) != chunks.length) {
+			throw new IllegalArgumentException("chunk count does not match length: " + length);
+		}
+		for (ByteBuffer b : chunks) b.order(ByteOrder.LITTLE_ENDIAN);
+		this.chunks = chunks;
+		this.length = length;
+	}
+
+	/**
+	 * Allocates a zeroed array backed by direct buffers.
+	 */
+	static OffHeapLongArray allocateDirect(long length) {
+		int n = chunksFor(length);
+		ByteBuffer[] chunks = new ByteBuffer[n];
+		for (int i = 0; i < n; i++) {
+			chunks[i] = ByteBuffer.allocateDirect(chunkBytes(length, i));
+		}
+		return new OffHeapLongArray(chunks, length);
+	}
+
+	/**
+	 * Maps {@code length} longs of {@code channel} starting at byte {@code offset}, one mapping per chunk.
+	 * In {@link FileChannel.MapMode#READ_WRITE} mode the file is extended as needed.
+	 */
+	static OffHeapLongArray map(FileChannel channel, FileChannel.MapMode mode, long offset, long length) throws IOException {
+		int n = chunksFor(length);
+		ByteBuffer[] chunks = new ByteBuffer[n];
+		for (int i = 0; i < n; i++) {
+			chunks[i] = channel.map(mode, offset + ((long) i << (CHUNK_SHIFT + 3)), chunkBytes(length, i));
+		}
+		return new OffHeapLongArray(chunks, length);
+	}
+
+	/**
+	 * Releases the native memory of buffers from {@link #allocateDirect} now rather than when the GC reclaims
+	 * them. Without {@code sun.misc.Unsafe} (module {@code jdk.unsupported}) release stays GC-driven. Chunks are
+	 * dropped either way, so a later access fails with {@link NullPointerException} instead of touching freed
+	 * memory. Must not be used on mapped arrays.
+	 */
+	void free() {
+		for (int i = 0; i < chunks.length; i++) {
+			ByteBuffer b = chunks[i];
+			if (b == null) continue;
+			chunks[i] = null;
+			if (INVOKE_CLEANER == null) continue;
+			try {
+				INVOKE_CLEANER.invokeExact(b);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new IllegalStateException(t);
+			}
+		}
+	}
+
+	private static MethodHandle lookupInvokeCleaner() {
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			MethodType type = MethodType.methodType(void.class, ByteBuffer.class);
+			return MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner", type).bindTo(theUnsafe.get(null));
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	static int chunksFor(long length) {
+		return (int) ((length + CHUNK_LONGS - 1) >>> CHUNK_SHIFT);
+	}
+
+	/* Byte size of chunk {@code i} for an array of {@code length} elements. */
+	static int chunkBytes(long length, int i) {
+		long remaining = length - ((long) i << CHUNK_SHIFT);
+		return (int) Math.min(remaining, CHUNK_LONGS) << 3;
+	}
+
+	long length() {
+		return length;
+	}
+
+	long get(long i) {
+		return chunks[(int) (i >>> CHUNK_SHIFT)].getLong((int) (i & CHUNK_MASK) << 3);
+	}
+
+	void set(long i, long v) {
+		chunks[(int) (i >>> CHUNK_SHIFT)].putLong((int) (i & CHUNK_MASK) << 3, v);
+	}
+
+	void fill(long v) {
+		for (ByteBuffer b : chunks) {
+			int limit = b.capacity();
+			for (int off = 0; off < limit; off += Long.BYTES) b.putLong(off, v);
+		}
+	}
+
+	/**
+	 * Flushes chunks that are mapped file regions to storage; no-op for direct buffers.
+	 */
+	void force() {
+		for (ByteBuffer b : chunks) {
+			if (b instanceof MappedByteBuffer mapped) mapped.force();
+		}
+	}
+
+	/* Control-byte accessors for arrays holding packed ctrl words (8 bytes per long, lane order as in SwissMap). */
+	byte ctrlAt(long idx) {
+		return (byte) (get(idx >>> 3) >>> ((idx & 7) << 3));
+	}
+
+	void setCtrlAt(long idx, byte value) {
+		long group = idx >>> 3;
+		int offset = (int) (idx & 7) << 3;
+		long mask = 0xFFL << offset;
+		set(group, (get(group) & ~mask) | (Swar.toUnsignedByte(value) << offset));
+	}
+}
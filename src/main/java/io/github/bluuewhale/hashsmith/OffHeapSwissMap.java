@@ -0,0 +1,358 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Objects;
+
+/**
+ * Off-heap {@code long -> long} {@link SwissMap} variant.
+ *
+ * <p>Control words, keys and values live in direct memory ({@link OffHeapLongArray}) with the same 8-slot
+ * group layout and SWAR matching as {@link SwissMap}, so the GC never traces the table and capacity is
+ * indexed by {@code long} rather than bounded by Java array length. Groups are selected with a 64-bit hash
+ * so very large tables still spread keys across every group.
+ *
+ * <p>The map must be {@link #close() closed} when no longer needed; any use afterwards throws
+ * {@link IllegalStateException}. Closing, and every resize for the table it replaces, frees the native
+ * memory immediately through {@code sun.misc.Unsafe#invokeCleaner} (module {@code jdk.unsupported}); only
+ * where that is unavailable does the release wait for the GC to reclaim the buffers. Direct memory counts
+ * against {@code -XX:MaxDirectMemorySize} (by default the maximum heap size), which must cover the table
+ * plus, during a resize, its replacement. Not thread-safe.
+ *
+ * <p>Lookups of absent keys return the configurable {@link #missingValue()} (default {@code 0}), as in
+ * {@link LongLongSwissMap}.
+ */
+public class OffHeapSwissMap implements AutoCloseable {
+
+	/* Defaults */
+	private static final long DEFAULT_INITIAL_CAPACITY = 16;
+	private static final double DEFAULT_LOAD_FACTOR = 0.875d;
+
+	/* Storage and state */
+	private final double loadFactor;
+	private final long missingValue;  // returned by get/put/remove when the key is absent
+	private OffHeapLongArray ctrl;    // each long packs 8 control bytes; null once closed
+	private OffHeapLongArray keys;    // key storage
+	private OffHeapLongArray vals;    // value storage
+	private long capacity;
+	private long size;
+	private long tombstones;          // deleted slots
+	private long maxLoad;
+
+	/**
+	 * Receives one (key, value) pair per mapping from {@link #forEach(EntryConsumer)}.
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer {
+		void accept(long key, long value);
+	}
+
+	public OffHeapSwissMap() {
+		this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, 0L);
+	}
+
+	public OffHeapSwissMap(long initialCapacity) {
+		this(initialCapacity, DEFAULT_LOAD_FACTOR, 0L);
+	}
+
+	public OffHeapSwissMap(long initialCapacity, double loadFactor) {
+		this(initialCapacity, loadFactor, 0L);
+	}
+
+	/**
+	 * @param missingValue value reported by {@link #get(long)}, {@link #put(long, long)} and {@link #remove(long)}
+	 *                     when the key has no mapping
+	 */
+	public OffHeapSwissMap(long initialCapacity, double loadFactor, long missingValue) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+		}
+		Utils.validateLoadFactor(loadFactor);
+		this.loadFactor = loadFactor;
+		this.missingValue = missingValue;
+		init(initialCapacity);
+	}
+
+	private void init(long desiredCapacity) {
+		long nGroups = Utils.ceilPow2(Math.max(1, (Math.max(desiredCapacity, Swar.GROUP_SIZE) + Swar.GROUP_SIZE - 1) / Swar.GROUP_SIZE));
+		this.capacity = nGroups * Swar.GROUP_SIZE;
+		this.ctrl = OffHeapLongArray.allocateDirect(nGroups);
+		this.ctrl.fill(Swar.EMPTY_BROADCAST);
+		this.keys = OffHeapLongArray.allocateDirect(capacity);
+		this.vals = OffHeapLongArray.allocateDirect(capacity);
+		this.size = 0;
+		this.tombstones = 0;
+		this.maxLoad = Utils.calcMaxLoad(capacity, loadFactor);
+	}
+
+	/* Public API */
+	public long size() {
+		ensureOpen();
+		return size;
+	}
+
+	public boolean isEmpty() {
+		ensureOpen();
+		return size == 0;
+	}
+
+	public long missingValue() {
+		return missingValue;
+	}
+
+	public boolean containsKey(long key) {
+		return findIndex(key) >= 0;
+	}
+
+	public long get(long key) {
+		long idx = findIndex(key);
+		return (idx >= 0) ? vals.get(idx) : missingValue;
+	}
+
+	public long getOrDefault(long key, long defaultValue) {
+		long idx = findIndex(key);
+		return (idx >= 0) ? vals.get(idx) : defaultValue;
+	}
+
+	/**
+	 * @return the previous value, or {@link #missingValue()} if the key was absent
+	 */
+	public long put(long key, long value) {
+		long idx = findOrInsert(key);
+		if (idx < 0) {
+			vals.set(~idx, value);
+			return missingValue;
+		}
+		long old = vals.get(idx);
+		vals.set(idx, value);
+		return old;
+	}
+
+	/**
+	 * Adds {@code delta} to the value mapped to {@code key} in place, mapping the key to {@code delta}
+	 * if it was absent.
+	 *
+	 * @return the previous value, or {@link #missingValue()} if the key was absent
+	 */
+	public long addTo(long key, long delta) {
+		long idx = findOrInsert(key);
+		if (idx < 0) {
+			vals.set(~idx, delta);
+			return missingValue;
+		}
+		long old = vals.get(idx);
+		vals.set(idx, old + delta);
+		return old;
+	}
+
+	/**
+	 * @return the removed value, or {@link #missingValue()} if the key was absent
+	 */
+	public long remove(long key) {
+		long idx = findIndex(key);
+		if (idx < 0) return missingValue;
+		long old = vals.get(idx);
+		ctrl.setCtrlAt(idx, Swar.DELETED);
+		size--;
+		tombstones++;
+		maybeRehash();
+		return old;
+	}
+
+	public void clear() {
+		ensureOpen();
+		ctrl.fill(Swar.EMPTY_BROADCAST);
+		size = 0;
+		tombstones = 0;
+		maxLoad = Utils.calcMaxLoad(capacity, loadFactor);
+	}
+
+	/**
+	 * Visits every mapping in slot order, scanning one control word (8 slots) at a time.
+	 * The map must not be structurally modified by {@code action}.
+	 */
+	public void forEach(EntryConsumer action) {
+		Objects.requireNonNull(action, "action");
+		ensureOpen();
+		OffHeapLongArray ctrl = this.ctrl;
+		OffHeapLongArray keys = this.keys;
+		OffHeapLongArray vals = this.vals;
+		long nGroups = ctrl.length();
+		for (long g = 0; g < nGroups; g++) {
+			int full = Swar.fullMask(ctrl.get(g));
+			long base = g << 3;
+			while (full != 0) {
+				long idx = base + Integer.numberOfTrailingZeros(full);
+				action.accept(keys.get(idx), vals.get(idx));
+				full &= full - 1;
+			}
+		}
+	}
+
+	/**
+	 * Frees the off-heap table. Idempotent; every other method throws {@link IllegalStateException} afterwards.
+	 */
+	@Override
+	public void close() {
+		if (ctrl == null) return;
+		ctrl.free();
+		keys.free();
+		vals.free();
+		ctrl = null;
+		keys = null;
+		vals = null;
+		capacity = 0;
+		size = 0;
+		tombstones = 0;
+		maxLoad = 0;
+	}
+
+	public boolean isClosed() {
+		return ctrl == null;
+	}
+
+	@Override
+	public String toString() {
+		if (isClosed()) return "OffHeapSwissMap[closed]";
+		StringBuilder sb = new StringBuilder("{");
+		forEach((k, v) -> {
+			if (sb.length() > 1) sb.append(", ");
+			sb.append(k).append('=').append(v);
+		});
+		return sb.append('}').toString();
+	}
+
+	/* Internal helpers */
+	private void ensureOpen() {
+		if (ctrl == null) throw new IllegalStateException("OffHeapSwissMap is closed");
+	}
+
+	private static long h1(long hash) {
+		return hash >>> 7;
+	}
+
+	private static byte h2(long hash) {
+		return (byte) (hash & Swar.H2_MASK);
+	}
+
+	/* Resize/rehash */
+	private void maybeRehash() {
+		boolean overMaxLoad = (size + tombstones) >= maxLoad;
+		boolean tooManyTombstones = tombstones > (size >>> 1);
+		if (!overMaxLoad && !tooManyTombstones) return;
+
+		// Only grow when over the max load threshold; tombstone cleanup keeps the capacity.
+		long newCap = overMaxLoad ? Math.max(capacity * 2, Swar.GROUP_SIZE) : capacity;
+		rehash(newCap);
+	}
+
+	private void rehash(long newCapacity) {
+		OffHeapLongArray oldCtrl = this.ctrl;
+		OffHeapLongArray oldKeys = this.keys;
+		OffHeapLongArray oldVals = this.vals;
+		init(newCapacity);
+
+		long nGroups = oldCtrl.length();
+		for (long g = 0; g < nGroups; g++) {
+			int full = Swar.fullMask(oldCtrl.get(g));
+			long base = g << 3;
+			while (full != 0) {
+				long i = base + Integer.numberOfTrailingZeros(full);
+				insertFresh(oldKeys.get(i), oldVals.get(i));
+				full &= full - 1;
+			}
+		}
+		oldCtrl.free();
+		oldKeys.free();
+		oldVals.free();
+	}
+
+	/* fresh-table insertion used only during rehash */
+	private void insertFresh(long key, long value) {
+		long h = Hashing.mix64(key);
+		OffHeapLongArray ctrl = this.ctrl;
+		long mask = ctrl.length() - 1;
+		long g = h1(h) & mask;
+		long step = 0;
+		for (;;) {
+			long word = ctrl.get(g);
+			int emptyMask = Swar.eqMask(word, Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int lane = Integer.numberOfTrailingZeros(emptyMask);
+				long idx = (g << 3) + lane;
+				keys.set(idx, key);
+				vals.set(idx, value);
+				int shift = lane << 3;
+				ctrl.set(g, (word & ~(0xFFL << shift)) | (Swar.toUnsignedByte(h2(h)) << shift));
+				size++;
+				return;
+			}
+			g = (g + (++step)) & mask;
+		}
+	}
+
+	private long findIndex(long key) {
+		ensureOpen();
+		if (size == 0) return -1;
+		long h = Hashing.mix64(key);
+		long h2Broadcast = Swar.broadcast(h2(h));
+		OffHeapLongArray ctrl = this.ctrl; // local snapshot
+		OffHeapLongArray keys = this.keys; // local snapshot
+		long mask = ctrl.length() - 1;
+		long g = h1(h) & mask;
+		long step = 0;
+		for (;;) {
+			long word = ctrl.get(g);
+			long base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				long idx = base + Integer.numberOfTrailingZeros(eqMask);
+				if (keys.get(idx) == key) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/**
+	 * Single probe for put/addTo: returns the slot of an existing key, or {@code ~slot} of a freshly
+	 * claimed slot (key and ctrl already written, value left for the caller).
+	 */
+	private long findOrInsert(long key) {
+		ensureOpen();
+		maybeRehash();
+		long h = Hashing.mix64(key);
+		byte h2 = h2(h);
+		long h2Broadcast = Swar.broadcast(h2);
+		OffHeapLongArray ctrl = this.ctrl; // local snapshot
+		OffHeapLongArray keys = this.keys; // local snapshot
+		long mask = ctrl.length() - 1;
+		long g = h1(h) & mask;
+		long step = 0; // triangular probing step over groups
+		long firstTombstone = -1;
+		for (;;) {
+			long word = ctrl.get(g);
+			long base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				long idx = base + Integer.numberOfTrailingZeros(eqMask);
+				if (keys.get(idx) == key) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (firstTombstone < 0) {
+				int delMask = Swar.eqMask(word, Swar.DELETED_BROADCAST);
+				if (delMask != 0) firstTombstone = base + Integer.numberOfTrailingZeros(delMask);
+			}
+			int emptyMask = Swar.eqMask(word, Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				long idx = base + Integer.numberOfTrailingZeros(emptyMask);
+				long target = (firstTombstone >= 0) ? firstTombstone : idx;
+				if (Swar.isDeleted(ctrl.ctrlAt(target))) tombstones--;
+				keys.set(target, key);
+				ctrl.setCtrlAt(target, h2);
+				size++;
+				return ~target;
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+}
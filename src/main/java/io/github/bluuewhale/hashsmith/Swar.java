@@ -0,0 +1,94 @@
+package io.github.bluuewhale.hashsmith;
+
+/**
+ * SWAR (SIMD-within-a-register) control-word helpers shared by the 8-slot SwissTable variants.
+ * Uses the same control-byte encoding and match trick as {@link SwissMap}: 8 control bytes are
+ * packed into one {@code long} and compared lane-wise without the Vector API.
+ */
+final class Swar {
+	private Swar() {}
+
+	/* Control byte values */
+	static final byte EMPTY = (byte) 0x80;    // empty slot
+	static final byte DELETED = (byte) 0xFE;  // tombstone
+
+	/* Hash split masks: high bits choose group, low 7 bits stored in control byte */
+	static final int H2_MASK = 0x0000007F;
+
+	/* Group sizing: fixed at 8 slots (1 word) */
+	static final int GROUP_SIZE = 8;
+
+	/* SWAR constants */
+	static final long BITMASK_LSB = 0x0101010101010101L;
+	static final long BITMASK_MSB = 0x8080808080808080L;
+	static final long EMPTY_BROADCAST = broadcast(EMPTY);
+	static final long DELETED_BROADCAST = broadcast(DELETED);
+
+	/* Hash split helpers */
+	static int h1(int hash) {
+		return hash >>> 7;
+	}
+
+	static byte h2(int hash) {
+		return (byte) (hash & H2_MASK);
+	}
+
+	/* Control byte inspectors */
+	static boolean isDeleted(byte c) { return c == DELETED; }
+	static boolean isFull(byte c) { return c >= 0; } // H2 in [0,127]
+
+	static long toUnsignedByte(byte b) {
+		// Unsigned widening to avoid sign extension on negative bytes
+		return b & 0xFFL;
+	}
+
+	static long broadcast(byte b) {
+		// Broadcast a single byte to all 8 byte lanes
+		return toUnsignedByte(b) * BITMASK_LSB;
+	}
+
+	/**
+	 * Compare bytes in word against a broadcasted byte; return packed 8-bit mask of matches.
+	 * {@code broadcastedByte} must equal {@code broadcast(b)} so callers can hoist it out of hot loops.
+	 * see: https://stackoverflow.com/questions/68695913/how-to-write-a-swar-comparison-which-puts-0xff-in-a-lane-on-matches/68701617#68701617
+	 */
+	static int eqMask(long word, long broadcastedByte) {
+		long x = word ^ broadcastedByte;
+		long m = (((x >>> 1) | BITMASK_MSB) - x) & BITMASK_MSB;
+		return packMsb(m);
+	}
+
+	/**
+	 * Packed 8-bit mask of FULL lanes (control bytes with the MSB cleared).
+	 */
+	static int fullMask(long word) {
+		return packMsb(~word & BITMASK_MSB);
+	}
+
+	/* Gather the MSB of each byte lane into the low 8 bits. */
+	private static int packMsb(long m) {
+		return (int) ((m * 0x0204_0810_2040_81L) >>> 56);
+	}
+
+	static byte ctrlAt(long[] ctrl, int idx) {
+		int group = idx >> 3;
+		int offset = (idx & 7) << 3;
+		return (byte) (ctrl[group] >>> offset);
+	}
+
+	static void setCtrlAt(long[] ctrl, int idx, byte value) {
+		int group = idx >> 3;
+		int offset = (idx & 7) << 3;
+		long word = ctrl[group];
+		long mask = 0xFFL << offset;
+		ctrl[group] = (word & ~mask) | (toUnsignedByte(value) << offset);
+	}
+
+	/**
+	 * Number of groups (power of two, at least 1) needed to hold {@code desiredCapacity} slots.
+	 */
+	static int groupsFor(int desiredCapacity) {
+		int nGroups = Math.max(1, (Math.max(desiredCapacity, GROUP_SIZE) + GROUP_SIZE - 1) / GROUP_SIZE);
+		return Utils.ceilPow2(nGroups);
+	}
+}
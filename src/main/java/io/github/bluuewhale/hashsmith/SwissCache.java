@@ -0,0 +1,367 @@
+package io.github.bluuewhale.hashsmith;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Fixed-capacity cache on a {@link SwissMap}-style table with CLOCK eviction.
+ *
+ * <p>The table is sized once for {@code maxEntries} and never resizes. Each slot has a reference bit in a
+ * parallel {@code byte[]}: a hit sets it, and new entries start with it cleared. When a new key arrives at a
+ * full cache, the CLOCK hand sweeps the control words (one 8-slot word at a time, FULL lanes only), clearing
+ * set bits and evicting the first entry whose bit is already clear. Entries that are hit again survive one more
+ * sweep; one-hit wonders are evicted first.
+ *
+ * <p>Hits only read the table and set a byte, so they allocate nothing. Hit, miss and eviction counts are
+ * kept for {@link #get} and {@link #computeIfAbsent}.
+ *
+ * <p>Null keys and values are not supported. Not thread-safe; see {@link ConcurrentSwissCache} for a sharded,
+ * thread-safe variant.
+ */
+public class SwissCache<K, V> {
+
+	/* Entries fill at most 3/4 of the slots, leaving headroom for tombstones before an in-place purge */
+	private static final double ENTRY_LOAD = 0.75d;
+	private static final double LOAD_FACTOR = 0.875d;
+
+	private final int maxEntries;
+	private final int maxLoad;      // size + tombstones bound; above it tombstones are purged in place
+	private final long[] ctrl;      // each long packs 8 control bytes (EMPTY/DELETED/H2 fingerprint)
+	private final Object[] keys;
+	private final Object[] vals;
+	private final byte[] referenced; // CLOCK reference bit per slot
+	private int size;
+	private int tombstones;
+	private final int handStride;   // odd group stride of the CLOCK hand (a full cycle over the groups)
+	private int hand;               // CLOCK hand: next slot to inspect
+
+	/* Statistics */
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	public SwissCache(int maxEntries) {
+		if (maxEntries < 1) throw new IllegalArgumentException("maxEntries must be >= 1: " + maxEntries);
+		int nGroups = Swar.groupsFor((int) Math.min(1 << 30, (long) Math.ceil(maxEntries / ENTRY_LOAD) + 1));
+		int capacity = nGroups * Swar.GROUP_SIZE;
+		this.maxEntries = maxEntries;
+		this.maxLoad = Utils.calcMaxLoad(capacity, LOAD_FACTOR);
+		this.ctrl = new long[nGroups];
+		Arrays.fill(this.ctrl, Swar.EMPTY_BROADCAST);
+		this.keys = new Object[capacity];
+		this.vals = new Object[capacity];
+		this.referenced = new byte[capacity];
+		this.handStride = (int) (nGroups * 0.6180339887d) | 1; // golden-ratio stride scatters consecutive visits
+	}
+
+	/**
+	 * Returns the cached value for {@code key} (marking it recently used), or {@code null} on a miss.
+	 */
+	public V get(Object key) {
+		int idx = findIndex(key, hash(key));
+		if (idx < 0) {
+			misses++;
+			return null;
+		}
+		hits++;
+		touch(idx);
+		return castValue(vals[idx]);
+	}
+
+	/**
+	 * Like {@link #get}, but on a miss loads the value with {@code loader} and caches it (evicting if full).
+	 * A {@code null} result is returned and not cached. {@code loader} must not modify this cache.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+		int h = hash(key);
+		int idx = findIndex(key, h);
+		if (idx >= 0) {
+			hits++;
+			touch(idx);
+			return castValue(vals[idx]);
+		}
+		misses++;
+		V value = loader.apply(key);
+		if (value != null) insert(key, value, h);
+		return value;
+	}
+
+	/**
+	 * Whether {@code key} is cached. Does not count as an access or touch the statistics.
+	 */
+	public boolean containsKey(Object key) {
+		return findIndex(key, hash(key)) >= 0;
+	}
+
+	/**
+	 * Caches {@code value} under {@code key}, evicting an entry if the cache is full and the key is new.
+	 *
+	 * @return the previous value, or {@code null}
+	 */
+	public V put(K key, V value) {
+		Objects.requireNonNull(value, "value");
+		return put(key, value, hash(key));
+	}
+
+	V put(K key, V value, int h) {
+		int idx = findIndex(key, h);
+		if (idx >= 0) {
+			V old = castValue(vals[idx]);
+			vals[idx] = value;
+			touch(idx);
+			return old;
+		}
+		insert(key, value, h);
+		return null;
+	}
+
+	public V remove(Object key) {
+		return remove(key, hash(key));
+	}
+
+	V remove(Object key, int h) {
+		int idx = findIndex(key, h);
+		if (idx < 0) return null;
+		V old = castValue(vals[idx]);
+		deleteAt(idx);
+		return old;
+	}
+
+	/**
+	 * Drops every entry; statistics are kept.
+	 */
+	public void clear() {
+		Arrays.fill(ctrl, Swar.EMPTY_BROADCAST);
+		Arrays.fill(keys, null);
+		Arrays.fill(vals, null);
+		Arrays.fill(referenced, (byte) 0);
+		size = 0;
+		tombstones = 0;
+		hand = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int maxEntries() {
+		return maxEntries;
+	}
+
+	public long hitCount() {
+		return hits;
+	}
+
+	public long missCount() {
+		return misses;
+	}
+
+	public long evictionCount() {
+		return evictions;
+	}
+
+	/**
+	 * {@code hits / (hits + misses)}, or {@code 0} before the first lookup.
+	 */
+	public double hitRate() {
+		long total = hits + misses;
+		return (total == 0) ? 0d : (double) hits / total;
+	}
+
+	@Override
+	public String toString() {
+		return "SwissCache[size=" + size + ", maxEntries=" + maxEntries + ", hits=" + hits
+			+ ", misses=" + misses + ", evictions=" + evictions + "]";
+	}
+
+	/* Internals */
+	private static int hash(Object key) {
+		if (key == null) throw new NullPointerException("Null keys not supported");
+		return Hashing.smearedHash(key);
+	}
+
+	/*
+	 * Sets the reference bit. A plain byte store: racing touches and CLOCK sweeps may lose an update, which only
+	 * costs an entry its second chance.
+	 */
+	void touch(int idx) {
+		if (referenced[idx] == 0) referenced[idx] = 1; // skip the store (and the dirty line) when already set
+	}
+
+	V valueAt(int idx) {
+		return castValue(vals[idx]);
+	}
+
+	int findIndex(Object key, int h) {
+		long h2Broadcast = Swar.broadcast(Swar.h2(h));
+		long[] ctrl = this.ctrl;
+		Object[] keys = this.keys;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		int step = 0; // triangular probing step over groups
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || key.equals(k)) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/*
+	 * findIndex for optimistic readers racing a writer (see ConcurrentSwissCache): tolerates keys cleared under
+	 * it and gives up after one pass over the groups, since a concurrent purge moves entries and EMPTY lanes.
+	 * The result is only meaningful once the caller's stamp validates.
+	 */
+	int findIndexConcurrent(Object key, int h) {
+		long h2Broadcast = Swar.broadcast(Swar.h2(h));
+		long[] ctrl = this.ctrl;
+		Object[] keys = this.keys;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		for (int step = 0; step <= mask; ) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || (k != null && key.equals(k))) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+		return -1;
+	}
+
+	/* First EMPTY or DELETED slot on the probe sequence of {@code h}. */
+	private int findFirstNonFull(int h) {
+		long[] ctrl = this.ctrl;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
+		int step = 0;
+		for (;;) {
+			int free = ~Swar.fullMask(ctrl[g]) & 0xFF;
+			if (free != 0) return (g << 3) + Integer.numberOfTrailingZeros(free);
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
+	/* Inserts a key known to be absent, evicting first when full. */
+	void insert(Object key, Object value, int h) {
+		if (size >= maxEntries) evictOne();
+		if (size + tombstones >= maxLoad) dropDeletesInPlace();
+		int idx = findFirstNonFull(h);
+		if (Swar.isDeleted(Swar.ctrlAt(ctrl, idx))) tombstones--;
+		keys[idx] = key;
+		vals[idx] = value;
+		referenced[idx] = 0;
+		Swar.setCtrlAt(ctrl, idx, Swar.h2(h));
+		size++;
+	}
+
+	/*
+	 * CLOCK: sweep FULL lanes from the hand, giving referenced entries a second chance. The hand visits groups in
+	 * odd-stride order rather than sequentially: a sequential hand leaves the groups just ahead of it a whole
+	 * revolution's worth of inserts fuller than the rest, and since neighbouring groups share probe sequences,
+	 * misses there probe for a long way before reaching an EMPTY lane.
+	 */
+	private void evictOne() {
+		long[] ctrl = this.ctrl;
+		byte[] referenced = this.referenced;
+		int groupMask = ctrl.length - 1;
+		int g = hand >>> 3;
+		int full = Swar.fullMask(ctrl[g]) & (0xFF << (hand & 7)); // lanes at or after the hand
+		for (;;) {
+			while (full != 0) {
+				int lane = Integer.numberOfTrailingZeros(full);
+				int idx = (g << 3) + lane;
+				if (referenced[idx] == 0) {
+					hand = (lane < 7) ? idx + 1 : ((g + handStride) & groupMask) << 3;
+					deleteAt(idx);
+					evictions++;
+					return;
+				}
+				referenced[idx] = 0;
+				full &= full - 1;
+			}
+			g = (g + handStride) & groupMask;
+			full = Swar.fullMask(ctrl[g]);
+		}
+	}
+
+	private void deleteAt(int idx) {
+		// No probe sequence runs past a group that has an EMPTY lane (a group only regains EMPTY lanes through
+		// a purge), so a slot in such a group can go straight back to EMPTY instead of becoming a tombstone.
+		boolean groupHasEmpty = Swar.eqMask(ctrl[idx >>> 3], Swar.EMPTY_BROADCAST) != 0;
+		Swar.setCtrlAt(ctrl, idx, groupHasEmpty ? Swar.EMPTY : Swar.DELETED);
+		if (!groupHasEmpty) tombstones++;
+		keys[idx] = null;
+		vals[idx] = null;
+		referenced[idx] = 0;
+		size--;
+	}
+
+	/**
+	 * Same-capacity rehash that clears every tombstone without allocating (Abseil's
+	 * {@code DropDeletesWithoutResize}, as in {@link SwissMap}); reference bits move with their entries.
+	 */
+	private void dropDeletesInPlace() {
+		long[] ctrl = this.ctrl;
+		Object[] keys = this.keys;
+		Object[] vals = this.vals;
+		byte[] referenced = this.referenced;
+		for (int g = 0; g < ctrl.length; g++) {
+			// x = 0x80 on EMPTY/DELETED lanes, 0x00 on FULL lanes -> 0x80 (EMPTY) / 0xFE (DELETED)
+			long x = ctrl[g] & Swar.BITMASK_MSB;
+			ctrl[g] = (~x + (x >>> 7)) & ~Swar.BITMASK_LSB;
+		}
+
+		for (int i = 0, capacity = keys.length; i < capacity; i++) {
+			if (!Swar.isDeleted(Swar.ctrlAt(ctrl, i))) continue;
+			int h = Hashing.smearedHash(keys[i]);
+			byte h2 = Swar.h2(h);
+			int target = findFirstNonFull(h);
+			if ((target >> 3) == (i >> 3)) {
+				// Already in the first group with room on its probe sequence.
+				Swar.setCtrlAt(ctrl, i, h2);
+			} else if (Swar.ctrlAt(ctrl, target) == Swar.EMPTY) {
+				keys[target] = keys[i];
+				vals[target] = vals[i];
+				referenced[target] = referenced[i];
+				Swar.setCtrlAt(ctrl, target, h2);
+				keys[i] = null;
+				vals[i] = null;
+				referenced[i] = 0;
+				Swar.setCtrlAt(ctrl, i, Swar.EMPTY);
+			} else {
+				// target holds another not-yet-placed entry: swap, then re-process slot i.
+				Object k = keys[target];
+				Object v = vals[target];
+				byte r = referenced[target];
+				keys[target] = keys[i];
+				vals[target] = vals[i];
+				referenced[target] = referenced[i];
+				keys[i] = k;
+				vals[i] = v;
+				referenced[i] = r;
+				Swar.setCtrlAt(ctrl, target, h2);
+				i--;
+			}
+		}
+		tombstones = 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V castValue(Object v) {
+		return (V) v;
+	}
+}
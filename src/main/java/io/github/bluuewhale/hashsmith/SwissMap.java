@@ -1,12 +1,21 @@
 package io.github.bluuewhale.hashsmith;
 
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.Map;
 import java.util.Set;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 
@@ -26,6 +35,9 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 	/* Group sizing: SWAR fixed at 8 slots (1 word) */
 	private static final int GROUP_SIZE = 8;
 
+	/* Batched lookups: keys whose probes are in flight together (see getAll) */
+	private static final int BATCH_LANES = 16;
+
 	/* Load factor: similar to Abseil SwissTable (7/8) */
 	private static final double DEFAULT_LOAD_FACTOR = 0.875d;
 
@@ -40,6 +52,10 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 	private Object[] keys;   // key storage
 	private Object[] vals;   // value storage
 	private int tombstones;  // deleted slots
+	private int modCount;    // structural changes; lets compute/merge detect callbacks that mutate the map
+	private int parallelRehashThreshold = Integer.MAX_VALUE; // opt-in, see setParallelRehashThreshold
+	private ForkJoinPool rehashPool;
+	private volatile ResizeSource resizeSource; // set while a concurrent-path rehash copies; see ResizeSource
 
 	/**
 	 * Control word access needs to participate in the publish protocol used by {@link ConcurrentSwissMap}
@@ -131,11 +147,7 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		int idx = findIndexHashed(key, smearedHash);
 		if (idx < 0) return null;
 		V old = castValue(vals[idx]);
-		setCtrlAt(ctrl, idx, DELETED);
-		setEntryAt(idx, null, null);
-		size--;
-		tombstones++;
-		maybeRehash();
+		removeAt(idx);
 		return old;
 	}
 
@@ -162,7 +174,7 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 	 * Writers must publish entry (keys/vals) before publishing ctrl FULL tag (release-store).
 	 */
 	V putConcurrent(K key, V value, int smearedHash) {
-		maybeRehash();
+		maybeRehashConcurrent();
 		return putValHashedConcurrent(key, value, smearedHash);
 	}
 
@@ -178,10 +190,115 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		deleteAtConcurrent(idx);
 		size--;
 		tombstones++;
-		maybeRehash();
+		maybeRehashConcurrent();
 		return old;
 	}
 
+	/**
+	 * Package-private concurrent-safe batch lookup for {@link ConcurrentSwissMap}: for {@code i} in
+	 * {@code [from, to)} resolves {@code keys[i]} (smeared hash {@code hashes[i]}), storing its slot or
+	 * {@code -1} in {@code slots[i]} and, if {@code out} is non-null, its value or {@code null} in {@code out[i]}.
+	 * Reads a single snapshot of the table arrays, so slots always index the arrays the values came from.
+	 */
+	void getAllConcurrent(Object[] keys, int[] hashes, int[] slots, Object[] out, int from, int to) {
+		long[] ctrl = this.ctrl;
+		Object[] table = this.keys;
+		Object[] vals = this.vals;
+		if (table.length != ctrl.length << 3 || vals.length != table.length) {
+			// Torn snapshot of a racing rehash: report misses; the caller's stamp validation fails and retries.
+			Arrays.fill(slots, from, to, -1);
+			if (out != null) Arrays.fill(out, from, to, null);
+			return;
+		}
+		getAllIn(ctrl, table, vals, keys, hashes, slots, out, from, to);
+	}
+
+	private void getAllIn(
+		long[] ctrl, Object[] table, Object[] vals, Object[] keys, int[] hashes, int[] slots, Object[] out, int from, int to
+	) {
+		findIndexesHashed(ctrl, table, keys, hashes, slots, from, to, true);
+		if (out == null) return;
+		for (int i = from; i < to; i++) {
+			int s = slots[i];
+			out[i] = (s >= 0) ? vals[s] : null;
+		}
+	}
+
+	/**
+	 * The table a concurrent-path rehash is copying from, or {@code null} when none is running.
+	 * <p>
+	 * {@link ConcurrentSwissMap} holds the shard's write lock for the whole copy, so optimistic readers fail
+	 * validation for as long as it runs. But a rehash only reads the old arrays and installs fresh ones, and no write
+	 * lands in the shard until it is done: the old table is the shard's current contents and is never written
+	 * again. The writer publishes it (volatile store, after every write to it) before copying, so a reader kept off
+	 * the lock can look up here instead of waiting in {@code readLock()}.
+	 */
+	ResizeSource resizeSource() {
+		return resizeSource;
+	}
+
+	/* Frozen table of a running rehash; its lookups are the concurrent-path ones over its arrays. */
+	final class ResizeSource {
+		final long[] ctrl;
+		final Object[] keys;
+		final Object[] vals;
+
+		private ResizeSource(long[] ctrl, Object[] keys, Object[] vals) {
+			this.ctrl = ctrl;
+			this.keys = keys;
+			this.vals = vals;
+		}
+
+		int findIndex(Object key, int smearedHash) {
+			return findIndexIn(ctrl, keys, key, smearedHash, true);
+		}
+
+		V get(Object key, int smearedHash) {
+			int idx = findIndex(key, smearedHash);
+			return (idx >= 0) ? castValue(vals[idx]) : null;
+		}
+
+		/* Like {@link SwissMap#getAllConcurrent}. */
+		void getAll(Object[] keys, int[] hashes, int[] slots, Object[] out, int from, int to) {
+			getAllIn(ctrl, this.keys, vals, keys, hashes, slots, out, from, to);
+		}
+	}
+
+	/* Table arrays for {@link ConcurrentSwissMap}'s in-place traversal; read them under the shard's stamp. */
+	long[] ctrlTable() {
+		return ctrl;
+	}
+
+	Object[] keyTable() {
+		return keys;
+	}
+
+	Object[] valTable() {
+		return vals;
+	}
+
+	/**
+	 * Package-private concurrent-safe group read for {@link ConcurrentSwissMap} traversal: copies the key/value of
+	 * every FULL lane of group {@code g} into {@code outKeys}/{@code outVals} from index {@code off} (room for
+	 * {@value #GROUP_SIZE} lanes needed) and returns how many. The ctrl word is acquire-loaded, as in {@link #getConcurrent}; a racing writer can
+	 * still tear the copy, which the caller's stamp validation detects.
+	 */
+	static int copyGroupConcurrent(
+		long[] ctrl, Object[] keys, Object[] vals, int g, Object[] outKeys, Object[] outVals, int off
+	) {
+		long full = ~ctrlWordAcquire(ctrl, g) & BITMASK_MSB; // FULL tags have the MSB clear
+		int base = g << 3;
+		int n = off;
+		while (full != 0) {
+			int idx = base + (Long.numberOfTrailingZeros(full) >>> 3);
+			outKeys[n] = keys[idx];
+			outVals[n] = vals[idx];
+			n++;
+			full &= full - 1;
+		}
+		return n - off;
+	}
+
 	/* Control byte inspectors */
 	private boolean isDeleted(byte c) { return c == DELETED; }
 	private boolean isFull(byte c) { return c >= 0 && c <= H2_MASK; } // H2 in [0,127]
@@ -252,9 +369,94 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		if (!overMaxLoad && !tooManyTombstones) return;
 
 		// Only grow the table when we are actually over the max load threshold.
-		// If we are rehashing just to clean up tombstones, keep the capacity.
+		// If we are rehashing just to clean up tombstones, keep the capacity and reuse the arrays.
+		if (overMaxLoad) rehash(Math.max(capacity * 2, GROUP_SIZE));
+		else dropDeletesInPlace();
+	}
+
+	/**
+	 * Concurrent-path variant: always rebuilds into fresh arrays, so an optimistic reader in
+	 * {@link ConcurrentSwissMap} racing with the cleanup keeps scanning a consistent snapshot until its stamp
+	 * validation fails, and a reader that then finds the lock held reads the old table through
+	 * {@link #resizeSource()} instead of waiting for the copy.
+	 */
+	private void maybeRehashConcurrent() {
+		boolean overMaxLoad = (size + tombstones) >= maxLoad;
+		boolean tooManyTombstones = tombstones > (size >>> 1);
+		if (!overMaxLoad && !tooManyTombstones) return;
+
 		int newCap = overMaxLoad ? Math.max(capacity * 2, GROUP_SIZE) : capacity;
-		rehash(newCap);
+		// Let readers blocked by this writer use the table being copied from; see resizeSource().
+		resizeSource = new ResizeSource(ctrl, keys, vals);
+		try {
+			rehash(newCap);
+		} finally {
+			resizeSource = null;
+		}
+	}
+
+	/**
+	 * Same-capacity rehash without allocating (Abseil's {@code DropDeletesWithoutResize}).
+	 * <p>
+	 * First every ctrl word is rewritten so FULL becomes DELETED ("not yet placed") and DELETED/EMPTY become EMPTY.
+	 * Then each DELETED slot is re-placed at the first non-full slot of its probe sequence: kept where it is if
+	 * that slot is in its own group, moved if the target is EMPTY, or swapped with the target's (not yet placed)
+	 * entry, which is then processed from the same index.
+	 */
+	private void dropDeletesInPlace() {
+		long[] ctrl = this.ctrl;
+		Object[] keys = this.keys;
+		Object[] vals = this.vals;
+		for (int g = 0; g < ctrl.length; g++) {
+			// x = 0x80 on EMPTY/DELETED lanes, 0x00 on FULL lanes -> 0x80 (EMPTY) / 0xFE (DELETED)
+			long x = ctrl[g] & BITMASK_MSB;
+			ctrl[g] = (~x + (x >>> 7)) & ~BITMASK_LSB;
+		}
+
+		for (int i = 0; i < capacity; i++) {
+			if (!isDeleted(ctrlAt(ctrl, i))) continue;
+			int h = hash(keys[i]);
+			byte h2 = h2(h);
+			int target = findFirstNonFull(ctrl, h);
+			if ((target >> 3) == (i >> 3)) {
+				// Already in the first group with room on its probe sequence.
+				setCtrlAt(ctrl, i, h2);
+			} else if (ctrlAt(ctrl, target) == EMPTY) {
+				keys[target] = keys[i];
+				vals[target] = vals[i];
+				setCtrlAt(ctrl, target, h2);
+				keys[i] = null;
+				vals[i] = null;
+				setCtrlAt(ctrl, i, EMPTY);
+			} else {
+				// target holds another not-yet-placed entry: swap, then re-process slot i.
+				Object k = keys[target];
+				Object v = vals[target];
+				keys[target] = keys[i];
+				vals[target] = vals[i];
+				keys[i] = k;
+				vals[i] = v;
+				setCtrlAt(ctrl, target, h2);
+				i--;
+			}
+		}
+		tombstones = 0;
+		modCount++;
+	}
+
+	/* First EMPTY or DELETED slot along the probe sequence of {@code smearedHash}. */
+	private int findFirstNonFull(long[] ctrl, int smearedHash) {
+		int mask = ctrl.length - 1;
+		int g = h1(smearedHash) & mask;
+		int step = 0;
+		for (;;) {
+			long special = ctrl[g] & BITMASK_MSB; // MSB set on EMPTY and DELETED lanes
+			if (special != 0) {
+				int lanes = (int) ((special * 0x0204_0810_2040_81L) >>> 56);
+				return (g << 3) + Integer.numberOfTrailingZeros(lanes);
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
 	}
 
 	private void rehash(int newCapacity) {
@@ -265,6 +467,10 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 
 		int desiredGroups = Math.max(1, (Math.max(newCapacity, GROUP_SIZE) + GROUP_SIZE - 1) / GROUP_SIZE);
 		desiredGroups = ceilPow2(desiredGroups);
+		if (oldCtrl != null && size >= parallelRehashThreshold) {
+			rehashParallel(desiredGroups, oldCtrl, oldKeys, oldVals);
+			return;
+		}
 		this.capacity = desiredGroups * GROUP_SIZE;
 		this.ctrl = new long[desiredGroups];
 		Arrays.fill(this.ctrl, EMPTY_BROADCAST);
@@ -273,6 +479,7 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		this.size = 0;
 		this.tombstones = 0;
 		this.maxLoad = calcMaxLoad(this.capacity);
+		modCount++;
 
 		if (oldCtrl == null) return;
 
@@ -285,6 +492,89 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		}
 	}
 
+	/**
+	 * Opt-in parallel rehash: once a resize has at least {@code minEntries} entries to move, the old table is
+	 * split into chunks that are re-inserted concurrently on the common {@link ForkJoinPool}. Smaller maps keep
+	 * the sequential rehash, which is cheaper than the pool hand-off. Disabled by default
+	 * ({@code Integer.MAX_VALUE}).
+	 */
+	public void setParallelRehashThreshold(int minEntries) {
+		setParallelRehashThreshold(minEntries, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Like {@link #setParallelRehashThreshold(int)}, re-inserting on the workers of {@code pool}.
+	 */
+	public void setParallelRehashThreshold(int minEntries, ForkJoinPool pool) {
+		if (minEntries < 1) throw new IllegalArgumentException("minEntries must be >= 1: " + minEntries);
+		this.parallelRehashThreshold = minEntries;
+		this.rehashPool = Objects.requireNonNull(pool);
+	}
+
+	public int getParallelRehashThreshold() {
+		return parallelRehashThreshold;
+	}
+
+	/**
+	 * Re-inserts the old table on {@link #rehashPool}. Workers claim EMPTY lanes by CAS on the new ctrl words
+	 * (the same {@link #CTRL_WORD} handle used for the release-store publish), so no locks are needed; the
+	 * new arrays are installed once every worker has joined. Size is unchanged (no tombstones are carried).
+	 */
+	private void rehashParallel(int groups, long[] oldCtrl, Object[] oldKeys, Object[] oldVals) {
+		int cap = groups * GROUP_SIZE;
+		long[] ctrl = new long[groups];
+		Arrays.fill(ctrl, EMPTY_BROADCAST);
+		Object[] keys = new Object[cap];
+		Object[] vals = new Object[cap];
+
+		ForkJoinPool pool = rehashPool;
+		int oldGroups = oldCtrl.length;
+		int chunks = Math.min(oldGroups, pool.getParallelism() * 4);
+		int chunkGroups = (oldGroups + chunks - 1) / chunks;
+		Utils.runParallel(pool, chunks, c -> {
+			int from = c * chunkGroups * GROUP_SIZE;
+			int to = Math.min(oldGroups, (c + 1) * chunkGroups) * GROUP_SIZE;
+			for (int i = from; i < to; i++) {
+				if (isFull(ctrlAt(oldCtrl, i))) insertClaimed(ctrl, keys, vals, oldKeys[i], oldVals[i]);
+			}
+		});
+
+		this.capacity = cap;
+		this.keys = keys;
+		this.vals = vals;
+		this.ctrl = ctrl;
+		this.tombstones = 0;
+		this.maxLoad = calcMaxLoad(cap);
+		modCount++;
+	}
+
+	/* Parallel-rehash insert: claims an EMPTY lane with a CAS on its ctrl word, then stores the entry. */
+	private void insertClaimed(long[] ctrl, Object[] keys, Object[] vals, Object key, Object value) {
+		int h = hash(key);
+		long tag = toUnsignedByte(h2(h));
+		int mask = ctrl.length - 1;
+		int g = h1(h) & mask;
+		int step = 0;
+		for (;;) {
+			long word = (long) CTRL_WORD.getAcquire(ctrl, g);
+			int emptyMask = eqMask(word, EMPTY_BROADCAST);
+			if (emptyMask == 0) {
+				g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+				continue;
+			}
+			int lane = Integer.numberOfTrailingZeros(emptyMask);
+			int shift = lane << 3;
+			long claimed = (word & ~(0xFFL << shift)) | (tag << shift);
+			if (CTRL_WORD.compareAndSet(ctrl, g, word, claimed)) {
+				int idx = (g << 3) + lane;
+				keys[idx] = key;
+				vals[idx] = value;
+				return;
+			}
+			// Lost the word to another worker: re-read the same group.
+		}
+	}
+
 	/* fresh-table insertion used only during rehash */
 	private void insertFresh(K key, V value) {
 		int h = hash(key);
@@ -346,18 +636,155 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		int idx = findIndex(key);
 		if (idx < 0) return null;
 		V old = castValue(vals[idx]);
+		removeAt(idx);
+		return old;
+	}
+
+	private void removeAt(int idx) {
 		setCtrlAt(ctrl, idx, DELETED);
 		setEntryAt(idx, null, null);
 		size--;
 		tombstones++;
+		modCount++;
 		maybeRehash();
-		return old;
+	}
+
+	/**
+	 * Batched {@link #get}: stores the value mapped to {@code keys[i]} (or {@code null}) in {@code out[i]}.
+	 * <p>
+	 * The whole batch is hashed first and probes are then walked {@value #BATCH_LANES} keys at a time, one
+	 * phase per pass (first ctrl word, first candidate key, resolve), so the cache misses of independent
+	 * keys overlap instead of being paid one after another. Use {@link #containsAll} to tell a {@code null}
+	 * value from a missing key.
+	 *
+	 * @return the number of keys found
+	 * @throws NullPointerException if any key is null
+	 * @throws IllegalArgumentException if {@code out} is shorter than {@code keys}
+	 */
+	public int getAll(Object[] keys, V[] out) {
+		checkBatch(keys.length, out.length);
+		int[] slots = findIndexes(keys);
+		Object[] vals = this.vals;
+		int hits = 0;
+		for (int i = 0; i < keys.length; i++) {
+			int s = slots[i];
+			if (s >= 0) {
+				out[i] = castValue(vals[s]);
+				hits++;
+			} else {
+				out[i] = null;
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * Batched {@link #containsKey}: stores whether {@code keys[i]} is present in {@code out[i]}.
+	 * Probes are interleaved as in {@link #getAll}.
+	 *
+	 * @return the number of keys found
+	 * @throws NullPointerException if any key is null
+	 * @throws IllegalArgumentException if {@code out} is shorter than {@code keys}
+	 */
+	public int containsAll(Object[] keys, boolean[] out) {
+		checkBatch(keys.length, out.length);
+		int[] slots = findIndexes(keys);
+		int hits = 0;
+		for (int i = 0; i < keys.length; i++) {
+			boolean found = slots[i] >= 0;
+			out[i] = found;
+			if (found) hits++;
+		}
+		return hits;
+	}
+
+	private static void checkBatch(int keys, int out) {
+		if (out < keys) throw new IllegalArgumentException("out.length " + out + " < keys.length " + keys);
+	}
+
+	/* Hashes the whole batch, then resolves it in place: the returned array holds a slot or -1 per key. */
+	private int[] findIndexes(Object[] keys) {
+		int n = keys.length;
+		int[] hashes = new int[n];
+		for (int i = 0; i < n; i++) hashes[i] = hash(keys[i]);
+		findIndexesHashed(ctrl, this.keys, keys, hashes, hashes, 0, n, false);
+		return hashes;
+	}
+
+	/**
+	 * Batched probe core. For {@code i} in {@code [from, to)} stores the slot of {@code keys[i]} in
+	 * {@code table} (or {@code -1}) in {@code slots[i]}; {@code slots} may alias {@code hashes}.
+	 * <p>
+	 * Each block of {@value #BATCH_LANES} keys is walked phase by phase: (1) load the first ctrl word of every
+	 * probe, (2) load the key behind the first tag match of every probe, (3) resolve. Loads within a phase do
+	 * not depend on each other, so an out-of-order core keeps several misses in flight. Keys not decided by
+	 * their first group (second tag match, or no EMPTY lane) finish with a regular probe.
+	 */
+	private void findIndexesHashed(
+		long[] ctrl, Object[] table, Object[] keys, int[] hashes, int[] slots, int from, int to, boolean concurrent
+	) {
+		int mask = ctrl.length - 1;
+		int[] laneHash = new int[BATCH_LANES];
+		long[] laneWord = new long[BATCH_LANES];
+		Object[] laneKey = new Object[BATCH_LANES];
+		for (int b = from; b < to; b += BATCH_LANES) {
+			int n = Math.min(BATCH_LANES, to - b);
+			// Phase 1: first ctrl word of each probe.
+			for (int j = 0; j < n; j++) {
+				int h = hashes[b + j];
+				int g = h1(h) & mask;
+				laneHash[j] = h;
+				laneWord[j] = concurrent ? ctrlWordAcquire(ctrl, g) : ctrl[g];
+			}
+			// Phase 2: candidate key behind the first tag match.
+			for (int j = 0; j < n; j++) {
+				int h = laneHash[j];
+				int m = eqMask(laneWord[j], broadcast(h2(h)));
+				int slot = (m != 0) ? ((h1(h) & mask) << 3) + Integer.numberOfTrailingZeros(m) : -1;
+				slots[b + j] = slot;
+				laneKey[j] = (slot >= 0) ? table[slot] : null;
+			}
+			// Phase 3: resolve, falling back to a full probe when the first group is not conclusive.
+			for (int j = 0; j < n; j++) {
+				int i = b + j;
+				Object key = keys[i];
+				if (slots[i] >= 0) {
+					Object k = laneKey[j];
+					// NULL-safe: concurrent callers may observe a slot being cleared.
+					if (k == key || (k != null && k.equals(key))) continue;
+				} else if (eqMask(laneWord[j], EMPTY_BROADCAST) != 0) {
+					continue; // no tag match and the probe ends in this group: miss
+				}
+				slots[i] = findIndexIn(ctrl, table, key, laneHash[j], concurrent);
+			}
+		}
+	}
+
+	/* Full probe over the given table snapshot (used by the batched core). */
+	private int findIndexIn(long[] ctrl, Object[] table, Object key, int smearedHash, boolean concurrent) {
+		long h2Broadcast = broadcast(h2(smearedHash));
+		int mask = ctrl.length - 1;
+		int g = h1(smearedHash) & mask;
+		int step = 0;
+		for (;;) {
+			long word = concurrent ? ctrlWordAcquire(ctrl, g) : ctrl[g];
+			int base = g << 3;
+			int eqMask = eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = table[idx];
+				if (k == key || (k != null && k.equals(key))) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (eqMask(word, EMPTY_BROADCAST) != 0) return -1;
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
 	}
 
 	/**
 	 * Testing/benchmark only: delete without leaving a tombstone.
 	 * Quadratic probing breaks the contiguity assumption required for backward-shift deletion.
-	 * This method now performs a same-capacity rehash after deletion to ensure there are no tombstones.
+	 * This method now performs an in-place same-capacity rehash after deletion to ensure there are no tombstones.
 	 */
 	public V removeWithoutTombstone(Object key) {
 		int idx = findIndex(key);
@@ -365,7 +792,9 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		V old = castValue(vals[idx]);
 		setCtrlAt(ctrl, idx, DELETED);
 		setEntryAt(idx, null, null);
-		rehash(capacity);
+		size--;
+		tombstones++;
+		dropDeletesInPlace();
 		return old;
 	}
 
@@ -373,15 +802,233 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 	public void putAll(Map<? extends K, ? extends V> m) {
         if (m.isEmpty()) return;
 
+        presizeForBatch(m.size());
+
+        // Batch insert, avoiding checking if resizing is needed on each put
+        for (Entry<? extends K, ? extends V> e : m.entrySet()) {
+            putVal(e.getKey(), e.getValue());
+        }
+	}
+
+	/**
+	 * Bulk-loads {@code keys[from..to)} / {@code values[from..to)} (e.g. columnar data) without going through
+	 * a {@link Map}. The table is sized once for the whole range and all keys are hashed up front, so a
+	 * {@code null} key is rejected before anything is inserted. When the map is empty, entries go through a
+	 * fresh-table probe that never has to look for tombstones. Duplicate keys behave like repeated
+	 * {@link #put} calls: the last value wins.
+	 *
+	 * @throws IndexOutOfBoundsException if the range is out of bounds for either array
+	 * @throws NullPointerException if any key in the range is null
+	 */
+	public void putAll(K[] keys, V[] values, int from, int to) {
+		Objects.checkFromToIndex(from, to, keys.length);
+		Objects.checkFromToIndex(from, to, values.length);
+		int n = to - from;
+		if (n == 0) return;
+
+		int[] hashes = new int[n];
+		for (int i = 0; i < n; i++) hashes[i] = hash(keys[from + i]);
+
+		boolean fresh = size == 0 && tombstones == 0;
+		presizeForBatch(n);
+		if (fresh) {
+			for (int i = 0; i < n; i++) putFresh(keys[from + i], values[from + i], hashes[i]);
+		} else {
+			for (int i = 0; i < n; i++) putValHashed(keys[from + i], values[from + i], hashes[i]);
+		}
+	}
+
+	/* Parallel bulk construction */
+
+	/**
+	 * Builds a map from parallel {@code keys}/{@code values} arrays on the common {@link ForkJoinPool}.
+	 *
+	 * @see #buildParallel(Object[], Object[], ForkJoinPool)
+	 */
+	public static <K, V> SwissMap<K, V> buildParallel(K[] keys, V[] values) {
+		return buildParallel(keys, values, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Builds a map from parallel {@code keys}/{@code values} arrays using the workers of {@code pool}.
+	 * The result is the same as putting every pair in index order (the last value of a duplicate key wins).
+	 * <p>
+	 * Keys are hashed on all workers and counting-sorted by the top bits of their home group, so each worker
+	 * owns a disjoint range of groups and fills the final {@code ctrl}/{@code keys}/{@code vals} arrays
+	 * without locks. The few entries whose probe sequence leaves their worker's range are inserted at the
+	 * end on the calling thread.
+	 *
+	 * @throws IllegalArgumentException if the arrays differ in length
+	 * @throws NullPointerException if any key is null
+	 */
+	public static <K, V> SwissMap<K, V> buildParallel(K[] keys, V[] values, ForkJoinPool pool) {
+		if (keys.length != values.length) {
+			throw new IllegalArgumentException("keys.length " + keys.length + " != values.length " + values.length);
+		}
+		int cap = GROUP_SIZE;
+		while (Utils.calcMaxLoad(cap, DEFAULT_LOAD_FACTOR) < keys.length) cap <<= 1;
+		SwissMap<K, V> m = new SwissMap<>(cap);
+		if (keys.length > 0) m.fillParallel(keys, values, pool);
+		return m;
+	}
+
+	/**
+	 * Builds a map from the elements of {@code source}, which is drained as a parallel stream on the common
+	 * pool; see {@link #buildParallel(Object[], Object[], ForkJoinPool)}.
+	 */
+	public static <T, K, V> SwissMap<K, V> buildParallel(
+		Stream<T> source, Function<? super T, ? extends K> keyFn, Function<? super T, ? extends V> valueFn
+	) {
+		Object[] items = source.parallel().toArray();
+		Object[] keys = new Object[items.length];
+		Object[] values = new Object[items.length];
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		int chunks = Math.max(1, Math.min(items.length, pool.getParallelism() * 4));
+		int chunkLen = (items.length + chunks - 1) / chunks;
+		Utils.runParallel(pool, chunks, c -> {
+			int to = Math.min(items.length, (c + 1) * chunkLen);
+			for (int i = c * chunkLen; i < to; i++) {
+				@SuppressWarnings("unchecked")
+				T item = (T) items[i];
+				keys[i] = keyFn.apply(item);
+				values[i] = valueFn.apply(item);
+			}
+		});
+		@SuppressWarnings("unchecked")
+		SwissMap<K, V> m = (SwissMap<K, V>) buildParallel(keys, values, pool);
+		return m;
+	}
+
+	/**
+	 * Builds a map from the elements of {@code source}; see {@link #buildParallel(Stream, Function, Function)}.
+	 */
+	public static <T, K, V> SwissMap<K, V> buildParallel(
+		Spliterator<T> source, Function<? super T, ? extends K> keyFn, Function<? super T, ? extends V> valueFn
+	) {
+		return buildParallel(StreamSupport.stream(source, true), keyFn, valueFn);
+	}
+
+	private void fillParallel(Object[] srcKeys, Object[] srcVals, ForkJoinPool pool) {
+		int n = srcKeys.length;
+		int mask = ctrl.length - 1;
+		int parts = Math.min(ctrl.length, ceilPow2(pool.getParallelism() * 4));
+		int partShift = Integer.numberOfTrailingZeros(ctrl.length) - Integer.numberOfTrailingZeros(parts);
+		int chunks = Math.min(n, parts); // input chunks for the counting sort
+		int chunkLen = (n + chunks - 1) / chunks;
+		int[] hashes = new int[n];
+		int[] offsets = new int[chunks * parts]; // per (chunk, partition): count, then write offset
+
+		// Phase 1: hash each input chunk and count its entries per partition.
+		Utils.runParallel(pool, chunks, c -> {
+			int row = c * parts;
+			int to = Math.min(n, (c + 1) * chunkLen);
+			for (int i = c * chunkLen; i < to; i++) {
+				int h = hash(srcKeys[i]);
+				hashes[i] = h;
+				offsets[row + ((h1(h) & mask) >>> partShift)]++;
+			}
+		});
+
+		// Prefix sums in (partition, chunk) order keep each partition's entries contiguous and in input order.
+		int[] partStart = new int[parts + 1];
+		int sum = 0;
+		for (int p = 0; p < parts; p++) {
+			partStart[p] = sum;
+			for (int c = 0; c < chunks; c++) {
+				int count = offsets[c * parts + p];
+				offsets[c * parts + p] = sum;
+				sum += count;
+			}
+		}
+		partStart[parts] = sum;
+
+		// Phase 2: scatter entry indices into partition order.
+		int[] order = new int[n];
+		Utils.runParallel(pool, chunks, c -> {
+			int row = c * parts;
+			int to = Math.min(n, (c + 1) * chunkLen);
+			for (int i = c * chunkLen; i < to; i++) {
+				order[offsets[row + ((h1(hashes[i]) & mask) >>> partShift)]++] = i;
+			}
+		});
+
+		// Phase 3: each partition fills its own groups; deferred indices are compacted to the segment front.
+		int[] added = new int[parts];
+		int[] deferredEnd = new int[parts];
+		Utils.runParallel(pool, parts, p -> {
+			int lo = p << partShift;
+			int hi = (p + 1) << partShift;
+			int d = partStart[p];
+			int count = 0;
+			for (int q = partStart[p]; q < partStart[p + 1]; q++) {
+				int i = order[q];
+				int r = insertInGroupRange(srcKeys[i], srcVals[i], hashes[i], lo, hi);
+				if (r < 0) order[d++] = i;
+				else count += r;
+			}
+			added[p] = count;
+			deferredEnd[p] = d;
+		});
+
+		// Phase 4: the join above publishes every worker's writes; finish the deferred entries here.
+		for (int p = 0; p < parts; p++) size += added[p];
+		modCount++;
+		for (int p = 0; p < parts; p++) {
+			for (int q = partStart[p]; q < deferredEnd[p]; q++) {
+				int i = order[q];
+				putValHashed(castKey(srcKeys[i]), castValue(srcVals[i]), hashes[i]);
+			}
+		}
+	}
+
+	/*
+	 * Probe confined to groups [lo, hi): returns 1 if the key was inserted, 0 if an existing mapping was
+	 * overwritten, or -1 if the probe sequence leaves the range (the caller defers the entry).
+	 */
+	private int insertInGroupRange(Object key, Object value, int smearedHash, int lo, int hi) {
+		byte h2 = h2(smearedHash);
+		long h2Broadcast = broadcast(h2);
+		long[] ctrl = this.ctrl; // local snapshot
+		Object[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1;
+		int g = h1(smearedHash) & mask;
+		int step = 0;
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || k.equals(key)) {
+					vals[idx] = value;
+					return 0;
+				}
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			int emptyMask = eqMask(word, EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(emptyMask);
+				setEntryAt(idx, castKey(key), castValue(value));
+				setCtrlAt(ctrl, idx, h2);
+				return 1;
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+			if (g < lo || g >= hi) return -1;
+		}
+	}
+
+	/* Grows the table once so that {@code incoming} more keys fit without any per-entry rehash check. */
+	private void presizeForBatch(int incoming) {
         // Pre-check if resizing is needed, keeping consistent logic with maybeRehash
 		// account for tombstone reuse when projecting load before rehash
 		// TODO: consider overlap-heavy putAll cases to avoid overestimating pre-size
-		int projectedSize = size + tombstones + Math.max(0, m.size() - tombstones);
+		int projectedSize = size + tombstones + Math.max(0, incoming - tombstones);
         boolean overMaxLoad = projectedSize >= maxLoad;
 
         if (overMaxLoad) {
             // Directly use newSize as the new capacity, rehash method will automatically adjust to appropriate capacity
-            int newSize = this.size + m.size();
+            int newSize = this.size + incoming;
             int newCapacity = Math.max(capacity * 2, GROUP_SIZE);
             // Ensure capacity is large enough to accommodate all elements
             while (((int) (newCapacity * loadFactor)) < newSize) {
@@ -389,11 +1036,44 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
             }
             rehash(newCapacity);
         }
+	}
 
-        // Batch insert, avoiding checking if resizing is needed on each put
-        for (Entry<? extends K, ? extends V> e : m.entrySet()) {
-            putVal(e.getKey(), e.getValue());
-        }
+	/*
+	 * Insert into a table without tombstones (bulk load into an empty map): like insertFresh, but a key may
+	 * repeat within the batch, so tag matches are still compared; the probe ends at the first EMPTY lane.
+	 */
+	private void putFresh(K key, V value, int smearedHash) {
+		byte h2 = h2(smearedHash);
+		long h2Broadcast = broadcast(h2);
+		long[] ctrl = this.ctrl; // local snapshot
+		Object[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1;
+		int g = h1(smearedHash) & mask;
+		int step = 0;
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || k.equals(key)) {
+					vals[idx] = value;
+					return;
+				}
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			int emptyMask = eqMask(word, EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(emptyMask);
+				setEntryAt(idx, key, value);
+				setCtrlAt(ctrl, idx, h2);
+				size++;
+				modCount++;
+				return;
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
 	}
 
     private V putVal(K key, V value) {
@@ -488,6 +1168,150 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		}
 	}
 
+	/* Single-probe read-modify-write: one pass finds the key or the slot it would be inserted into. */
+	@Override
+	public V getOrDefault(Object key, V defaultValue) {
+		int idx = findIndex(key);
+		return (idx >= 0) ? castValue(vals[idx]) : defaultValue;
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		int h = hash(key);
+		int slot = findSlotHashed(key, h);
+		if (slot >= 0) {
+			V old = castValue(vals[slot]);
+			if (old == null) vals[slot] = value;
+			return old;
+		}
+		insertNew(~slot, key, value, h);
+		return null;
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		Objects.requireNonNull(mappingFunction);
+		int h = hash(key);
+		int slot = findSlotHashed(key, h);
+		if (slot >= 0) {
+			V old = castValue(vals[slot]);
+			if (old != null) return old;
+		}
+		int mc = modCount;
+		V v = mappingFunction.apply(key);
+		if (mc != modCount) throw new ConcurrentModificationException();
+		if (v == null) return null;
+		if (slot >= 0) vals[slot] = v;
+		else insertNew(~slot, key, v, h);
+		return v;
+	}
+
+	@Override
+	public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(remappingFunction);
+		int idx = findIndex(key);
+		if (idx < 0) return null;
+		V old = castValue(vals[idx]);
+		if (old == null) return null;
+		int mc = modCount;
+		V v = remappingFunction.apply(key, old);
+		if (mc != modCount) throw new ConcurrentModificationException();
+		if (v == null) removeAt(idx);
+		else vals[idx] = v;
+		return v;
+	}
+
+	@Override
+	public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(remappingFunction);
+		int h = hash(key);
+		int slot = findSlotHashed(key, h);
+		V old = (slot >= 0) ? castValue(vals[slot]) : null;
+		int mc = modCount;
+		V v = remappingFunction.apply(key, old);
+		if (mc != modCount) throw new ConcurrentModificationException();
+		return storeAt(slot, key, v, h);
+	}
+
+	@Override
+	public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(remappingFunction);
+		int h = hash(key);
+		int slot = findSlotHashed(key, h);
+		V old = (slot >= 0) ? castValue(vals[slot]) : null;
+		V v;
+		if (old == null) {
+			v = value;
+		} else {
+			int mc = modCount;
+			v = remappingFunction.apply(old, value);
+			if (mc != modCount) throw new ConcurrentModificationException();
+		}
+		return storeAt(slot, key, v, h);
+	}
+
+	/* Applies a compute/merge result to a findSlotHashed result: null removes, otherwise overwrite or insert. */
+	private V storeAt(int slot, K key, V v, int smearedHash) {
+		if (v == null) {
+			if (slot >= 0) removeAt(slot);
+		} else if (slot >= 0) {
+			vals[slot] = v;
+		} else {
+			insertNew(~slot, key, v, smearedHash);
+		}
+		return v;
+	}
+
+	/**
+	 * Inserts an absent key at {@code slot} (from {@link #findSlotHashed}). Only filling an EMPTY slot consumes
+	 * load budget, so the table is grown (and the slot re-derived) only in that case.
+	 */
+	private void insertNew(int slot, K key, V value, int smearedHash) {
+		if (ctrlAt(ctrl, slot) == EMPTY && size + tombstones >= maxLoad) {
+			maybeRehash();
+			slot = findFirstNonFull(ctrl, smearedHash);
+		}
+		insertAt(slot, key, value, h2(smearedHash));
+	}
+
+	/**
+	 * Combined lookup: returns the slot holding {@code key}, or {@code ~slot} of the first tombstone/empty slot
+	 * on its probe sequence (where {@code putVal} would insert it).
+	 */
+	private int findSlotHashed(Object key, int smearedHash) {
+		int h1 = h1(smearedHash);
+		byte h2 = h2(smearedHash);
+		long h2Broadcast = broadcast(h2);
+		long[] ctrl = this.ctrl; // local snapshot
+		Object[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1;
+		int g = h1 & mask;
+		int step = 0;
+		int firstTombstone = -1;
+		for (;;) {
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = eqMask(word, h2Broadcast);
+			while (eqMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || k.equals(key)) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (firstTombstone < 0) {
+				int delMask = eqMask(word, DELETED_BROADCAST);
+				if (delMask != 0) firstTombstone = base + Integer.numberOfTrailingZeros(delMask);
+			}
+			int emptyMask = eqMask(word, EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(emptyMask);
+				return ~((firstTombstone >= 0) ? firstTombstone : idx);
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
 	@Override
 	public void clear() {
 		Arrays.fill(ctrl, EMPTY_BROADCAST);
@@ -496,6 +1320,7 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		size = 0;
 		tombstones = 0;
 		maxLoad = calcMaxLoad(capacity);
+		modCount++;
 	}
 
 	@Override
@@ -510,7 +1335,47 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 
 	@Override
 	public Set<Entry<K, V>> entrySet() {
-		return new EntryView();
+		return new EntryView(false);
+	}
+
+	/**
+	 * Same view as {@link #entrySet()}, but its iterator visits entries in physical slot order, one ctrl group
+	 * at a time, instead of the randomized stride. Large tables are then read linearly, which the hardware
+	 * prefetcher can follow.
+	 */
+	public Set<Entry<K, V>> entrySetSequential() {
+		return new EntryView(true);
+	}
+
+	/**
+	 * Returns a {@link MapCursor} over this map. It visits mappings in slot order, scanning one control word
+	 * (8 slots) at a time, and allocates nothing per mapping.
+	 */
+	public MapCursor<K, V> cursor() {
+		return new Cursor();
+	}
+
+	/**
+	 * Visits every mapping in slot order, scanning one control word (8 slots) at a time without allocating
+	 * entries. Throws {@link ConcurrentModificationException} if {@code action} structurally modifies the map.
+	 */
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		Objects.requireNonNull(action);
+		int mc = modCount;
+		long[] ctrl = this.ctrl;
+		Object[] keys = this.keys;
+		Object[] vals = this.vals;
+		for (int g = 0; g < ctrl.length; g++) {
+			int full = Swar.fullMask(ctrl[g]);
+			int base = g << 3;
+			while (full != 0) {
+				int idx = base + Integer.numberOfTrailingZeros(full);
+				action.accept(castKey(keys[idx]), castValue(vals[idx]));
+				full &= full - 1;
+			}
+			if (modCount != mc) throw new ConcurrentModificationException();
+		}
 	}
 
 	/* lookup utilities */
@@ -595,6 +1460,7 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		setEntryAt(idx, key, value);
 		setCtrlAt(ctrl, idx, h2);
 		size++;
+		modCount++;
 		return null;
 	}
 
@@ -633,14 +1499,23 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 
 	/* iterator base */
 	private abstract class BaseIter<T> implements Iterator<T> {
+		private final boolean sequential;
 		private final int start;
 		private final int step;
 		private final int mask;
 		private int iter = 0;
+		private int group;        // sequential mode: next group to scan
+		private int full;         // sequential mode: FULL lanes of the current group not yet visited
+		private int base;         // sequential mode: slot index of lane 0 of the current group
 		private int next = -1;
 		private int last = -1;
 
 		BaseIter() {
+			this(false);
+		}
+
+		BaseIter(boolean sequential) {
+			this.sequential = sequential;
 			RandomCycle cycle = new RandomCycle(capacity, iterationSeed);
 			this.start = cycle.start;
 			this.step = cycle.step;
@@ -648,7 +1523,24 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 			advance();
 		}
 
+		/* Physical slot order: one ctrl word at a time, then its FULL lanes low to high. */
+		private int advanceSequential() {
+			while (full == 0) {
+				if (group >= ctrl.length) return -1;
+				full = Swar.fullMask(ctrl[group]);
+				base = group << 3;
+				group++;
+			}
+			int idx = base + Integer.numberOfTrailingZeros(full);
+			full &= full - 1;
+			return idx;
+		}
+
 		private void advance() {
+			if (sequential) {
+				next = advanceSequential();
+				return;
+			}
 			next = -1;
 			while (iter < capacity) {
 				// & mask == mod capacity; iter grows, step scrambles the visit order without extra buffers.
@@ -681,6 +1573,7 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 				setEntryAt(last, null, null);
 				size--;
 				tombstones++;
+				modCount++;
 			}
 			last = -1;
 		}
@@ -701,6 +1594,9 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 	}
 
 	private class EntryIter extends BaseIter<Entry<K, V>> {
+		EntryIter() { super(); }
+		EntryIter(boolean sequential) { super(sequential); }
+
 		@Override
 		public Entry<K, V> next() {
 			int idx = nextIndex();
@@ -708,6 +1604,68 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		}
 	}
 
+	private final class Cursor implements MapCursor<K, V> {
+		private int group;        // next ctrl word to load
+		private int full;         // FULL lanes of the current word not yet visited
+		private int base;         // slot index of lane 0 of the current word
+		private int idx = -1;     // current slot, -1 when not positioned on a mapping
+		private int expectedModCount = modCount;
+
+		@Override
+		public boolean advance() {
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			long[] ctrl = SwissMap.this.ctrl;
+			while (full == 0) {
+				if (group >= ctrl.length) {
+					idx = -1;
+					return false;
+				}
+				full = Swar.fullMask(ctrl[group]);
+				base = group << 3;
+				group++;
+			}
+			idx = base + Integer.numberOfTrailingZeros(full);
+			full &= full - 1;
+			return true;
+		}
+
+		private int current() {
+			if (idx < 0) throw new IllegalStateException();
+			return idx;
+		}
+
+		@Override
+		public K key() {
+			return castKey(keys[current()]);
+		}
+
+		@Override
+		public V value() {
+			return castValue(vals[current()]);
+		}
+
+		@Override
+		public V setValue(V value) {
+			int i = current();
+			V old = castValue(vals[i]);
+			vals[i] = value;
+			return old;
+		}
+
+		@Override
+		public void remove() {
+			int i = current();
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			// Tombstone only: a rehash here would move the slots the cursor has yet to visit.
+			setCtrlAt(ctrl, i, DELETED);
+			setEntryAt(i, null, null);
+			size--;
+			tombstones++;
+			expectedModCount = ++modCount;
+			idx = -1;
+		}
+	}
+
 	private class EntryRef implements Entry<K, V> {
 		private final int idx;
 		EntryRef(int idx) { this.idx = idx; }
@@ -747,6 +1705,142 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 		}
 	}
 
+	/**
+	 * Spliterator over the group range {@code [group, fence)} of a ctrl snapshot. Splits halve the group range,
+	 * and traversal walks each ctrl word's FULL lanes with a SWAR mask, so parallel streams scale with the
+	 * table. Only the root reports {@link Spliterator#SIZED}: after a split the halves' sizes are estimates.
+	 */
+	private abstract class BaseSpliterator<T> implements Spliterator<T> {
+		final long[] ctrl;
+		final Object[] keys;
+		final Object[] vals;
+		private final int fence;
+		private final int expectedModCount;
+		private final int characteristics;
+		private int group;
+		private int est;
+		private boolean root;
+		private int pending;     // FULL lanes of the current word not yet visited
+		private int pendingBase; // slot index of lane 0 of the current word
+
+		BaseSpliterator(int characteristics) {
+			this.ctrl = SwissMap.this.ctrl;
+			this.keys = SwissMap.this.keys;
+			this.vals = SwissMap.this.vals;
+			this.fence = (ctrl == null) ? 0 : ctrl.length;
+			this.est = size;
+			this.root = true;
+			this.expectedModCount = modCount;
+			this.characteristics = characteristics;
+		}
+
+		BaseSpliterator(BaseSpliterator<T> parent, int lo, int hi) {
+			this.ctrl = parent.ctrl;
+			this.keys = parent.keys;
+			this.vals = parent.vals;
+			this.group = lo;
+			this.fence = hi;
+			this.est = parent.est;
+			this.expectedModCount = parent.expectedModCount;
+			this.characteristics = parent.characteristics;
+		}
+
+		abstract T elementAt(int idx);
+
+		/* New spliterator of the same kind over groups [lo, hi), inheriting this one's snapshot and estimate. */
+		abstract BaseSpliterator<T> split(int lo, int hi);
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			Objects.requireNonNull(action);
+			while (pending == 0) {
+				if (group >= fence) return false;
+				pending = Swar.fullMask(ctrl[group]);
+				pendingBase = group << 3;
+				group++;
+			}
+			int idx = pendingBase + Integer.numberOfTrailingZeros(pending);
+			pending &= pending - 1;
+			action.accept(elementAt(idx));
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			Objects.requireNonNull(action);
+			long[] ctrl = this.ctrl;
+			int base = pendingBase;
+			int full = pending;
+			pending = 0;
+			for (int g = group; ; g++) {
+				while (full != 0) {
+					action.accept(elementAt(base + Integer.numberOfTrailingZeros(full)));
+					full &= full - 1;
+				}
+				if (g >= fence) break;
+				full = Swar.fullMask(ctrl[g]);
+				base = g << 3;
+			}
+			group = fence;
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int lo = group;
+			int mid = (lo + fence) >>> 1;
+			if (mid <= lo) return null;
+			group = mid;
+			root = false;
+			est >>>= 1;
+			return split(lo, mid);
+		}
+
+		@Override
+		public long estimateSize() {
+			return est;
+		}
+
+		@Override
+		public int characteristics() {
+			return root ? characteristics | SIZED : characteristics;
+		}
+	}
+
+	private final class KeySpliterator extends BaseSpliterator<K> {
+		KeySpliterator() { super(DISTINCT | NONNULL); }
+		KeySpliterator(KeySpliterator parent, int lo, int hi) { super(parent, lo, hi); }
+
+		@Override
+		K elementAt(int idx) { return castKey(keys[idx]); }
+
+		@Override
+		BaseSpliterator<K> split(int lo, int hi) { return new KeySpliterator(this, lo, hi); }
+	}
+
+	private final class ValueSpliterator extends BaseSpliterator<V> {
+		ValueSpliterator() { super(0); }
+		ValueSpliterator(ValueSpliterator parent, int lo, int hi) { super(parent, lo, hi); }
+
+		@Override
+		V elementAt(int idx) { return castValue(vals[idx]); }
+
+		@Override
+		BaseSpliterator<V> split(int lo, int hi) { return new ValueSpliterator(this, lo, hi); }
+	}
+
+	private final class EntrySpliterator extends BaseSpliterator<Entry<K, V>> {
+		EntrySpliterator() { super(DISTINCT | NONNULL); }
+		EntrySpliterator(EntrySpliterator parent, int lo, int hi) { super(parent, lo, hi); }
+
+		@Override
+		Entry<K, V> elementAt(int idx) { return new EntryRef(idx); }
+
+		@Override
+		BaseSpliterator<Entry<K, V>> split(int lo, int hi) { return new EntrySpliterator(this, lo, hi); }
+	}
+
 	private final class KeyView extends java.util.AbstractSet<K> {
 		@Override
 		public Iterator<K> iterator() {
@@ -755,6 +1849,11 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 
 		@Override
 		public int size() { return SwissMap.this.size(); }
+
+		@Override
+		public Spliterator<K> spliterator() {
+			return new KeySpliterator();
+		}
 	}
 
 	private final class ValuesView extends java.util.AbstractCollection<V> {
@@ -765,16 +1864,32 @@ public class SwissMap<K, V> extends AbstractArrayMap<K, V> {
 
 		@Override
 		public int size() { return SwissMap.this.size(); }
+
+		@Override
+		public Spliterator<V> spliterator() {
+			return new ValueSpliterator();
+		}
 	}
 
 	private final class EntryView extends java.util.AbstractSet<Entry<K, V>> {
+		private final boolean sequential;
+
+		EntryView(boolean sequential) {
+			this.sequential = sequential;
+		}
+
 		@Override
 		public Iterator<Entry<K, V>> iterator() {
-			return new EntryIter();
+			return new EntryIter(sequential);
 		}
 
 		@Override
 		public int size() { return SwissMap.this.size(); }
+
+		@Override
+		public Spliterator<Entry<K, V>> spliterator() {
+			return new EntrySpliterator();
+		}
 	}
 }
 
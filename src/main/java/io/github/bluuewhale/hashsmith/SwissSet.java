@@ -5,30 +5,17 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.concurrent.ThreadLocalRandom;
-
-import jdk.incubator.vector.ByteVector;
-import jdk.incubator.vector.VectorSpecies;
+import java.util.function.Consumer;
 
 /**
- * SwissTable-inspired hash set (SIMD probing only).
+ * SwissTable-inspired hash set with SWAR control-word probing (same layout as {@link SwissMap}).
  * Null elements are allowed (mirrors {@link java.util.HashSet}).
+ * See {@link SwissSimdSet} for the Vector API variant.
  */
 public class SwissSet<E> extends AbstractSet<E> {
 
-	/* Control byte values */
-	private static final byte EMPTY = (byte) 0x80;    // empty slot
-	private static final byte DELETED = (byte) 0xFE;  // tombstone
-	private static final byte SENTINEL = (byte) 0xFF; // padding for SIMD overrun
-
-	/* Hash split masks */
-	private static final int H1_MASK = 0xFFFFFF80;
-	private static final int H2_MASK = 0x0000007F;
-
-	/* Group sizing */
-	private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
-	private static final int DEFAULT_GROUP_SIZE = SPECIES.length();
-
 	/* Defaults */
 	private static final int DEFAULT_INITIAL_CAPACITY = 16;
 	private static final double DEFAULT_LOAD_FACTOR = 0.875d;
@@ -37,8 +24,7 @@ public class SwissSet<E> extends AbstractSet<E> {
 	private final double loadFactor;
 	// Fixed per-instance seed (do not re-randomize per iterator creation)
 	private final long iterationSeed;
-	private int groupMask; // cached (nGroups - 1), valid because nGroups is power-of-two
-	private byte[] ctrl;   // control bytes (EMPTY/DELETED/H2 fingerprint)
+	private long[] ctrl;   // each long packs 8 control bytes (EMPTY/DELETED/H2 fingerprint)
 	private Object[] keys; // key storage
 	private int capacity;
 	private int size;
@@ -61,14 +47,10 @@ public class SwissSet<E> extends AbstractSet<E> {
 	}
 
 	private void init(int desiredCapacity) {
-		int nGroups = Math.max(1, (desiredCapacity + DEFAULT_GROUP_SIZE - 1) / DEFAULT_GROUP_SIZE);
-		nGroups = Utils.ceilPow2(nGroups);
-		this.groupMask = nGroups - 1;
-		this.capacity = nGroups * DEFAULT_GROUP_SIZE;
-
-		this.ctrl = new byte[capacity + DEFAULT_GROUP_SIZE]; // sentinel padding
-		Arrays.fill(this.ctrl, EMPTY);
-		Arrays.fill(this.ctrl, capacity, this.ctrl.length, SENTINEL);
+		int nGroups = Swar.groupsFor(desiredCapacity);
+		this.capacity = nGroups * Swar.GROUP_SIZE;
+		this.ctrl = new long[nGroups];
+		Arrays.fill(this.ctrl, Swar.EMPTY_BROADCAST);
 		this.keys = new Object[capacity];
 		this.size = 0;
 		this.tombstones = 0;
@@ -94,30 +76,32 @@ public class SwissSet<E> extends AbstractSet<E> {
 	@Override
 	public boolean add(E e) {
 		maybeRehash();
-		int h = hash(e);
-		int h1 = h1(h);
-		byte h2 = h2(h);
-		int mask = groupMask;
+		int h = Hashing.smearedHash(e);
+		int h1 = Swar.h1(h);
+		byte h2 = Swar.h2(h);
+		long h2Broadcast = Swar.broadcast(h2);
+		long[] ctrl = this.ctrl; // local snapshot
+		Object[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1;
 		int firstTombstone = -1;
 		int g = h1 & mask;
 		int step = 0; // triangular probing step over groups
 		for (;;) {
-			int base = g * DEFAULT_GROUP_SIZE;
-			ByteVector v = loadCtrlVector(base);
-			long eqMask = v.eq(h2).toLong();
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
 			while (eqMask != 0) {
-				int bit = Long.numberOfTrailingZeros(eqMask);
-				int idx = base + bit;
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
 				if (Objects.equals(keys[idx], e)) return false;
 				eqMask &= eqMask - 1; // clear LSB
 			}
 			if (firstTombstone < 0) {
-				long delMask = v.eq(DELETED).toLong();
-				if (delMask != 0) firstTombstone = base + Long.numberOfTrailingZeros(delMask);
+				int delMask = Swar.eqMask(word, Swar.DELETED_BROADCAST);
+				if (delMask != 0) firstTombstone = base + Integer.numberOfTrailingZeros(delMask);
 			}
-			long emptyMask = v.eq(EMPTY).toLong();
+			int emptyMask = Swar.eqMask(word, Swar.EMPTY_BROADCAST);
 			if (emptyMask != 0) {
-				int idx = base + Long.numberOfTrailingZeros(emptyMask);
+				int idx = base + Integer.numberOfTrailingZeros(emptyMask);
 				int target = (firstTombstone >= 0) ? firstTombstone : idx;
 				insertAt(target, e, h2);
 				return true;
@@ -130,7 +114,7 @@ public class SwissSet<E> extends AbstractSet<E> {
 	public boolean remove(Object o) {
 		int idx = findIndex(o);
 		if (idx < 0) return false;
-		ctrl[idx] = DELETED;
+		Swar.setCtrlAt(ctrl, idx, Swar.DELETED);
 		keys[idx] = null;
 		size--;
 		tombstones++;
@@ -140,8 +124,7 @@ public class SwissSet<E> extends AbstractSet<E> {
 
 	@Override
 	public void clear() {
-		Arrays.fill(ctrl, 0, capacity, EMPTY);
-		Arrays.fill(ctrl, capacity, ctrl.length, SENTINEL);
+		Arrays.fill(ctrl, Swar.EMPTY_BROADCAST);
 		Arrays.fill(keys, null);
 		size = 0;
 		tombstones = 0;
@@ -153,80 +136,51 @@ public class SwissSet<E> extends AbstractSet<E> {
 		return new KeyIter();
 	}
 
-	/* Internal helpers */
-	private int hash(Object key) {
-		return Hashing.smearedHash(key);
-	}
-
-	private int h1(int hash) {
-		return (hash & H1_MASK) >>> 7;
-	}
-
-	private byte h2(int hash) {
-		return (byte) (hash & H2_MASK);
-	}
-
-	private boolean isEmpty(byte c) { return c == EMPTY; }
-	private boolean isDeleted(byte c) { return c == DELETED; }
-	private boolean isFull(byte c) { return c >= 0 && c <= H2_MASK; }
-
-	/* SIMD helpers: load once per group and reuse the ByteVector for multiple comparisons */
-	private ByteVector loadCtrlVector(int base) {
-		return ByteVector.fromArray(SPECIES, ctrl, base);
+	@Override
+	public Spliterator<E> spliterator() {
+		return new KeySpliterator(ctrl, keys, 0, ctrl.length, size, true);
 	}
 
+	/* Resize/rehash */
 	private void maybeRehash() {
 		boolean overMaxLoad = (size + tombstones) >= maxLoad;
 		boolean tooManyTombstones = tombstones > (size >>> 1);
 		if (!overMaxLoad && !tooManyTombstones) return;
 
-		int newCap = overMaxLoad ? Math.max(capacity * 2, DEFAULT_GROUP_SIZE) : capacity;
+		int newCap = overMaxLoad ? Math.max(capacity * 2, Swar.GROUP_SIZE) : capacity;
 		rehash(newCap);
 	}
 
 	private void rehash(int newCapacity) {
-		byte[] oldCtrl = this.ctrl;
+		long[] oldCtrl = this.ctrl;
 		Object[] oldKeys = this.keys;
-		int oldCap = (oldCtrl == null) ? 0 : oldCtrl.length - DEFAULT_GROUP_SIZE;
-
-		int desiredGroups = Math.max(1, (Math.max(newCapacity, DEFAULT_GROUP_SIZE) + DEFAULT_GROUP_SIZE - 1) / DEFAULT_GROUP_SIZE);
-		desiredGroups = Utils.ceilPow2(desiredGroups);
-		this.groupMask = desiredGroups - 1;
-		this.capacity = desiredGroups * DEFAULT_GROUP_SIZE;
-		this.ctrl = new byte[this.capacity + DEFAULT_GROUP_SIZE];
-		Arrays.fill(this.ctrl, EMPTY);
-		Arrays.fill(this.ctrl, capacity, this.ctrl.length, SENTINEL);
-		this.keys = new Object[this.capacity];
-		this.size = 0;
-		this.tombstones = 0;
-		this.maxLoad = Utils.calcMaxLoad(this.capacity, loadFactor);
-
-		if (oldCtrl == null) return;
-
-		for (int i = 0; i < oldCap; i++) {
-			byte c = oldCtrl[i];
-			if (!isFull(c)) continue;
-			@SuppressWarnings("unchecked")
-			E k = (E) oldKeys[i];
-			int h = hash(k);
-			insertFresh(k, h1(h), h2(h));
+		init(newCapacity);
+
+		for (int g = 0; g < oldCtrl.length; g++) {
+			int full = Swar.fullMask(oldCtrl[g]);
+			int base = g << 3;
+			while (full != 0) {
+				insertFresh(oldKeys[base + Integer.numberOfTrailingZeros(full)]);
+				full &= full - 1;
+			}
 		}
 	}
 
-	private void insertFresh(E key, int h1, byte h2) {
-		int mask = groupMask;
-		int g = h1 & mask;
+	/* fresh-table insertion used only during rehash */
+	private void insertFresh(Object key) {
+		int h = Hashing.smearedHash(key);
+		long[] ctrl = this.ctrl;
+		int mask = ctrl.length - 1;
+		int g = Swar.h1(h) & mask;
 		int step = 0; // triangular probing step over groups
 		for (;;) {
-			int base = g * DEFAULT_GROUP_SIZE;
-			for (int j = 0; j < DEFAULT_GROUP_SIZE; j++) {
-				int idx = base + j;
-				if (isEmpty(ctrl[idx])) {
-					ctrl[idx] = h2;
-					keys[idx] = key;
-					size++;
-					return;
-				}
+			int emptyMask = Swar.eqMask(ctrl[g], Swar.EMPTY_BROADCAST);
+			if (emptyMask != 0) {
+				int idx = (g << 3) + Integer.numberOfTrailingZeros(emptyMask);
+				keys[idx] = key;
+				Swar.setCtrlAt(ctrl, idx, Swar.h2(h));
+				size++;
+				return;
 			}
 			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
 		}
@@ -234,36 +188,32 @@ public class SwissSet<E> extends AbstractSet<E> {
 
 	private int findIndex(Object key) {
 		if (size == 0) return -1;
-		int h = hash(key);
-		int h1 = h1(h);
-		byte h2 = h2(h);
-		int mask = groupMask;
+		int h = Hashing.smearedHash(key);
+		int h1 = Swar.h1(h);
+		long h2Broadcast = Swar.broadcast(Swar.h2(h));
+		long[] ctrl = this.ctrl; // local snapshot
+		Object[] keys = this.keys; // local snapshot
+		int mask = ctrl.length - 1; // Derive mask from the array we index into (ctrl) to help JIT range-check elimination.
 		int g = h1 & mask;
 		int step = 0; // triangular probing step over groups
 		for (;;) {
-			int base = g * DEFAULT_GROUP_SIZE;
-			ByteVector v = loadCtrlVector(base);
-			long eqMask = v.eq(h2).toLong();
+			long word = ctrl[g];
+			int base = g << 3;
+			int eqMask = Swar.eqMask(word, h2Broadcast);
 			while (eqMask != 0) {
-				int bit = Long.numberOfTrailingZeros(eqMask);
-				int idx = base + bit;
-				if (Objects.equals(keys[idx], key)) {
-					return idx;
-				}
-				eqMask &= eqMask - 1;
-			}
-			long emptyMask = v.eq(EMPTY).toLong();
-			if (emptyMask != 0) {
-				return -1;
+				int idx = base + Integer.numberOfTrailingZeros(eqMask);
+				if (Objects.equals(keys[idx], key)) return idx;
+				eqMask &= eqMask - 1; // clear LSB
 			}
+			if (Swar.eqMask(word, Swar.EMPTY_BROADCAST) != 0) return -1;
 			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
 		}
 	}
 
 	private void insertAt(int idx, E key, byte h2) {
-		if (isDeleted(ctrl[idx])) tombstones--;
-		ctrl[idx] = h2;
+		if (Swar.isDeleted(Swar.ctrlAt(ctrl, idx))) tombstones--;
 		keys[idx] = key;
+		Swar.setCtrlAt(ctrl, idx, h2);
 		size++;
 	}
 
@@ -288,7 +238,7 @@ public class SwissSet<E> extends AbstractSet<E> {
 			next = -1;
 			while (iter < capacity) {
 				int idx = (start + (iter++ * step)) & mask;
-				if (isFull(ctrl[idx])) {
+				if (Swar.isFull(Swar.ctrlAt(ctrl, idx))) {
 					next = idx;
 					return;
 				}
@@ -311,8 +261,8 @@ public class SwissSet<E> extends AbstractSet<E> {
 		@Override
 		public void remove() {
 			if (last < 0) throw new IllegalStateException();
-			if (isFull(ctrl[last])) {
-				ctrl[last] = DELETED;
+			if (Swar.isFull(Swar.ctrlAt(ctrl, last))) {
+				Swar.setCtrlAt(ctrl, last, Swar.DELETED);
 				keys[last] = null;
 				size--;
 				tombstones++;
@@ -331,11 +281,91 @@ public class SwissSet<E> extends AbstractSet<E> {
 		}
 	}
 
+	/**
+	 * Spliterator over the group range {@code [group, fence)} of a ctrl snapshot: splits halve the group
+	 * range and traversal walks each ctrl word's FULL lanes with a SWAR mask. Only the root reports
+	 * {@link Spliterator#SIZED}.
+	 */
+	private final class KeySpliterator implements Spliterator<E> {
+		private final long[] ctrl;
+		private final Object[] keys;
+		private final int fence;
+		private int group;
+		private int est;
+		private boolean root;
+		private int pending;     // FULL lanes of the current word not yet visited
+		private int pendingBase; // slot index of lane 0 of the current word
+
+		KeySpliterator(long[] ctrl, Object[] keys, int group, int fence, int est, boolean root) {
+			this.ctrl = ctrl;
+			this.keys = keys;
+			this.group = group;
+			this.fence = fence;
+			this.est = est;
+			this.root = root;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			while (pending == 0) {
+				if (group >= fence) return false;
+				pending = Swar.fullMask(ctrl[group]);
+				pendingBase = group << 3;
+				group++;
+			}
+			int idx = pendingBase + Integer.numberOfTrailingZeros(pending);
+			pending &= pending - 1;
+			action.accept((E) keys[idx]);
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			long[] ctrl = this.ctrl;
+			Object[] keys = this.keys;
+			int base = pendingBase;
+			int full = pending;
+			pending = 0;
+			for (int g = group; ; g++) {
+				while (full != 0) {
+					action.accept((E) keys[base + Integer.numberOfTrailingZeros(full)]);
+					full &= full - 1;
+				}
+				if (g >= fence) break;
+				full = Swar.fullMask(ctrl[g]);
+				base = g << 3;
+			}
+			group = fence;
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			int lo = group;
+			int mid = (lo + fence) >>> 1;
+			if (mid <= lo) return null;
+			group = mid;
+			root = false;
+			est >>>= 1;
+			return new KeySpliterator(ctrl, keys, lo, mid, est, false);
+		}
+
+		@Override
+		public long estimateSize() {
+			return est;
+		}
+
+		@Override
+		public int characteristics() {
+			return root ? DISTINCT | SIZED : DISTINCT;
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private E elementAt(int idx) {
 		return (E) keys[idx];
 	}
-
-	/* Random full-cycle permutation (capacity must be power-of-two) */
 }
-
@@ -1,13 +1,23 @@
 package io.github.bluuewhale.hashsmith;
 
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.Map;
 import java.util.Set;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
 import jdk.incubator.vector.VectorSpecies;
 
 /**
@@ -31,6 +41,12 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 	/* Load factor: similar to Abseil SwissTable (7/8) */
     private static final double DEFAULT_LOAD_FACTOR = 0.875d;
 
+	/* Per-byte CAS on ctrl, used by workers of the parallel rehash to claim slots */
+	private static final VarHandle CTRL_BYTE = MethodHandles.arrayElementVarHandle(byte[].class);
+
+	/* Batched lookups: keys whose probes are in flight together (see getAll) */
+	private static final int BATCH_LANES = 16;
+
 	/* Storage and state */
 	private int numGroups;   // cached group count (updated on init/rehash)
 	private int groupMask;   // cached (numGroups - 1), valid because numGroups is power-of-two
@@ -38,6 +54,9 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 	private Object[] keys;   // key storage
 	private Object[] vals;   // value storage
 	private int tombstones;  // deleted slots
+	private int modCount;    // structural changes; lets compute/merge detect callbacks that mutate the map
+	private int parallelRehashThreshold = Integer.MAX_VALUE; // opt-in, see setParallelRehashThreshold
+	private ForkJoinPool rehashPool;
 
 
 	public SwissSimdMap() {
@@ -114,6 +133,10 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 
 		int desiredGroups = Math.max(1, (Math.max(newCapacity, DEFAULT_GROUP_SIZE) + DEFAULT_GROUP_SIZE - 1) / DEFAULT_GROUP_SIZE);
 		desiredGroups = ceilPow2(desiredGroups);
+		if (oldCtrl != null && size >= parallelRehashThreshold) {
+			rehashParallel(desiredGroups, oldCtrl, oldKeys, oldVals, oldCap);
+			return;
+		}
 		this.numGroups = desiredGroups;
 		this.groupMask = desiredGroups - 1;
 		this.capacity = desiredGroups * DEFAULT_GROUP_SIZE;
@@ -125,6 +148,7 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 		this.size = 0;
 		this.tombstones = 0;
 		this.maxLoad = calcMaxLoad(this.capacity);
+		modCount++;
 
 		if (oldCtrl == null) return;
 
@@ -140,6 +164,79 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 		}
 	}
 
+	/**
+	 * Opt-in parallel rehash: once a resize has at least {@code minEntries} entries to move, the old table is
+	 * split into chunks that are re-inserted concurrently on the common {@link ForkJoinPool}. Disabled by
+	 * default ({@code Integer.MAX_VALUE}).
+	 */
+	public void setParallelRehashThreshold(int minEntries) {
+		setParallelRehashThreshold(minEntries, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Like {@link #setParallelRehashThreshold(int)}, re-inserting on the workers of {@code pool}.
+	 */
+	public void setParallelRehashThreshold(int minEntries, ForkJoinPool pool) {
+		if (minEntries < 1) throw new IllegalArgumentException("minEntries must be >= 1: " + minEntries);
+		this.parallelRehashThreshold = minEntries;
+		this.rehashPool = Objects.requireNonNull(pool);
+	}
+
+	public int getParallelRehashThreshold() {
+		return parallelRehashThreshold;
+	}
+
+	/* Parallel counterpart of rehash: workers claim EMPTY ctrl bytes by CAS; fields are installed after the join. */
+	private void rehashParallel(int groups, byte[] oldCtrl, Object[] oldKeys, Object[] oldVals, int oldCap) {
+		int cap = groups * DEFAULT_GROUP_SIZE;
+		byte[] ctrl = new byte[cap + DEFAULT_GROUP_SIZE];
+		Arrays.fill(ctrl, EMPTY);
+		Arrays.fill(ctrl, cap, ctrl.length, SENTINEL);
+		Object[] keys = new Object[cap];
+		Object[] vals = new Object[cap];
+
+		ForkJoinPool pool = rehashPool;
+		int chunks = Math.min(oldCap / DEFAULT_GROUP_SIZE, pool.getParallelism() * 4);
+		int chunkSlots = ((oldCap / DEFAULT_GROUP_SIZE + chunks - 1) / chunks) * DEFAULT_GROUP_SIZE;
+		Utils.runParallel(pool, chunks, c -> {
+			int from = c * chunkSlots;
+			int to = Math.min(oldCap, from + chunkSlots);
+			for (int i = from; i < to; i++) {
+				if (isFull(oldCtrl[i])) insertClaimed(ctrl, keys, vals, groups - 1, oldKeys[i], oldVals[i]);
+			}
+		});
+
+		this.numGroups = groups;
+		this.groupMask = groups - 1;
+		this.capacity = cap;
+		this.keys = keys;
+		this.vals = vals;
+		this.ctrl = ctrl;
+		this.tombstones = 0;
+		this.maxLoad = calcMaxLoad(cap);
+		modCount++;
+	}
+
+	/* Parallel-rehash insert: claims an EMPTY slot with a CAS on its ctrl byte, then stores the entry. */
+	private void insertClaimed(byte[] ctrl, Object[] keys, Object[] vals, int mask, Object key, Object value) {
+		int h = hash(key);
+		byte h2 = h2(h);
+		int g = h1(h) & mask;
+		int step = 0;
+		for (;;) {
+			int base = g * DEFAULT_GROUP_SIZE;
+			for (int j = 0; j < DEFAULT_GROUP_SIZE; j++) {
+				int idx = base + j;
+				if ((byte) CTRL_BYTE.getAcquire(ctrl, idx) == EMPTY && CTRL_BYTE.compareAndSet(ctrl, idx, EMPTY, h2)) {
+					keys[idx] = key;
+					vals[idx] = value;
+					return;
+				}
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
 	/* fresh-table insertion used only during rehash */
 	private void insertFresh(K key, V value, int h1, byte h2) {
 		int mask = groupMask;
@@ -200,13 +297,111 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 		if (idx < 0) return null;
 		@SuppressWarnings("unchecked")
 		V old = (V) vals[idx];
+		removeAt(idx);
+		return old;
+	}
+
+	private void removeAt(int idx) {
 		ctrl[idx] = DELETED;
 		keys[idx] = null;
 		vals[idx] = null;
 		size--;
 		tombstones++;
+		modCount++;
 		maybeRehash();
-		return old;
+	}
+
+	/**
+	 * Batched {@link #get}: stores the value mapped to {@code keys[i]} (or {@code null}) in {@code out[i]}.
+	 * <p>
+	 * The whole batch is hashed first and probes are then walked {@value #BATCH_LANES} keys at a time, one
+	 * phase per pass (first ctrl group, first candidate key, resolve), so the cache misses of independent
+	 * keys overlap. Use {@link #containsAll} to tell a {@code null} value from a missing key.
+	 *
+	 * @return the number of keys found
+	 * @throws NullPointerException if any key is null
+	 * @throws IllegalArgumentException if {@code out} is shorter than {@code keys}
+	 */
+	public int getAll(Object[] keys, V[] out) {
+		checkBatch(keys.length, out.length);
+		int[] slots = findIndexes(keys);
+		int hits = 0;
+		for (int i = 0; i < keys.length; i++) {
+			int s = slots[i];
+			if (s >= 0) {
+				out[i] = castValue(vals[s]);
+				hits++;
+			} else {
+				out[i] = null;
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * Batched {@link #containsKey}: stores whether {@code keys[i]} is present in {@code out[i]}.
+	 *
+	 * @return the number of keys found
+	 * @throws NullPointerException if any key is null
+	 * @throws IllegalArgumentException if {@code out} is shorter than {@code keys}
+	 */
+	public int containsAll(Object[] keys, boolean[] out) {
+		checkBatch(keys.length, out.length);
+		int[] slots = findIndexes(keys);
+		int hits = 0;
+		for (int i = 0; i < keys.length; i++) {
+			boolean found = slots[i] >= 0;
+			out[i] = found;
+			if (found) hits++;
+		}
+		return hits;
+	}
+
+	private static void checkBatch(int keys, int out) {
+		if (out < keys) throw new IllegalArgumentException("out.length " + out + " < keys.length " + keys);
+	}
+
+	/* Hashes the whole batch, then resolves it phase by phase; returns a slot or -1 per key. */
+	private int[] findIndexes(Object[] keys) {
+		int n = keys.length;
+		int[] slots = new int[n];
+		for (int i = 0; i < n; i++) slots[i] = hash(keys[i]);
+		int mask = groupMask;
+		int[] laneHash = new int[BATCH_LANES];
+		long[] laneEq = new long[BATCH_LANES];
+		Object[] laneKey = new Object[BATCH_LANES];
+		boolean[] laneEnds = new boolean[BATCH_LANES];
+		for (int b = 0; b < n; b += BATCH_LANES) {
+			int m = Math.min(BATCH_LANES, n - b);
+			// Phase 1: first ctrl group of each probe.
+			for (int j = 0; j < m; j++) {
+				int h = slots[b + j];
+				ByteVector v = loadCtrlVector((h1(h) & mask) * DEFAULT_GROUP_SIZE);
+				laneHash[j] = h;
+				laneEq[j] = v.eq(h2(h)).toLong();
+				laneEnds[j] = v.eq(EMPTY).anyTrue();
+			}
+			// Phase 2: candidate key behind the first tag match.
+			for (int j = 0; j < m; j++) {
+				long eq = laneEq[j];
+				int slot = (eq != 0) ? (h1(laneHash[j]) & mask) * DEFAULT_GROUP_SIZE + Long.numberOfTrailingZeros(eq) : -1;
+				slots[b + j] = slot;
+				laneKey[j] = (slot >= 0) ? this.keys[slot] : null;
+			}
+			// Phase 3: resolve, falling back to a full probe when the first group is not conclusive.
+			for (int j = 0; j < m; j++) {
+				int i = b + j;
+				Object key = keys[i];
+				if (slots[i] >= 0) {
+					Object k = laneKey[j];
+					if (k == key || k.equals(key)) continue;
+				} else if (laneEnds[j]) {
+					continue; // no tag match and the probe ends in this group: miss
+				}
+				slots[i] = findIndexHashed(key, laneHash[j]);
+			}
+		}
+		return slots;
 	}
 
 	/**
@@ -222,6 +417,8 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 		ctrl[idx] = DELETED;
 		keys[idx] = null;
 		vals[idx] = null;
+		size--;
+		tombstones++;
 		rehash(capacity);
 		return old;
 	}
@@ -295,6 +492,152 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
         }
     }
 
+	/* Single-probe read-modify-write: one pass finds the key or the slot it would be inserted into. */
+	@Override
+	public V getOrDefault(Object key, V defaultValue) {
+		int idx = findIndex(key);
+		return (idx >= 0) ? castValue(vals[idx]) : defaultValue;
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		int h = hash(key);
+		int slot = findSlot(key, h);
+		if (slot >= 0) {
+			V old = castValue(vals[slot]);
+			if (old == null) vals[slot] = value;
+			return old;
+		}
+		insertNew(~slot, key, value, h);
+		return null;
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		Objects.requireNonNull(mappingFunction);
+		int h = hash(key);
+		int slot = findSlot(key, h);
+		if (slot >= 0) {
+			V old = castValue(vals[slot]);
+			if (old != null) return old;
+		}
+		int mc = modCount;
+		V v = mappingFunction.apply(key);
+		if (mc != modCount) throw new ConcurrentModificationException();
+		if (v == null) return null;
+		if (slot >= 0) vals[slot] = v;
+		else insertNew(~slot, key, v, h);
+		return v;
+	}
+
+	@Override
+	public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(remappingFunction);
+		int idx = findIndex(key);
+		if (idx < 0) return null;
+		V old = castValue(vals[idx]);
+		if (old == null) return null;
+		int mc = modCount;
+		V v = remappingFunction.apply(key, old);
+		if (mc != modCount) throw new ConcurrentModificationException();
+		if (v == null) removeAt(idx);
+		else vals[idx] = v;
+		return v;
+	}
+
+	@Override
+	public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(remappingFunction);
+		int h = hash(key);
+		int slot = findSlot(key, h);
+		V old = (slot >= 0) ? castValue(vals[slot]) : null;
+		int mc = modCount;
+		V v = remappingFunction.apply(key, old);
+		if (mc != modCount) throw new ConcurrentModificationException();
+		return storeAt(slot, key, v, h);
+	}
+
+	@Override
+	public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(remappingFunction);
+		int h = hash(key);
+		int slot = findSlot(key, h);
+		V old = (slot >= 0) ? castValue(vals[slot]) : null;
+		V v;
+		if (old == null) {
+			v = value;
+		} else {
+			int mc = modCount;
+			v = remappingFunction.apply(old, value);
+			if (mc != modCount) throw new ConcurrentModificationException();
+		}
+		return storeAt(slot, key, v, h);
+	}
+
+	/* Applies a compute/merge result to a findSlot result: null removes, otherwise overwrite or insert. */
+	private V storeAt(int slot, K key, V v, int h) {
+		if (v == null) {
+			if (slot >= 0) removeAt(slot);
+		} else if (slot >= 0) {
+			vals[slot] = v;
+		} else {
+			insertNew(~slot, key, v, h);
+		}
+		return v;
+	}
+
+	/**
+	 * Inserts an absent key at {@code slot} (from {@link #findSlot}). Only filling an EMPTY slot consumes
+	 * load budget, so the table is grown (and the slot re-probed) only in that case.
+	 */
+	private void insertNew(int slot, K key, V value, int h) {
+		if (isEmpty(ctrl[slot]) && size + tombstones >= maxLoad) {
+			maybeRehash();
+			slot = ~findSlot(key, h);
+		}
+		insertAt(slot, key, value, h2(h));
+	}
+
+	/**
+	 * Combined lookup: returns the slot holding {@code key}, or {@code ~slot} of the first tombstone/empty slot
+	 * on its probe sequence (where {@code putVal} would insert it).
+	 */
+	private int findSlot(Object key, int h) {
+		int h1 = h1(h);
+		byte h2 = h2(h);
+		int mask = groupMask;
+		int firstTombstone = -1;
+		int visitedGroups = 0;
+		int g = h1 & mask; // optimized modulo operation (same as h1 % nGroups)
+		int step = 0; // triangular probing step over groups
+		for (;;) {
+			int base = g * DEFAULT_GROUP_SIZE;
+			ByteVector v = loadCtrlVector(base);
+			long eqMask = v.eq(h2).toLong();
+			while (eqMask != 0) {
+				int idx = base + Long.numberOfTrailingZeros(eqMask);
+				Object k = keys[idx];
+				if (k == key || k.equals(key)) return idx;
+				eqMask &= eqMask - 1; // clear LSB
+			}
+			if (firstTombstone < 0) {
+				long delMask = v.eq(DELETED).toLong();
+				if (delMask != 0) firstTombstone = base + Long.numberOfTrailingZeros(delMask);
+			}
+			long emptyMask = v.eq(EMPTY).toLong();
+			if (emptyMask != 0) {
+				int idx = base + Long.numberOfTrailingZeros(emptyMask);
+				return ~((firstTombstone >= 0) ? firstTombstone : idx);
+			}
+			if (++visitedGroups >= numGroups) {
+				if (firstTombstone >= 0) return ~firstTombstone;
+				throw new IllegalStateException("Probe cycle exhausted; table appears full of tombstones");
+			}
+			g = (g + (++step)) & mask; // triangular (quadratic) probing over groups
+		}
+	}
+
 	@Override
 	public void clear() {
 		Arrays.fill(ctrl, 0, capacity, EMPTY);
@@ -304,6 +647,7 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 		size = 0;
 		tombstones = 0;
 		maxLoad = calcMaxLoad(capacity);
+		modCount++;
 	}
 
 	@Override
@@ -318,7 +662,52 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 
 	@Override
 	public Set<Entry<K, V>> entrySet() {
-		return new EntryView();
+		return new EntryView(false);
+	}
+
+	/**
+	 * Same view as {@link #entrySet()}, but its iterator visits entries in physical slot order, one ctrl group
+	 * at a time, instead of the randomized stride. Large tables are then read linearly, which the hardware
+	 * prefetcher can follow.
+	 */
+	public Set<Entry<K, V>> entrySetSequential() {
+		return new EntryView(true);
+	}
+
+	/**
+	 * Returns a {@link MapCursor} over this map. It visits mappings in slot order, taking each group's FULL
+	 * lanes from one vector compare, and allocates nothing per mapping.
+	 */
+	public MapCursor<K, V> cursor() {
+		return new Cursor();
+	}
+
+	/**
+	 * Visits every mapping in slot order, one group per vector compare, without allocating entries. Throws
+	 * {@link ConcurrentModificationException} if {@code action} structurally modifies the map.
+	 */
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		Objects.requireNonNull(action);
+		int mc = modCount;
+		byte[] ctrl = this.ctrl;
+		Object[] keys = this.keys;
+		Object[] vals = this.vals;
+		for (int g = 0, n = numGroups; g < n; g++) {
+			int base = g * DEFAULT_GROUP_SIZE;
+			long full = fullMask(ctrl, base);
+			while (full != 0) {
+				int idx = base + Long.numberOfTrailingZeros(full);
+				action.accept(castKey(keys[idx]), castValue(vals[idx]));
+				full &= full - 1;
+			}
+			if (modCount != mc) throw new ConcurrentModificationException();
+		}
+	}
+
+	/* Bitmask of the FULL lanes of the group starting at {@code base}. */
+	private static long fullMask(byte[] ctrl, int base) {
+		return ByteVector.fromArray(SPECIES, ctrl, base).compare(VectorOperators.GE, (byte) 0).toLong();
 	}
 
 	/* lookup utilities */
@@ -327,6 +716,10 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 		// Disallow null keys even on empty maps for consistent Map semantics in this project.
 		int h = hashNonNull(key);
 		if (size == 0) return -1;
+		return findIndexHashed(key, h);
+	}
+
+	private int findIndexHashed(Object key, int h) {
 		int h1 = h1(h);
 		byte h2 = h2(h);
 		int mask = groupMask;
@@ -365,6 +758,7 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 		vals[idx] = value;
 		ctrl[idx] = h2;
 		size++;
+		modCount++;
 		return null;
 	}
 
@@ -387,14 +781,23 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 
 	/* iterator base */
 	private abstract class BaseIter<T> implements Iterator<T> {
+		private final boolean sequential;
 		private final int start;
 		private final int step;
 		private final int mask;
 		private int iter = 0;
+		private int group;        // sequential mode: next group to scan
+		private long full;         // sequential mode: FULL lanes of the current group not yet visited
+		private int base;         // sequential mode: slot index of lane 0 of the current group
 		private int next = -1;
 		private int last = -1;
 
 		BaseIter() {
+			this(false);
+		}
+
+		BaseIter(boolean sequential) {
+			this.sequential = sequential;
 			RandomCycle cycle = new RandomCycle(capacity, iterationSeed);
 			this.start = cycle.start;
 			this.step = cycle.step;
@@ -402,7 +805,24 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 			advance();
 		}
 
+		/* Physical slot order: one vector compare per group, then its FULL lanes low to high. */
+		private int advanceSequential() {
+			while (full == 0) {
+				if (group >= numGroups) return -1;
+				base = group * DEFAULT_GROUP_SIZE;
+				full = fullMask(ctrl, base);
+				group++;
+			}
+			int idx = base + Long.numberOfTrailingZeros(full);
+			full &= full - 1;
+			return idx;
+		}
+
 		private void advance() {
+			if (sequential) {
+				next = advanceSequential();
+				return;
+			}
 			next = -1;
 			while (iter < capacity) {
 				// & mask == mod capacity; iter grows, step scrambles the visit order without extra buffers.
@@ -436,6 +856,7 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 				vals[last] = null;
 				size--;
 				tombstones++;
+				modCount++;
 			}
 			last = -1;
 		}
@@ -456,6 +877,9 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 	}
 
 	private class EntryIter extends BaseIter<Entry<K, V>> {
+		EntryIter() { super(); }
+		EntryIter(boolean sequential) { super(sequential); }
+
 		@Override
 		public Entry<K, V> next() {
 			int idx = nextIndex();
@@ -463,6 +887,68 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 		}
 	}
 
+	private final class Cursor implements MapCursor<K, V> {
+		private int group;        // next group to load
+		private long full;        // FULL lanes of the current group not yet visited
+		private int base;         // slot index of lane 0 of the current group
+		private int idx = -1;     // current slot, -1 when not positioned on a mapping
+		private int expectedModCount = modCount;
+
+		@Override
+		public boolean advance() {
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			while (full == 0) {
+				if (group >= numGroups) {
+					idx = -1;
+					return false;
+				}
+				base = group * DEFAULT_GROUP_SIZE;
+				full = fullMask(ctrl, base);
+				group++;
+			}
+			idx = base + Long.numberOfTrailingZeros(full);
+			full &= full - 1;
+			return true;
+		}
+
+		private int current() {
+			if (idx < 0) throw new IllegalStateException();
+			return idx;
+		}
+
+		@Override
+		public K key() {
+			return castKey(keys[current()]);
+		}
+
+		@Override
+		public V value() {
+			return castValue(vals[current()]);
+		}
+
+		@Override
+		public V setValue(V value) {
+			int i = current();
+			V old = castValue(vals[i]);
+			vals[i] = value;
+			return old;
+		}
+
+		@Override
+		public void remove() {
+			int i = current();
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			// Tombstone only: a rehash here would move the slots the cursor has yet to visit.
+			ctrl[i] = DELETED;
+			keys[i] = null;
+			vals[i] = null;
+			size--;
+			tombstones++;
+			expectedModCount = ++modCount;
+			idx = -1;
+		}
+	}
+
 	private class EntryRef implements Entry<K, V> {
 		private final int idx;
 		EntryRef(int idx) { this.idx = idx; }
@@ -498,6 +984,139 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 		}
 	}
 
+	/**
+	 * Spliterator over the group range {@code [group, fence)} of a ctrl snapshot; each group's FULL lanes come
+	 * from one vector compare. Only the root reports {@link Spliterator#SIZED}.
+	 */
+	private abstract class BaseSpliterator<T> implements Spliterator<T> {
+		final byte[] ctrl;
+		final Object[] keys;
+		final Object[] vals;
+		private final int fence;
+		private final int expectedModCount;
+		private final int characteristics;
+		private int group;
+		private int est;
+		private boolean root;
+		private long pending;    // FULL lanes of the current group not yet visited
+		private int pendingBase; // slot index of lane 0 of the current group
+
+		BaseSpliterator(int characteristics) {
+			this.ctrl = SwissSimdMap.this.ctrl;
+			this.keys = SwissSimdMap.this.keys;
+			this.vals = SwissSimdMap.this.vals;
+			this.fence = numGroups;
+			this.est = size;
+			this.root = true;
+			this.expectedModCount = modCount;
+			this.characteristics = characteristics;
+		}
+
+		BaseSpliterator(BaseSpliterator<T> parent, int lo, int hi) {
+			this.ctrl = parent.ctrl;
+			this.keys = parent.keys;
+			this.vals = parent.vals;
+			this.group = lo;
+			this.fence = hi;
+			this.est = parent.est;
+			this.expectedModCount = parent.expectedModCount;
+			this.characteristics = parent.characteristics;
+		}
+
+		abstract T elementAt(int idx);
+
+		abstract BaseSpliterator<T> split(int lo, int hi);
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			Objects.requireNonNull(action);
+			while (pending == 0) {
+				if (group >= fence) return false;
+				pendingBase = group * DEFAULT_GROUP_SIZE;
+				pending = fullMask(ctrl, pendingBase);
+				group++;
+			}
+			int idx = pendingBase + Long.numberOfTrailingZeros(pending);
+			pending &= pending - 1;
+			action.accept(elementAt(idx));
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			Objects.requireNonNull(action);
+			int base = pendingBase;
+			long full = pending;
+			pending = 0;
+			for (int g = group; ; g++) {
+				while (full != 0) {
+					action.accept(elementAt(base + Long.numberOfTrailingZeros(full)));
+					full &= full - 1;
+				}
+				if (g >= fence) break;
+				base = g * DEFAULT_GROUP_SIZE;
+				full = fullMask(ctrl, base);
+			}
+			group = fence;
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int lo = group;
+			int mid = (lo + fence) >>> 1;
+			if (mid <= lo) return null;
+			group = mid;
+			root = false;
+			est >>>= 1;
+			return split(lo, mid);
+		}
+
+		@Override
+		public long estimateSize() {
+			return est;
+		}
+
+		@Override
+		public int characteristics() {
+			return root ? characteristics | SIZED : characteristics;
+		}
+	}
+
+	private final class KeySpliterator extends BaseSpliterator<K> {
+		KeySpliterator() { super(DISTINCT | NONNULL); }
+		KeySpliterator(KeySpliterator parent, int lo, int hi) { super(parent, lo, hi); }
+
+		@Override
+		K elementAt(int idx) { return castKey(keys[idx]); }
+
+		@Override
+		BaseSpliterator<K> split(int lo, int hi) { return new KeySpliterator(this, lo, hi); }
+	}
+
+	private final class ValueSpliterator extends BaseSpliterator<V> {
+		ValueSpliterator() { super(0); }
+		ValueSpliterator(ValueSpliterator parent, int lo, int hi) { super(parent, lo, hi); }
+
+		@Override
+		V elementAt(int idx) { return castValue(vals[idx]); }
+
+		@Override
+		BaseSpliterator<V> split(int lo, int hi) { return new ValueSpliterator(this, lo, hi); }
+	}
+
+	private final class EntrySpliterator extends BaseSpliterator<Entry<K, V>> {
+		EntrySpliterator() { super(DISTINCT | NONNULL); }
+		EntrySpliterator(EntrySpliterator parent, int lo, int hi) { super(parent, lo, hi); }
+
+		@Override
+		Entry<K, V> elementAt(int idx) { return new EntryRef(idx); }
+
+		@Override
+		BaseSpliterator<Entry<K, V>> split(int lo, int hi) { return new EntrySpliterator(this, lo, hi); }
+	}
+
 	private class KeyView extends java.util.AbstractSet<K> {
 		@Override
 		public int size() { return size; }
@@ -517,6 +1136,7 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 			vals[idx] = null;
 			size--;
 			tombstones++;
+			modCount++;
 			// NOTE: do not rehash from iterator.remove().
 			// Some JDK algorithms (e.g. AbstractCollection.retainAll) prefetch iterator state (next index) before calling remove().
 			// Rehash would rebuild ctrl/keys and can invalidate that prefetched index, causing the iterator to yield null/empty slots.
@@ -525,6 +1145,9 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 
 		@Override
 		public Iterator<K> iterator() { return new KeyIter(); }
+
+		@Override
+		public Spliterator<K> spliterator() { return new KeySpliterator(); }
 	}
 
 	private class ValuesView extends java.util.AbstractCollection<V> {
@@ -539,9 +1162,18 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 
 		@Override
 		public Iterator<V> iterator() { return new ValueIter(); }
+
+		@Override
+		public Spliterator<V> spliterator() { return new ValueSpliterator(); }
 	}
 
 	private class EntryView extends java.util.AbstractSet<Entry<K, V>> {
+		private final boolean sequential;
+
+		EntryView(boolean sequential) {
+			this.sequential = sequential;
+		}
+
 		@Override
 		public int size() { return size; }
 
@@ -565,6 +1197,7 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 			vals[idx] = null;
 			size--;
 			tombstones++;
+			modCount++;
 			// NOTE: do not rehash from iterator.remove().
 			// Some JDK algorithms (e.g. AbstractCollection.retainAll) prefetch iterator state (next index) before calling remove().
 			// Rehash would rebuild ctrl/keys and can invalidate that prefetched index, causing the iterator to yield null/empty slots.
@@ -572,6 +1205,9 @@ public class SwissSimdMap<K, V> extends AbstractArrayMap<K, V> {
 		}
 
 		@Override
-		public Iterator<Entry<K, V>> iterator() { return new EntryIter(); }
+		public Iterator<Entry<K, V>> iterator() { return new EntryIter(sequential); }
+
+		@Override
+		public Spliterator<Entry<K, V>> spliterator() { return new EntrySpliterator(); }
 	}
 }
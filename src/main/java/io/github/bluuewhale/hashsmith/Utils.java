@@ -1,7 +1,10 @@
 package io.github.bluuewhale.hashsmith;
 
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
 
 /**
  * Shared utilities for open-addressed structures.
@@ -19,6 +22,48 @@ final class Utils {
 		return Integer.highestOneBit(x - 1) << 1;
 	}
 
+	/* long-capacity variants for tables that are not bounded by Java array length */
+	static long calcMaxLoad(long cap, double loadFactor) {
+		long ml = (long) (cap * loadFactor);
+		return Math.max(1, Math.min(ml, cap - 1));
+	}
+
+	static long ceilPow2(long x) {
+		if (x <= 1) return 1;
+		return Long.highestOneBit(x - 1) << 1;
+	}
+
+	/**
+	 * Runs {@code body(0..tasks-1)} on {@code pool} and waits; an exception thrown by a task is rethrown here.
+	 */
+	static void runParallel(ForkJoinPool pool, int tasks, IntConsumer body) {
+		if (tasks > 0) pool.invoke(new RangeTask(0, tasks, body));
+	}
+
+	private static final class RangeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+		private final transient IntConsumer body;
+
+		RangeTask(int from, int to, IntConsumer body) {
+			this.from = from;
+			this.to = to;
+			this.body = body;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				body.accept(from);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new RangeTask(from, mid, body), new RangeTask(mid, to, body));
+		}
+	}
+
 	static void validateLoadFactor(double lf) {
 		if (!(lf > 0.0d && lf < 1.0d)) {
 			throw new IllegalArgumentException("loadFactor must be in (0,1): " + lf);
@@ -0,0 +1,136 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class BatchLookupTest {
+
+	/* Uniform view over the three batch-capable maps. */
+	interface BatchMap<K, V> {
+		Map<K, V> map();
+		int getAll(Object[] keys, V[] out);
+		int containsAll(Object[] keys, boolean[] out);
+	}
+
+	record Spec(String name, java.util.function.Supplier<BatchMap<Object, Object>> factory) {
+		@Override public String toString() { return name; }
+	}
+
+	private static Stream<Spec> specs() {
+		return Stream.of(
+			new Spec("SwissMap", () -> {
+				var m = new SwissMap<Object, Object>();
+				return new BatchMap<>() {
+					public Map<Object, Object> map() { return m; }
+					public int getAll(Object[] keys, Object[] out) { return m.getAll(keys, out); }
+					public int containsAll(Object[] keys, boolean[] out) { return m.containsAll(keys, out); }
+				};
+			}),
+			new Spec("SwissSimdMap", () -> {
+				var m = new SwissSimdMap<Object, Object>();
+				return new BatchMap<>() {
+					public Map<Object, Object> map() { return m; }
+					public int getAll(Object[] keys, Object[] out) { return m.getAll(keys, out); }
+					public int containsAll(Object[] keys, boolean[] out) { return m.containsAll(keys, out); }
+				};
+			}),
+			new Spec("ConcurrentSwissMap", () -> {
+				var m = new ConcurrentSwissMap<Object, Object>();
+				return new BatchMap<>() {
+					public Map<Object, Object> map() { return m; }
+					public int getAll(Object[] keys, Object[] out) { return m.getAll(keys, out); }
+					public int containsAll(Object[] keys, boolean[] out) { return m.containsAll(keys, out); }
+				};
+			})
+		);
+	}
+
+	/* Key with a constant hash code: every lookup collides and takes the full-probe fallback. */
+	private record Colliding(int id) {
+		@Override public int hashCode() { return 42; }
+	}
+
+	@ParameterizedTest(name = "{0} batchMatchesScalar")
+	@MethodSource("specs")
+	void batchMatchesScalar(Spec spec) {
+		var b = spec.factory().get();
+		var m = b.map();
+		var rnd = new Random(1);
+		for (int i = 0; i < 50_000; i++) m.put(rnd.nextInt(100_000), i);
+		m.put(-1, null);
+		for (int i = 0; i < 20; i++) m.put(new Colliding(i), "c" + i);
+
+		Object[] keys = new Object[1_000];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = switch (i % 10) {
+				case 0 -> new Colliding(i % 40); // half hit, half miss
+				case 1 -> -1;
+				default -> rnd.nextInt(100_000);
+			};
+		}
+
+		Object[] vals = new Object[keys.length];
+		boolean[] found = new boolean[keys.length];
+		int hits = b.getAll(keys, vals);
+		assertEquals(hits, b.containsAll(keys, found));
+
+		int expectedHits = 0;
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals(m.get(keys[i]), vals[i], "value of " + keys[i]);
+			assertEquals(m.containsKey(keys[i]), found[i], "presence of " + keys[i]);
+			if (found[i]) expectedHits++;
+		}
+		assertEquals(expectedHits, hits);
+	}
+
+	@ParameterizedTest(name = "{0} emptyMapAndEmptyBatch")
+	@MethodSource("specs")
+	void emptyMapAndEmptyBatch(Spec spec) {
+		var b = spec.factory().get();
+		Object[] out = { "stale", "stale" };
+		boolean[] found = { true, true };
+
+		assertEquals(0, b.getAll(new Object[] { 1, 2 }, out));
+		assertEquals(0, b.containsAll(new Object[] { 1, 2 }, found));
+		assertArrayEquals(new Object[] { null, null }, out);
+		assertArrayEquals(new boolean[] { false, false }, found);
+		assertEquals(0, b.getAll(new Object[0], new Object[0]));
+	}
+
+	@ParameterizedTest(name = "{0} rejectsBadArguments")
+	@MethodSource("specs")
+	void rejectsBadArguments(Spec spec) {
+		var b = spec.factory().get();
+		b.map().put(1, 1);
+
+		assertThrows(IllegalArgumentException.class, () -> b.getAll(new Object[] { 1, 2 }, new Object[1]));
+		assertThrows(IllegalArgumentException.class, () -> b.containsAll(new Object[] { 1, 2 }, new boolean[1]));
+		assertThrows(NullPointerException.class, () -> b.getAll(new Object[] { 1, null }, new Object[2]));
+	}
+
+	@ParameterizedTest(name = "{0} largeBatchAcrossResizes")
+	@MethodSource("specs")
+	void largeBatchAcrossResizes(Spec spec) {
+		var b = spec.factory().get();
+		var expected = new HashMap<Object, Object>();
+		Object[] keys = new Object[20_000];
+		for (int i = 0; i < keys.length; i++) keys[i] = "k" + i;
+		Object[] out = new Object[keys.length];
+
+		for (int round = 0; round < 4; round++) {
+			for (int i = round; i < keys.length; i += 4) {
+				b.map().put(keys[i], i);
+				expected.put(keys[i], i);
+			}
+			assertEquals(expected.size(), b.getAll(keys, out));
+			for (int i = 0; i < keys.length; i++) assertEquals(expected.get(keys[i]), out[i]);
+		}
+	}
+}
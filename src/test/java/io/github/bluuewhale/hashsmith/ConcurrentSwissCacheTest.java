@@ -0,0 +1,103 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentSwissCacheTest {
+
+	@Test
+	void boundedAndSplitEvenlyAcrossShards() {
+		var cache = new ConcurrentSwissCache<Integer, Integer>(8, 1_003);
+		assertEquals(1_003, cache.maxEntries());
+		for (int i = 0; i < 100_000; i++) cache.put(i, i);
+		assertEquals(1_003, cache.size()); // every shard full: the per-shard bounds add up exactly
+		assertEquals(100_000 - 1_003, cache.evictionCount());
+
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentSwissCache<>(0, 10));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentSwissCache<>(16, 10));
+		assertThrows(NullPointerException.class, () -> cache.get(null));
+	}
+
+	@Test
+	void singleThreadedBehavesLikeSwissCache() {
+		var cache = new ConcurrentSwissCache<String, Integer>(64);
+		assertNull(cache.get("a"));
+		assertEquals(1, cache.computeIfAbsent("a", String::length));
+		assertEquals(1, cache.get("a"));
+		assertNull(cache.computeIfAbsent("bb", k -> null)); // not cached
+		assertFalse(cache.containsKey("bb"));
+		assertEquals(1, cache.put("a", 7));
+		assertEquals(7, cache.remove("a"));
+		assertEquals(0, cache.size());
+		assertEquals(1, cache.hitCount());
+		assertEquals(3, cache.missCount());
+
+		cache.put("x", 1);
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(1, cache.hitCount()); // statistics survive clear
+	}
+
+	@Test
+	void concurrentReadThroughNeverReturnsWrongValues() throws Exception {
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			var cache = new ConcurrentSwissCache<Integer, Long>(4, 2_000);
+			int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+			int opsPerThread = 200_000;
+			AtomicLong loads = new AtomicLong();
+
+			ExecutorService pool = Executors.newFixedThreadPool(threads);
+			CountDownLatch start = new CountDownLatch(1);
+			CountDownLatch done = new CountDownLatch(threads);
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+
+			for (int t = 0; t < threads; t++) {
+				pool.execute(() -> {
+					try {
+						start.await();
+						var rnd = ThreadLocalRandom.current();
+						for (int i = 0; i < opsPerThread; i++) {
+							// Skewed keys: a hot head that stays cached and a long tail that keeps evicting.
+							int k = (rnd.nextInt(4) == 0) ? rnd.nextInt(100_000) : rnd.nextInt(500);
+							Long v = (i % 3 == 0)
+								? cache.get(k)
+								: cache.computeIfAbsent(k, key -> {
+									loads.incrementAndGet();
+									return key * 31L;
+								});
+							if (v != null) assertEquals(k * 31L, v, "wrong value for key " + k);
+							if (i % 1_000 == 0) cache.remove(rnd.nextInt(500));
+						}
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+
+			start.countDown();
+			assertTrue(done.await(25, TimeUnit.SECONDS), "worker threads did not finish in time");
+			pool.shutdownNow();
+			pool.awaitTermination(5, TimeUnit.SECONDS);
+
+			Throwable ex = failure.get();
+			if (ex != null) fail("unexpected exception during concurrent access: " + ex, ex);
+
+			assertTrue(cache.size() <= 2_000);
+			assertEquals((long) threads * opsPerThread, cache.hitCount() + cache.missCount());
+			assertTrue(cache.hitRate() > 0.5, "hot keys should mostly hit: " + cache.hitRate());
+			assertTrue(loads.get() <= cache.missCount());
+		});
+	}
+}
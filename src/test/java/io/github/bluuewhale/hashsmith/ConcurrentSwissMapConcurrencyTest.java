@@ -8,6 +8,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -418,6 +420,343 @@ class ConcurrentSwissMapConcurrencyTest {
 			assertEquals(count, m.size(), "size must match snapshot entry count after quiescence");
 		});
 	}
-}
 
+	@Test
+	void concurrentGetAllWhileWriting_resultsMatchKeys_andStableKeysAlwaysFound() throws Exception {
+		assertTimeoutPreemptively(Duration.ofSeconds(15), () -> {
+			var m = new ConcurrentSwissMap<Integer, Integer>(8, 16, 0.875d);
+			int stable = 2_000;    // keys [0, stable) are never removed
+			int churn = 20_000;    // keys [stable, stable + churn) are put/removed concurrently
+			for (int k = 0; k < stable; k++) m.put(k, k);
+
+			int writers = 2;
+			int readers = 2;
+			ExecutorService pool = Executors.newFixedThreadPool(writers + readers);
+			AtomicBoolean stop = new AtomicBoolean(false);
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+			CountDownLatch done = new CountDownLatch(writers + readers);
+
+			for (int t = 0; t < writers; t++) {
+				pool.execute(() -> {
+					try {
+						var rnd = ThreadLocalRandom.current();
+						while (!stop.get()) {
+							int k = stable + rnd.nextInt(churn);
+							if (rnd.nextBoolean()) m.put(k, k);
+							else m.remove(k);
+						}
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+			for (int t = 0; t < readers; t++) {
+				pool.execute(() -> {
+					try {
+						var rnd = ThreadLocalRandom.current();
+						Object[] keys = new Object[512];
+						Integer[] out = new Integer[keys.length];
+						boolean[] found = new boolean[keys.length];
+						while (!stop.get()) {
+							for (int i = 0; i < keys.length; i++) keys[i] = rnd.nextInt(stable + churn);
+							m.getAll(keys, out);
+							m.containsAll(keys, found);
+							for (int i = 0; i < keys.length; i++) {
+								int k = (Integer) keys[i];
+								if (out[i] != null) assertEquals(k, out[i].intValue(), "value does not belong to key");
+								if (k < stable) {
+									assertEquals(k, out[i], "stable key missing from getAll");
+									assertTrue(found[i], "stable key missing from containsAll");
+								}
+							}
+						}
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+
+			Thread.sleep(1_000);
+			stop.set(true);
+			assertTrue(done.await(5, TimeUnit.SECONDS), "threads did not finish in time");
+			pool.shutdownNow();
+
+			Throwable ex = failure.get();
+			if (ex != null) fail("unexpected failure during concurrent getAll: " + ex, ex);
+		});
+	}
+
+	@Test
+	void lockFreeSize_tracksEveryWritePath_andStaysInBoundsUnderWriters() throws Exception {
+		var m = new ConcurrentSwissMap<Integer, Integer>(8, 16, 0.875d);
+		m.putAll(Map.of(1, 1, 2, 2, 3, 3));
+		m.putIfAbsent(4, 4);
+		m.computeIfAbsent(5, k -> k);
+		m.compute(6, (k, v) -> k);
+		m.merge(7, 7, Integer::sum);
+		assertEquals(7, m.size());
+		m.computeIfPresent(1, (k, v) -> null);
+		m.compute(2, (k, v) -> null);
+		m.remove(3, 3);
+		m.keySet().remove(4);
+		m.values().remove(5);
+		m.entrySet().remove(Map.entry(6, 6));
+		var it = m.keySet().iterator();
+		it.next();
+		it.remove();
+		assertEquals(0, m.size());
+		assertTrue(m.isEmpty());
+		m.put(8, 8);
+		assertFalse(m.isEmpty());
+		m.clear();
+		assertTrue(m.isEmpty());
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			int keySpace = 5_000;
+			int writers = 3;
+			ExecutorService pool = Executors.newFixedThreadPool(writers + 1);
+			AtomicBoolean stop = new AtomicBoolean(false);
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+			CountDownLatch done = new CountDownLatch(writers + 1);
+
+			for (int t = 0; t < writers; t++) {
+				pool.execute(() -> {
+					try {
+						var rnd = ThreadLocalRandom.current();
+						while (!stop.get()) {
+							int k = rnd.nextInt(keySpace);
+							if (rnd.nextBoolean()) m.put(k, k);
+							else m.remove(k);
+						}
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+			pool.execute(() -> {
+				try {
+					while (!stop.get()) {
+						int n = m.size();
+						assertTrue(n >= 0 && n <= keySpace, "size out of bounds: " + n);
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				} finally {
+					done.countDown();
+				}
+			});
+
+			TimeUnit.MILLISECONDS.sleep(500);
+			stop.set(true);
+			assertTrue(done.await(6, TimeUnit.SECONDS), "threads did not finish in time");
+			pool.shutdownNow();
+			pool.awaitTermination(5, TimeUnit.SECONDS);
+
+			Throwable ex = failure.get();
+			if (ex != null) fail("unexpected failure during size polling: " + ex, ex);
+
+			int count = 0;
+			for (var ignored : m.entrySet()) count++;
+			assertEquals(count, m.size(), "size must match entry count after quiescence");
+		});
+	}
+
+	@Test
+	void weaklyConsistentTraversal_reportsStableKeysExactlyOnce_whileShardsRehash() throws Exception {
+		assertTimeoutPreemptively(Duration.ofSeconds(15), () -> {
+			var m = new ConcurrentSwissMap<Integer, Integer>(4, 16, 0.875d);
+			int stable = 5_000;    // keys [0, stable) are present for the whole test
+			int window = 20_000;   // each writer churns its own window of keys above them
+			for (int k = 0; k < stable; k++) m.put(k, k);
+
+			int writers = 2;
+			ExecutorService pool = Executors.newFixedThreadPool(writers);
+			AtomicBoolean stop = new AtomicBoolean(false);
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+			CountDownLatch done = new CountDownLatch(writers);
+			for (int t = 0; t < writers; t++) {
+				final int tid = t;
+				pool.execute(() -> {
+					try {
+						// Grow the shards past their initial capacity, then churn a window of keys so that
+						// tombstone cleanups keep rehashing them.
+						int first = stable + tid * window;
+						for (int i = 0; !stop.get(); i++) {
+							m.put(first + i % window, first + i % window);
+							m.remove(first + (i + window / 2) % window);
+						}
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+
+			try {
+				for (int round = 0; round < 200; round++) {
+					int[] seen = new int[stable];
+					if ((round & 1) == 0) {
+						m.forEach((k, v) -> {
+							assertEquals(k, v);
+							if (k < stable) seen[k]++;
+						});
+					} else {
+						for (var e : m.entrySet()) {
+							assertEquals(e.getKey(), e.getValue());
+							if (e.getKey() < stable) seen[e.getKey()]++;
+						}
+					}
+					for (int k = 0; k < stable; k++) assertEquals(1, seen[k], "stable key " + k + " in round " + round);
+				}
+			} finally {
+				stop.set(true);
+			}
+			assertTrue(done.await(6, TimeUnit.SECONDS), "threads did not finish in time");
+			pool.shutdownNow();
+			pool.awaitTermination(5, TimeUnit.SECONDS);
+
+			Throwable ex = failure.get();
+			if (ex != null) fail("unexpected failure during traversal: " + ex, ex);
+
+			// Writing through the iterator while it walks the map is allowed.
+			var it = m.keySet().iterator();
+			while (it.hasNext()) {
+				if (it.next() >= stable) it.remove();
+			}
+			assertEquals(stable, m.size());
+		});
+	}
+
+	@Test
+	void parallelBulkOperations_matchSequentialResults_whileWritersChurnOtherKeys() throws Exception {
+		assertTimeoutPreemptively(Duration.ofSeconds(15), () -> {
+			var m = new ConcurrentSwissMap<Integer, Integer>(16, 16, 0.875d);
+			var ref = new HashMap<Integer, Integer>();
+			var rnd = new Random(24);
+			for (int i = 0; i < 50_000; i++) {
+				int k = rnd.nextInt(1_000_000);
+				m.put(k, i);
+				ref.put(k, i);
+			}
+			long expectedSum = ref.values().stream().mapToLong(Integer::longValue).sum();
+			int expectedMax = ref.keySet().stream().max(Integer::compare).orElseThrow();
+
+			for (long threshold : new long[] { 1, Long.MAX_VALUE }) {
+				var seen = new ConcurrentHashMap<Integer, Integer>();
+				m.forEach(threshold, (k, v) -> assertNull(seen.put(k, v), "duplicate key " + k));
+				assertEquals(ref, seen);
+				assertEquals(expectedSum, m.reduceToLong(threshold, (k, v) -> v, 0L, Long::sum));
+				assertEquals((double) expectedSum, m.reduceToDouble(threshold, (k, v) -> v, 0d, Double::sum));
+				assertEquals(expectedMax, m.<Integer>reduce(threshold, (k, v) -> k, Math::max));
+				assertNull(m.reduce(threshold, (k, v) -> null, (a, b) -> a));
+				assertEquals(ref.get(expectedMax), m.search(threshold, (k, v) -> k == expectedMax ? v : null));
+				assertNull(m.search(threshold, (k, v) -> null));
+			}
+			var empty = new ConcurrentSwissMap<Integer, Integer>();
+			assertEquals(Long.MIN_VALUE, empty.reduceToLong(1, (k, v) -> v, Long.MIN_VALUE, Math::max));
+			assertNull(empty.<Integer>reduce(1, (k, v) -> k, Math::max));
 
+			// Writers churn negative keys; the reduction over the stable (non-negative) keys must stay exact.
+			AtomicBoolean stop = new AtomicBoolean(false);
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+			Thread writer = new Thread(() -> {
+				try {
+					for (int i = 0; !stop.get(); i++) {
+						m.put(-1 - (i % 30_000), i);
+						m.remove(-1 - ((i + 15_000) % 30_000));
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			});
+			writer.start();
+			try {
+				for (int round = 0; round < 20; round++) {
+					assertEquals(expectedSum, m.reduceToLong(1, (k, v) -> k >= 0 ? v : 0L, 0L, Long::sum));
+				}
+			} finally {
+				stop.set(true);
+				writer.join();
+			}
+			Throwable ex = failure.get();
+			if (ex != null) fail("unexpected failure during bulk operations: " + ex, ex);
+		});
+	}
+
+	/* Key whose hashCode() parks while the gate is armed, if it was created gated: stalls a rehash mid-copy. */
+	private record GateKey(int id, boolean gated, CountDownLatch entered, CountDownLatch release, AtomicBoolean armed) {
+		@Override
+		public int hashCode() {
+			if (gated && armed.get()) {
+				entered.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return Integer.hashCode(id);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof GateKey g && g.id == id;
+		}
+	}
+
+	@Test
+	void readsDuringShardResize_useTheFrozenTable_insteadOfBlocking() throws Exception {
+		assertTimeoutPreemptively(Duration.ofSeconds(15), () -> {
+			var entered = new CountDownLatch(1);
+			var release = new CountDownLatch(1);
+			var armed = new AtomicBoolean(false);
+			var m = new ConcurrentSwissMap<GateKey, Integer>(1, 16, 0.875d);
+			int n = 100;
+			for (int i = 0; i < n; i++) m.put(new GateKey(i, true, entered, release, armed), i);
+
+			// Keep inserting ungated keys until a resize re-hashes the gated ones and parks under the write lock.
+			armed.set(true);
+			Thread writer = new Thread(() -> {
+				for (int i = n; release.getCount() > 0; i++) m.put(new GateKey(i, false, entered, release, armed), i);
+			});
+			writer.start();
+			assertTrue(entered.await(5, TimeUnit.SECONDS), "no resize started");
+
+			ExecutorService reader = Executors.newSingleThreadExecutor();
+			try {
+				var reads = reader.submit(() -> {
+					for (int i = 0; i < n; i++) {
+						var k = new GateKey(i, false, entered, release, armed);
+						assertEquals(i, m.get(k));
+						assertTrue(m.containsKey(k));
+					}
+					assertNull(m.get(new GateKey(-1, false, entered, release, armed)));
+					Object[] keys = { new GateKey(7, false, entered, release, armed) };
+					Integer[] out = new Integer[1];
+					assertEquals(1, m.getAll(keys, out));
+					assertEquals(7, out[0]);
+					int[] count = new int[1];
+					m.forEach((k, v) -> count[0]++);
+					return count[0];
+				});
+				// The writer is still parked mid-copy: these reads must not have waited for it.
+				int traversed = reads.get(5, TimeUnit.SECONDS);
+				assertTrue(traversed >= n, "traversal saw " + traversed);
+				assertTrue(writer.isAlive(), "the resize should still be parked");
+			} finally {
+				armed.set(false);
+				release.countDown();
+				writer.join();
+				reader.shutdownNow();
+			}
+			for (int i = 0; i < n; i++) assertEquals(i, m.get(new GateKey(i, false, entered, release, armed)));
+		});
+	}
+}
@@ -0,0 +1,201 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+class ExpiringSwissMapTest {
+
+	private static final long TTL = 1_000;
+
+	@Test
+	void entriesExpireAfterWriteAndPutRefreshes() {
+		var clock = new AtomicLong();
+		var m = new ExpiringSwissMap<String, Integer>(TTL, 16, clock::get);
+		m.put("a", 1);
+		m.put("b", 2, 5, TimeUnit.NANOSECONDS); // per-entry TTL
+		assertEquals(TTL, m.expiresIn("a", TimeUnit.NANOSECONDS));
+
+		clock.set(5);
+		assertNull(m.get("b"));
+		assertEquals(1, m.size()); // the lookup reclaimed "b"
+
+		clock.set(TTL - 1);
+		assertEquals(1, m.put("a", 10)); // refreshes the deadline to 2 * TTL - 1
+		clock.set(TTL + 500);
+		assertEquals(10, m.get("a"));
+		assertTrue(m.containsKey("a"));
+
+		clock.set(2 * TTL - 1);
+		assertFalse(m.containsKey("a"));
+		assertNull(m.put("a", 3)); // an expired mapping counts as absent
+		assertNull(m.putIfAbsent("c", 4));
+		assertEquals(-1, m.expiresIn("zzz", TimeUnit.SECONDS));
+		assertThrows(IllegalArgumentException.class, () -> m.put("d", 1, 0, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void viewsSkipExpiredEntriesAndPurgeMakesSizeExact() {
+		var clock = new AtomicLong();
+		var m = new ExpiringSwissMap<Integer, Integer>(TTL, 16, clock::get);
+		for (int i = 0; i < 1_000; i++) m.put(i, i);
+		clock.set(TTL / 2);
+		for (int i = 0; i < 1_000; i += 2) m.put(i, -i); // even keys live on
+
+		clock.set(TTL);
+		var keys = new HashSet<Integer>();
+		for (var e : m.entrySet()) {
+			assertEquals(0, e.getKey() % 2);
+			assertEquals(-e.getKey(), e.getValue());
+			keys.add(e.getKey());
+		}
+		assertEquals(500, keys.size());
+		assertFalse(m.containsValue(1));
+		assertTrue(m.size() >= 500);
+
+		assertEquals(m.size() - 500, m.purgeExpired());
+		assertEquals(500, m.size());
+		assertEquals(keys, m.keySet());
+	}
+
+	@Test
+	void insertsSweepAndReuseExpiredSlotsWithoutGrowing() {
+		var clock = new AtomicLong();
+		var m = new ExpiringSwissMap<Integer, Integer>(TTL, 1_024, clock::get);
+		int capacity = m.capacity;
+		// Session-like churn: a bounded live population, keys never repeat.
+		for (int i = 0; i < 200_000; i++) {
+			clock.addAndGet(10); // ~100 live entries at any time
+			m.put(i, i);
+		}
+		assertEquals(capacity, m.capacity);
+		assertTrue(m.size() < 400, "reclamation fell behind: " + m.size());
+		for (int i = 199_900; i < 200_000; i++) assertEquals(i, m.get(i));
+	}
+
+	@Test
+	void sweepVisitsABoundedNumberOfGroups() {
+		var clock = new AtomicLong();
+		var m = new ExpiringSwissMap<Integer, Integer>(TTL, 4_096, clock::get);
+		for (int i = 0; i < 2_000; i++) m.put(i, i);
+		clock.set(TTL);
+
+		int groups = m.capacity / Swar.GROUP_SIZE;
+		int reclaimed = 0;
+		for (int i = 0; i < groups / 8; i++) {
+			int r = m.sweep(8);
+			assertTrue(r <= 8 * Swar.GROUP_SIZE);
+			reclaimed += r;
+		}
+		assertEquals(2_000, reclaimed);
+		assertEquals(0, m.size());
+	}
+
+	@Test
+	void matchesReferenceModel() {
+		var clock = new AtomicLong();
+		var m = new ExpiringSwissMap<Integer, Integer>(TTL, 16, clock::get);
+		var ref = new HashMap<Integer, long[]>(); // key -> {value, deadline}
+		var rnd = new Random(21);
+		for (int i = 0; i < 300_000; i++) {
+			clock.addAndGet(rnd.nextInt(3));
+			long now = clock.get();
+			int k = rnd.nextInt(2_000);
+			long[] r = ref.get(k);
+			Integer expected = (r != null && r[1] > now) ? (int) r[0] : null;
+			switch (rnd.nextInt(3)) {
+				case 0 -> {
+					assertEquals(expected, m.put(k, i));
+					ref.put(k, new long[] { i, now + TTL });
+				}
+				case 1 -> {
+					assertEquals(expected, m.remove(k));
+					ref.remove(k);
+				}
+				default -> assertEquals(expected, m.get(k));
+			}
+		}
+		m.purgeExpired();
+		ref.values().removeIf(r -> r[1] <= clock.get());
+		assertEquals(ref.size(), m.size());
+	}
+
+	@Test
+	void concurrentMapExpiresAcrossShards() {
+		var clock = new AtomicLong();
+		var m = new ConcurrentExpiringSwissMap<Integer, Integer>(8, TTL, 16, clock::get);
+		for (int i = 0; i < 10_000; i++) m.put(i, i);
+		m.put(-1, -1, 10 * TTL, TimeUnit.NANOSECONDS);
+		assertEquals(7, m.putIfAbsent(7, 70));
+
+		clock.set(TTL);
+		assertNull(m.get(5));
+		assertFalse(m.containsKey(5));
+		assertEquals(-1, m.get(-1));
+		assertNull(m.putIfAbsent(7, 70)); // expired counts as absent
+		assertEquals(70, m.get(7));
+		int purged = m.purgeExpired(); // the insert above has already reclaimed a few on its way
+		assertTrue(purged > 9_900 && purged < 10_000, "purged " + purged);
+		assertEquals(2, m.size());
+	}
+
+	@Test
+	void concurrentReadersAndWritersSeeOnlyLiveValues() throws Exception {
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			var clock = new AtomicLong();
+			var m = new ConcurrentExpiringSwissMap<Integer, Long>(4, 50_000, 16, clock::get);
+			int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+			ExecutorService pool = Executors.newFixedThreadPool(threads);
+			CountDownLatch start = new CountDownLatch(1);
+			CountDownLatch done = new CountDownLatch(threads);
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+
+			for (int t = 0; t < threads; t++) {
+				final int tid = t;
+				pool.execute(() -> {
+					try {
+						start.await();
+						var rnd = ThreadLocalRandom.current();
+						for (int i = 0; i < 200_000; i++) {
+							int k = rnd.nextInt(20_000);
+							if (tid == 0) clock.incrementAndGet();
+							switch (rnd.nextInt(8)) {
+								case 0 -> m.put(k, k * 7L);
+								case 1 -> m.remove(k);
+								case 2 -> m.sweep(1);
+								default -> {
+									Long v = m.get(k);
+									if (v != null) assertEquals(k * 7L, v);
+								}
+							}
+						}
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+
+			start.countDown();
+			assertTrue(done.await(25, TimeUnit.SECONDS), "worker threads did not finish in time");
+			pool.shutdownNow();
+			pool.awaitTermination(5, TimeUnit.SECONDS);
+
+			Throwable ex = failure.get();
+			if (ex != null) fail("unexpected exception during concurrent access: " + ex, ex);
+		});
+	}
+}
@@ -0,0 +1,121 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IncrementalSwissMapTest {
+
+	@Test
+	void growthMigratesAcrossSubsequentPuts() {
+		var m = new IncrementalSwissMap<Integer, Integer>(1024);
+		int maxLoad0 = m.maxLoad;
+		for (int i = 0; i < maxLoad0; i++) m.put(i, i);
+		assertFalse(m.isResizing());
+
+		m.put(-1, -1); // crosses maxLoad: allocates the new table, moves only a few groups
+		assertTrue(m.isResizing());
+		for (int i = 0; i < maxLoad0; i++) assertEquals(i, m.get(i), "entries stay visible during migration");
+
+		int puts = 0;
+		while (m.isResizing()) m.put(1_000_000 + puts, puts++);
+		int oldGroups = 1024 / 8;
+		assertTrue(puts <= oldGroups / IncrementalSwissMap.MIGRATE_GROUPS_PER_OP, "migration must be bounded per op");
+		assertEquals(maxLoad0 + 1 + puts, m.size());
+		for (int i = 0; i < maxLoad0; i++) assertEquals(i, m.get(i));
+	}
+
+	@Test
+	void updatesAndRemovesDuringMigration() {
+		var m = new IncrementalSwissMap<Integer, String>(256);
+		int maxLoad0 = m.maxLoad;
+		for (int i = 0; i < maxLoad0 + 1; i++) m.put(i, "v" + i);
+		assertTrue(m.isResizing());
+
+		// Keys in high groups are usually still in the old table.
+		for (int i = 0; i < maxLoad0 + 1; i += 3) assertEquals("v" + i, m.put(i, "w" + i));
+		for (int i = 1; i < maxLoad0 + 1; i += 3) assertEquals("v" + i, m.remove(i));
+
+		for (int i = 0; i < maxLoad0 + 1; i++) {
+			switch (i % 3) {
+				case 0 -> assertEquals("w" + i, m.get(i));
+				case 1 -> assertFalse(m.containsKey(i));
+				default -> assertEquals("v" + i, m.get(i));
+			}
+		}
+	}
+
+	@Test
+	void missesTerminateLateInMigration() {
+		// Migrated old groups are all DELETED. Fill the last old groups completely so that, right before the
+		// final migration step, the old table has no EMPTY lane left: probes for absent keys must still stop.
+		var m = new IncrementalSwissMap<Integer, Integer>(1024);
+		int groups = 1024 / Swar.GROUP_SIZE;
+		int tailGroups = IncrementalSwissMap.MIGRATE_GROUPS_PER_OP;
+		int[] perGroup = new int[groups];
+		int tail = 0;
+		for (int k = 0; tail < tailGroups * Swar.GROUP_SIZE; k++) {
+			int g = Swar.h1(Hashing.smearedHash(k)) & (groups - 1);
+			if (g >= groups - tailGroups && perGroup[g] < Swar.GROUP_SIZE) {
+				perGroup[g]++;
+				tail++;
+				m.put(k, k);
+			}
+		}
+		for (int k = -1; !m.isResizing(); k--) m.put(k, k); // until crossing maxLoad starts the resize
+
+		int next = Integer.MAX_VALUE;
+		while (m.isResizing()) {
+			assertFalse(m.containsKey(next));
+			assertNull(m.put(next, next));
+			next--;
+		}
+		for (int k = Integer.MAX_VALUE; k > next; k--) assertEquals(k, m.get(k));
+	}
+
+	@Test
+	void iteratorCoversBothTables() {
+		var m = new IncrementalSwissMap<Integer, Integer>(256);
+		int maxLoad0 = m.maxLoad;
+		for (int i = 0; i <= maxLoad0; i++) m.put(i, i);
+		assertTrue(m.isResizing());
+
+		var seen = new HashMap<Integer, Integer>();
+		for (Map.Entry<Integer, Integer> e : m.entrySet()) assertNull(seen.put(e.getKey(), e.getValue()));
+		assertEquals(maxLoad0 + 1, seen.size());
+
+		// iterator.remove and setValue work on entries in either table
+		Iterator<Map.Entry<Integer, Integer>> it = m.entrySet().iterator();
+		while (it.hasNext()) {
+			var e = it.next();
+			if ((e.getKey() & 1) == 0) it.remove();
+			else e.setValue(-e.getValue());
+		}
+		for (int i = 0; i <= maxLoad0; i++) {
+			if ((i & 1) == 0) assertNull(m.get(i));
+			else assertEquals(-i, m.get(i));
+		}
+	}
+
+	@Test
+	void randomOpsMatchHashMap() {
+		var m = new IncrementalSwissMap<Integer, Integer>(4);
+		var ref = new HashMap<Integer, Integer>();
+		Random rnd = new Random(0x5EED);
+
+		for (int i = 0; i < 300_000; i++) {
+			int k = rnd.nextInt(50_000);
+			switch (rnd.nextInt(4)) {
+				case 0, 1 -> assertEquals(ref.put(k, i), m.put(k, i));
+				case 2 -> assertEquals(ref.remove(k), m.remove(k));
+				default -> assertEquals(ref.get(k), m.get(k));
+			}
+		}
+		assertEquals(ref, m);
+	}
+}
@@ -0,0 +1,97 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IntIntSwissMapTest {
+
+	@Test
+	void basicCrud() {
+		var m = new IntIntSwissMap();
+
+		assertEquals(0, m.put(1, 10));
+		assertEquals(10, m.put(1, 20));
+		assertEquals(20, m.get(1));
+		assertTrue(m.containsKey(1));
+		assertEquals(1, m.size());
+
+		assertEquals(20, m.remove(1));
+		assertFalse(m.containsKey(1));
+		assertTrue(m.isEmpty());
+	}
+
+	@Test
+	void missingValueIsConfigurable() {
+		var m = new IntIntSwissMap(16, 0.875d, -1);
+		assertEquals(-1, m.missingValue());
+		assertEquals(-1, m.get(5));
+		assertEquals(-1, m.put(5, 0));
+		assertEquals(0, m.get(5));
+		assertEquals(0, m.remove(5));
+		assertEquals(-1, m.remove(5));
+		assertEquals(42, m.getOrDefault(5, 42));
+	}
+
+	@Test
+	void addToCountsFromZero() {
+		var m = new IntIntSwissMap(16, 0.875d, -1);
+		assertEquals(-1, m.addTo(7, 3));
+		assertEquals(3, m.addTo(7, 4));
+		assertEquals(7, m.get(7));
+		assertEquals(1, m.size());
+	}
+
+	@Test
+	void zeroAndNegativeKeys() {
+		var m = new IntIntSwissMap();
+		int[] keys = { 0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE };
+		for (int k : keys) assertFalse(m.containsKey(k));
+		for (int k : keys) m.put(k, k ^ 0x5555);
+		for (int k : keys) assertEquals(k ^ 0x5555, m.get(k));
+	}
+
+	@Test
+	void randomOpsMatchHashMap() {
+		var m = new IntIntSwissMap(4);
+		var ref = new HashMap<Integer, Integer>();
+		Random rnd = new Random(0x1D1D);
+
+		for (int i = 0; i < 200_000; i++) {
+			int k = rnd.nextInt(20_000) - 10_000;
+			switch (rnd.nextInt(4)) {
+				case 0 -> assertEquals(ref.getOrDefault(k, 0), m.getOrDefault(k, 0), "put " + k);
+				case 1 -> {
+					Integer old = ref.put(k, i);
+					assertEquals(old == null ? 0 : old, m.put(k, i));
+				}
+				case 2 -> {
+					Integer old = ref.remove(k);
+					assertEquals(old == null ? 0 : old, m.remove(k));
+				}
+				default -> {
+					ref.merge(k, 1, Integer::sum);
+					m.addTo(k, 1);
+				}
+			}
+		}
+		assertEquals(ref.size(), m.size());
+		var seen = new HashMap<Integer, Integer>();
+		m.forEach((k, v) -> assertNull(seen.put(k, v)));
+		assertEquals(ref, seen);
+	}
+
+	@Test
+	void clearResets() {
+		var m = new IntIntSwissMap();
+		for (int i = 0; i < 100; i++) m.put(i, i);
+		m.clear();
+		assertEquals(0, m.size());
+		assertFalse(m.containsKey(0));
+		m.put(3, 4);
+		assertEquals("{3=4}", m.toString());
+	}
+}
@@ -0,0 +1,131 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LinkedSwissMapTest {
+
+	private static <K, V> void assertSameOrder(Map<K, V> expected, Map<K, V> actual) {
+		assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+		assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+		assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(actual.values()));
+	}
+
+	@Test
+	void matchesLinkedHashMapUnderRandomOps() {
+		var rnd = new Random(7);
+		var m = new LinkedSwissMap<Integer, Integer>();
+		var expected = new LinkedHashMap<Integer, Integer>();
+		for (int i = 0; i < 200_000; i++) {
+			int k = rnd.nextInt(4_000);
+			switch (rnd.nextInt(3)) {
+				case 0, 1 -> assertEquals(expected.put(k, i), m.put(k, i));
+				default -> assertEquals(expected.remove(k), m.remove(k));
+			}
+			if (i % 20_000 == 0) assertSameOrder(expected, m);
+		}
+		assertSameOrder(expected, m);
+		assertEquals(expected, m);
+	}
+
+	@Test
+	void rePutKeepsPositionAndRemovePutMovesToEnd() {
+		var m = new LinkedSwissMap<String, Integer>();
+		m.put("a", 1);
+		m.put("b", 2);
+		m.put("c", 3);
+		m.put("a", 10);
+		assertEquals(List.of("a", "b", "c"), new ArrayList<>(m.keySet()));
+		m.remove("a");
+		m.put("a", 11);
+		assertEquals(List.of("b", "c", "a"), new ArrayList<>(m.keySet()));
+	}
+
+	@Test
+	void fifoChurnCompactsInsteadOfGrowing() {
+		var m = new LinkedSwissMap<Integer, Integer>(1_024);
+		int cap0 = m.capacity;
+		int live = 300;
+		for (int i = 0; i < live; i++) m.put(i, i);
+		for (int i = live; i < 100_000; i++) {
+			m.remove(i - live); // oldest entry: leaves a hole at the front
+			m.put(i, i);
+		}
+		assertEquals(cap0, m.capacity);
+		assertEquals(live, m.size());
+		int expectedKey = 100_000 - live;
+		for (int k : m.keySet()) assertEquals(expectedKey++, k);
+	}
+
+	@Test
+	void iteratorAndCursorRemoveKeepOrder() {
+		var m = new LinkedSwissMap<Integer, String>();
+		var expected = new LinkedHashMap<Integer, String>();
+		for (int i = 0; i < 1_000; i++) {
+			m.put(i, "v" + i);
+			expected.put(i, "v" + i);
+		}
+
+		for (Iterator<Integer> it = m.keySet().iterator(); it.hasNext(); ) {
+			if (it.next() % 3 == 0) it.remove();
+		}
+		expected.keySet().removeIf(k -> k % 3 == 0);
+		assertSameOrder(expected, m);
+
+		MapCursor<Integer, String> c = m.cursor();
+		while (c.advance()) {
+			if (c.key() % 2 == 0) c.remove();
+			else c.setValue(c.value() + "!");
+		}
+		expected.keySet().removeIf(k -> k % 2 == 0);
+		expected.replaceAll((k, v) -> v + "!");
+		assertSameOrder(expected, m);
+
+		var viaForEach = new LinkedHashMap<Integer, String>();
+		m.forEach(viaForEach::put);
+		assertSameOrder(expected, viaForEach);
+	}
+
+	@Test
+	void viewRemovesMatchLinkedHashMap() {
+		var m = new LinkedSwissMap<Integer, Integer>();
+		var expected = new LinkedHashMap<Integer, Integer>();
+		for (int i = 0; i < 200; i++) {
+			m.put(i, i * 10);
+			expected.put(i, i * 10);
+		}
+		for (int i = 0; i < 200; i += 3) {
+			assertTrue(m.keySet().remove(i));
+			expected.keySet().remove(i);
+		}
+		assertFalse(m.keySet().remove(0));
+		assertFalse(m.keySet().remove(null));
+		assertFalse(m.entrySet().remove(Map.entry(1, 11)));
+		for (int i = 1; i < 200; i += 3) {
+			assertTrue(m.entrySet().remove(Map.entry(i, i * 10)));
+			expected.entrySet().remove(Map.entry(i, i * 10));
+		}
+		assertFalse(m.entrySet().remove(Map.entry(1, 10)));
+		assertSameOrder(expected, m);
+	}
+
+	@Test
+	void iteratorsFailFast() {
+		var m = new LinkedSwissMap<Integer, Integer>();
+		for (int i = 0; i < 10; i++) m.put(i, i);
+		Iterator<Integer> it = m.keySet().iterator();
+		it.next();
+		m.put(100, 100);
+		assertThrows(ConcurrentModificationException.class, it::next);
+		assertThrows(ConcurrentModificationException.class, () -> m.forEach((k, v) -> m.remove(k)));
+	}
+}
@@ -0,0 +1,70 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongLongSwissMapTest {
+
+	@Test
+	void basicCrud() {
+		var m = new LongLongSwissMap();
+
+		assertEquals(0L, m.put(1L << 40, 10L));
+		assertEquals(10L, m.put(1L << 40, 20L));
+		assertEquals(20L, m.get(1L << 40));
+		assertEquals(20L, m.remove(1L << 40));
+		assertFalse(m.containsKey(1L << 40));
+		assertTrue(m.isEmpty());
+	}
+
+	@Test
+	void missingValueIsConfigurable() {
+		var m = new LongLongSwissMap(16, 0.875d, Long.MIN_VALUE);
+		assertEquals(Long.MIN_VALUE, m.get(5L));
+		assertEquals(Long.MIN_VALUE, m.addTo(5L, 2L));
+		assertEquals(2L, m.addTo(5L, 2L));
+		assertEquals(4L, m.get(5L));
+		assertEquals(9L, m.getOrDefault(6L, 9L));
+	}
+
+	@Test
+	void highCollision() {
+		// (i << 32) | i folds to Long.hashCode == 0 for every i.
+		var m = new LongLongSwissMap(8);
+		for (long i = 0; i < 100; i++) m.put((i << 32) | i, i);
+		for (long i = 0; i < 100; i += 2) assertEquals(i, m.remove((i << 32) | i));
+		for (long i = 0; i < 100; i++) {
+			assertEquals((i & 1) == 1, m.containsKey((i << 32) | i));
+		}
+	}
+
+	@Test
+	void randomOpsMatchHashMap() {
+		var m = new LongLongSwissMap(4);
+		var ref = new HashMap<Long, Long>();
+		Random rnd = new Random(0x2E2E);
+
+		for (int i = 0; i < 200_000; i++) {
+			long k = rnd.nextInt(20_000) * 0x9E3779B97F4A7C15L;
+			switch (rnd.nextInt(3)) {
+				case 0 -> assertEquals(ref.getOrDefault(k, 0L), m.get(k));
+				case 1 -> {
+					Long old = ref.remove(k);
+					assertEquals(old == null ? 0L : old, m.remove(k));
+				}
+				default -> {
+					ref.merge(k, (long) i, Long::sum);
+					m.addTo(k, i);
+				}
+			}
+		}
+		assertEquals(ref.size(), m.size());
+		var seen = new HashMap<Long, Long>();
+		m.forEach((k, v) -> assertNull(seen.put(k, v)));
+		assertEquals(ref, seen);
+	}
+}
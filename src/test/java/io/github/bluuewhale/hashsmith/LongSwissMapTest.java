@@ -0,0 +1,116 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongSwissMapTest {
+
+	@Test
+	void basicCrud() {
+		var m = new LongSwissMap<String>();
+
+		assertNull(m.put(1L, "a"));
+		assertEquals("a", m.put(1L, "b"));
+		assertEquals("b", m.get(1L));
+		assertTrue(m.containsKey(1L));
+		assertEquals(1, m.size());
+
+		assertEquals("b", m.remove(1L));
+		assertFalse(m.containsKey(1L));
+		assertNull(m.remove(1L));
+		assertTrue(m.isEmpty());
+	}
+
+	@Test
+	void everyLongIsAValidKey() {
+		var m = new LongSwissMap<String>();
+		long[] keys = { 0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 0x8080808080808080L };
+
+		for (long k : keys) assertFalse(m.containsKey(k));
+		for (long k : keys) assertNull(m.put(k, Long.toString(k)));
+		for (long k : keys) assertEquals(Long.toString(k), m.get(k));
+		assertEquals(keys.length, m.size());
+	}
+
+	@Test
+	void nullValuesAreDistinctFromMissingKeys() {
+		var m = new LongSwissMap<String>();
+		m.put(7L, null);
+
+		assertTrue(m.containsKey(7L));
+		assertNull(m.get(7L));
+		assertNull(m.getOrDefault(7L, "dflt"));
+		assertEquals("dflt", m.getOrDefault(8L, "dflt"));
+	}
+
+	@Test
+	void tombstoneReuse() {
+		var m = new LongSwissMap<Integer>();
+		m.put(42L, 1);
+		m.remove(42L);
+		assertNull(m.put(42L, 2));
+		assertEquals(1, m.size());
+		assertEquals(2, m.get(42L));
+	}
+
+	@Test
+	void highCollision() {
+		// (i << 32) | i folds to Long.hashCode == 0 for every i.
+		var m = new LongSwissMap<Integer>(8);
+		for (int i = 0; i < 100; i++) m.put(((long) i << 32) | i, i);
+		for (int i = 0; i < 100; i += 2) assertEquals(i, m.remove(((long) i << 32) | i));
+
+		for (int i = 0; i < 100; i++) {
+			Integer v = m.get(((long) i << 32) | i);
+			if ((i & 1) == 0) assertNull(v);
+			else assertEquals(i, v);
+		}
+		assertEquals(50, m.size());
+	}
+
+	@Test
+	void randomOpsMatchHashMap() {
+		var m = new LongSwissMap<Long>(4);
+		var ref = new HashMap<Long, Long>();
+		Random rnd = new Random(0x5EED);
+
+		for (int i = 0; i < 200_000; i++) {
+			long k = rnd.nextInt(20_000) - 10_000L;
+			switch (rnd.nextInt(3)) {
+				case 0 -> assertEquals(ref.put(k, (long) i), m.put(k, (long) i));
+				case 1 -> assertEquals(ref.remove(k), m.remove(k));
+				default -> assertEquals(ref.get(k), m.get(k));
+			}
+		}
+		assertEquals(ref.size(), m.size());
+		ref.forEach((k, v) -> assertEquals(v, m.get(k)));
+	}
+
+	@Test
+	void forEachVisitsAllEntries() {
+		var m = new LongSwissMap<Long>();
+		int n = 1_000;
+		for (long i = 0; i < n; i++) m.put(i * 31, i);
+
+		var seen = new HashMap<Long, Long>();
+		m.forEach((k, v) -> assertNull(seen.put(k, v)));
+		assertEquals(n, seen.size());
+		for (long i = 0; i < n; i++) assertEquals(i, seen.get(i * 31));
+	}
+
+	@Test
+	void clearResets() {
+		var m = new LongSwissMap<String>();
+		for (long i = 0; i < 100; i++) m.put(i, "v");
+		m.clear();
+
+		assertEquals(0, m.size());
+		assertFalse(m.containsKey(0L));
+		assertNull(m.put(0L, "x"));
+		assertEquals("{0=x}", m.toString());
+	}
+}
@@ -0,0 +1,84 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class MapCursorTest {
+
+	record Spec(String name, Supplier<Map<Integer, Integer>> factory, Function<Map<Integer, Integer>, MapCursor<Integer, Integer>> cursor) {
+		@Override public String toString() { return name; }
+	}
+
+	private static Stream<Spec> specs() {
+		return Stream.of(
+			new Spec("SwissMap", SwissMap::new, m -> ((SwissMap<Integer, Integer>) m).cursor()),
+			new Spec("SwissSimdMap", SwissSimdMap::new, m -> ((SwissSimdMap<Integer, Integer>) m).cursor())
+		);
+	}
+
+	private static Map<Integer, Integer> filled(Spec spec, int n) {
+		var m = spec.factory().get();
+		for (int i = 0; i < n; i++) m.put(i, i);
+		for (int i = 0; i < n; i += 4) m.remove(i);
+		return m;
+	}
+
+	@ParameterizedTest
+	@MethodSource("specs")
+	void visitsEveryMappingOnce(Spec spec) {
+		var m = filled(spec, 10_000);
+		var seen = new HashMap<Integer, Integer>();
+		MapCursor<Integer, Integer> c = spec.cursor().apply(m);
+		while (c.advance()) assertNull(seen.put(c.key(), c.value()));
+		assertFalse(c.advance());
+		assertEquals(m, seen);
+
+		var viaForEach = new HashMap<Integer, Integer>();
+		m.forEach(viaForEach::put);
+		assertEquals(m, viaForEach);
+	}
+
+	@ParameterizedTest
+	@MethodSource("specs")
+	void setValueAndRemoveInPlace(Spec spec) {
+		var m = filled(spec, 5_000);
+		var expected = new HashMap<>(m);
+		MapCursor<Integer, Integer> c = spec.cursor().apply(m);
+		while (c.advance()) {
+			int k = c.key();
+			if (k % 3 == 0) {
+				c.remove();
+				assertThrows(IllegalStateException.class, c::key);
+				assertThrows(IllegalStateException.class, c::remove);
+				expected.remove(k);
+			} else {
+				assertEquals(k, c.setValue(-k));
+				expected.put(k, -k);
+			}
+		}
+		assertEquals(expected, m);
+	}
+
+	@ParameterizedTest
+	@MethodSource("specs")
+	void detectsOutsideStructuralChanges(Spec spec) {
+		var m = filled(spec, 100);
+		MapCursor<Integer, Integer> c = spec.cursor().apply(m);
+		assertThrows(IllegalStateException.class, c::value);
+		assertTrue(c.advance());
+		m.put(1_000, 0);
+		assertThrows(ConcurrentModificationException.class, c::advance);
+
+		assertThrows(ConcurrentModificationException.class, () -> m.forEach((k, v) -> m.remove(k)));
+		m.forEach((k, v) -> m.put(k, v + 1)); // overwriting is not structural
+	}
+}
@@ -1,6 +1,7 @@
 package io.github.bluuewhale.hashsmith;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Supplier;
@@ -16,7 +17,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.openjdk.jol.info.GraphLayout;
 
 /**
- * JUnit helper to print retained heap size for HashMap vs SwissSimdMap vs SwissMap vs RobinHoodMap.
+ * JUnit helper to print retained heap size for HashMap vs SwissSimdMap vs SwissMap vs RobinHoodMap,
+ * and LinkedSwissMap vs LinkedHashMap for the insertion-ordered maps.
  * Run with `./gradlew test --tests com.donghyungko.hashsmith.MapFootprintTest`.
  */
 public class MapFootprintTest {
@@ -41,6 +43,8 @@ public class MapFootprintTest {
 //			new MapSpec("HashMap", HashMap::new)
 			new MapSpec("SwissMap", SwissMap::new),
 			new MapSpec("SwissSimdMap", SwissSimdMap::new),
+			new MapSpec("LinkedSwissMap", LinkedSwissMap::new),
+			new MapSpec("LinkedHashMap", LinkedHashMap::new),
 			new MapSpec("UnifiedMap", UnifiedMap::new),
 			new MapSpec("Object2ObjectOpenHashMap", Object2ObjectOpenHashMap::new)
 	);
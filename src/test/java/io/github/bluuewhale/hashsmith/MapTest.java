@@ -3,6 +3,7 @@ package io.github.bluuewhale.hashsmith;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -45,6 +46,27 @@ class MapTest {
 				false,
 				true
 			),
+			new MapSpec(
+				"IncrementalSwissMap",
+				IncrementalSwissMap::new,
+				IncrementalSwissMap::new,
+				false,
+				true
+			),
+			new MapSpec(
+				"LinkedSwissMap",
+				LinkedSwissMap::new,
+				LinkedSwissMap::new,
+				false,
+				true
+			),
+			new MapSpec(
+				"ExpiringSwissMap",
+				() -> new ExpiringSwissMap<>(1, TimeUnit.HOURS),
+				cap -> new ExpiringSwissMap<>(1, TimeUnit.HOURS, cap),
+				false,
+				true
+			),
 			new MapSpec(
 				"RobinHoodMap",
 				RobinHoodMap::new,
@@ -376,4 +398,73 @@ class MapTest {
 		assertEquals(n, m.size());
 		assertEquals(expectedSum, actualSum);
 	}
+
+	@ParameterizedTest(name = "{0} computeFamilyNullSemantics")
+	@MethodSource("mapSpecs")
+	void computeFamilyNullSemantics(MapSpec spec) {
+		Map<String, Integer> m = newMap(spec);
+
+		// getOrDefault distinguishes a null mapping from a missing key (ConcurrentMap's contract does not).
+		m.put("nil", null);
+		if (!(m instanceof java.util.concurrent.ConcurrentMap)) assertNull(m.getOrDefault("nil", 7));
+		assertEquals(7, m.getOrDefault("missing", 7));
+
+		// putIfAbsent / computeIfAbsent treat a null mapping as absent.
+		assertNull(m.putIfAbsent("nil", 1));
+		assertEquals(1, m.get("nil"));
+		assertEquals(1, m.putIfAbsent("nil", 2));
+		assertNull(m.computeIfAbsent("none", k -> null));
+		assertFalse(m.containsKey("none"));
+		assertEquals(3, m.computeIfAbsent("new", k -> 3));
+		assertEquals(3, m.computeIfAbsent("new", k -> { throw new AssertionError("mapping function must not run for present keys"); }));
+
+		// computeIfPresent / compute / merge remove on null results.
+		assertNull(m.computeIfPresent("missing", (k, v) -> 1));
+		assertFalse(m.containsKey("missing"));
+		assertEquals(4, m.computeIfPresent("new", (k, v) -> v + 1));
+		assertNull(m.computeIfPresent("new", (k, v) -> null));
+		assertFalse(m.containsKey("new"));
+		assertEquals(10, m.compute("c", (k, v) -> v == null ? 10 : v + 1));
+		assertEquals(11, m.compute("c", (k, v) -> v == null ? 10 : v + 1));
+		assertNull(m.compute("c", (k, v) -> null));
+		assertFalse(m.containsKey("c"));
+		assertEquals(5, m.merge("w", 5, Integer::sum));
+		assertEquals(8, m.merge("w", 3, Integer::sum));
+		assertNull(m.merge("w", 1, (a, b) -> null));
+		assertFalse(m.containsKey("w"));
+		assertEquals(1, m.size());
+
+		assertThrows(NullPointerException.class, () -> m.merge("w", null, Integer::sum));
+		assertThrows(NullPointerException.class, () -> m.computeIfAbsent(null, k -> 1));
+	}
+
+	@ParameterizedTest(name = "{0} computeFamilyMatchesHashMap")
+	@MethodSource("mapSpecs")
+	void computeFamilyMatchesHashMap(MapSpec spec) {
+		Map<Integer, Integer> m = newMap(spec);
+		var expected = new java.util.HashMap<Integer, Integer>();
+		var rnd = new java.util.Random(7);
+
+		for (int i = 0; i < 200_000; i++) {
+			int k = rnd.nextInt(5_000);
+			int v = rnd.nextInt(10);
+			switch (rnd.nextInt(6)) {
+				case 0 -> assertEquals(expected.merge(k, v, Integer::sum), m.merge(k, v, Integer::sum));
+				case 1 -> assertEquals(expected.computeIfAbsent(k, x -> v), m.computeIfAbsent(k, x -> v));
+				case 2 -> {
+					java.util.function.BiFunction<Integer, Integer, Integer> f = (x, old) -> old > 5 ? null : old + v;
+					assertEquals(expected.computeIfPresent(k, f), m.computeIfPresent(k, f));
+				}
+				case 3 -> {
+					java.util.function.BiFunction<Integer, Integer, Integer> f = (x, old) -> v == 0 ? null : v;
+					assertEquals(expected.compute(k, f), m.compute(k, f));
+				}
+				case 4 -> assertEquals(expected.putIfAbsent(k, v), m.putIfAbsent(k, v));
+				default -> assertEquals(expected.getOrDefault(k, -1), m.getOrDefault(k, -1));
+			}
+		}
+
+		assertEquals(expected.size(), m.size());
+		assertEquals(expected, m);
+	}
 }
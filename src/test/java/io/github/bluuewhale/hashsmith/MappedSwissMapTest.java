@@ -0,0 +1,150 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MappedSwissMapTest {
+
+	private Path file;
+
+	@BeforeEach
+	void createFile() throws IOException {
+		file = Files.createTempFile("mapped-swiss", ".tbl");
+	}
+
+	@AfterEach
+	void deleteFile() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	void reopenSeesAllEntries() throws IOException {
+		int n = 10_000;
+		try (var m = MappedSwissMap.create(file, n)) {
+			for (long i = 0; i < n; i++) assertEquals(0L, m.put(i * 31, i));
+			m.force();
+		}
+		try (var m = MappedSwissMap.open(file, MappedSwissMap.Mode.READ_ONLY)) {
+			assertEquals(n, m.size());
+			for (long i = 0; i < n; i++) assertEquals(i, m.get(i * 31));
+			assertFalse(m.containsKey(1L));
+		}
+	}
+
+	@Test
+	void readOnlyRejectsMutation() throws IOException {
+		try (var m = MappedSwissMap.create(file, 16)) {
+			m.put(1L, 1L);
+		}
+		try (var m = MappedSwissMap.open(file, MappedSwissMap.Mode.READ_ONLY)) {
+			assertThrows(UnsupportedOperationException.class, () -> m.put(2L, 2L));
+			assertThrows(UnsupportedOperationException.class, () -> m.remove(1L));
+			assertThrows(UnsupportedOperationException.class, m::clear);
+			assertThrows(UnsupportedOperationException.class, m::force);
+			assertEquals(1L, m.get(1L));
+		}
+	}
+
+	@Test
+	void readWriteReopenKeepsHeaderAndMissingValue() throws IOException {
+		try (var m = MappedSwissMap.create(file, 100, 0.875d, -1L)) {
+			for (long i = 0; i < 50; i++) m.put(i, i);
+			for (long i = 0; i < 50; i += 2) m.remove(i);
+		}
+		try (var m = MappedSwissMap.open(file, MappedSwissMap.Mode.READ_WRITE)) {
+			assertEquals(25, m.size());
+			assertEquals(-1L, m.missingValue());
+			assertEquals(-1L, m.get(0L));
+			assertEquals(-1L, m.addTo(0L, 5L));
+			assertEquals(5L, m.get(0L));
+		}
+	}
+
+	@Test
+	void fullTableThrowsAndTombstonesArePurged() throws IOException {
+		try (var m = MappedSwissMap.create(file, 100)) {
+			long cap = m.capacity();
+			long n = 0;
+			try {
+				for (;; n++) m.put(n, n);
+			} catch (IllegalStateException expected) {
+				// table is full
+			}
+			assertTrue(n >= 100, "must hold at least expectedSize entries");
+			assertEquals(cap, m.capacity());
+			for (long i = 0; i < n; i++) assertEquals(i, m.get(i));
+
+			// Churn at the limit: remove + insert fresh keys forces tombstone purges instead of failing.
+			for (long i = 0; i < 10 * n; i++) {
+				assertEquals(i, m.remove(i));
+				m.put(n + i, n + i);
+			}
+			assertEquals(n, m.size());
+			for (long i = 10 * n; i < 11 * n; i++) assertEquals(i, m.get(i));
+		}
+	}
+
+	@Test
+	void randomOpsMatchHashMap() throws IOException {
+		try (var m = MappedSwissMap.create(file, 20_000)) {
+			var ref = new HashMap<Long, Long>();
+			Random rnd = new Random(0x5EED);
+
+			for (int i = 0; i < 200_000; i++) {
+				long k = rnd.nextInt(20_000) - 10_000L;
+				switch (rnd.nextInt(3)) {
+					case 0 -> {
+						Long prev = ref.put(k, (long) i);
+						assertEquals(prev == null ? 0L : prev, m.put(k, i));
+					}
+					case 1 -> {
+						Long prev = ref.remove(k);
+						assertEquals(prev == null ? 0L : prev, m.remove(k));
+					}
+					default -> assertEquals(ref.containsKey(k), m.containsKey(k));
+				}
+			}
+			assertEquals(ref.size(), m.size());
+			var seen = new HashMap<Long, Long>();
+			m.forEach((k, v) -> assertNull(seen.put(k, v)));
+			assertEquals(ref, seen);
+		}
+	}
+
+	@Test
+	void rejectsForeignFilesAndUseAfterClose() throws IOException {
+		Files.write(file, new byte[128]);
+		assertThrows(IOException.class, () -> MappedSwissMap.open(file, MappedSwissMap.Mode.READ_ONLY));
+
+		var m = MappedSwissMap.create(file, 16);
+		m.close();
+		m.close(); // idempotent
+		assertThrows(IllegalStateException.class, () -> m.get(1L));
+		assertThrows(IllegalStateException.class, () -> m.put(1L, 1L));
+	}
+
+	@Test
+	void rejectsCorruptLoadFactor() throws IOException {
+		MappedSwissMap.create(file, 16).close();
+		for (double lf : new double[] { 0.0d, Double.NaN, 1.0d }) {
+			try (var ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				ch.write(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putDouble(0, lf), 40);
+			}
+			var e = assertThrows(IOException.class, () -> MappedSwissMap.open(file, MappedSwissMap.Mode.READ_ONLY));
+			assertTrue(e.getMessage().startsWith("corrupt MappedSwissMap load factor"), e.getMessage());
+		}
+	}
+}
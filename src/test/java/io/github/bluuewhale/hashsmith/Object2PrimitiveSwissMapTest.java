@@ -0,0 +1,84 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class Object2PrimitiveSwissMapTest {
+
+	@Test
+	void intBasicCrud() {
+		var m = new Object2IntSwissMap<String>();
+
+		assertEquals(0, m.put("a", 1));
+		assertEquals(1, m.put("a", 2));
+		assertEquals(2, m.get("a"));
+		assertEquals(2, m.remove("a"));
+		assertFalse(m.containsKey("a"));
+		assertEquals(0, m.size());
+		assertThrows(NullPointerException.class, () -> m.get(null));
+		assertThrows(NullPointerException.class, () -> m.put(null, 1));
+	}
+
+	@Test
+	void intCounters() {
+		var m = new Object2IntSwissMap<String>(16, 0.875d, -1);
+		assertEquals(-1, m.get("w"));
+		assertEquals(1, m.incrementAndGet("w"));
+		assertEquals(2, m.incrementAndGet("w"));
+		assertEquals(2, m.addTo("w", 5));
+		assertEquals(7, m.get("w"));
+		assertEquals(-1, m.addTo("x", 5));
+		assertEquals(5, m.getOrDefault("x", 0));
+		assertEquals(0, m.getOrDefault("y", 0));
+	}
+
+	@Test
+	void longWordCountMatchesHashMapMerge() {
+		var m = new Object2LongSwissMap<String>(4);
+		var ref = new HashMap<String, Long>();
+		Random rnd = new Random(0xC0DE);
+
+		for (int i = 0; i < 200_000; i++) {
+			String w = "w" + rnd.nextInt(5_000);
+			if (rnd.nextInt(10) == 0) {
+				Long old = ref.remove(w);
+				assertEquals(old == null ? 0L : old, m.remove(w));
+			} else {
+				ref.merge(w, 1L, Long::sum);
+				m.incrementAndGet(w);
+			}
+		}
+		assertEquals(ref.size(), m.size());
+		var seen = new HashMap<String, Long>();
+		m.forEach((k, v) -> assertNull(seen.put(k, v)));
+		assertEquals(ref, seen);
+	}
+
+	@Test
+	void longHighCollision() {
+		record Fixed(int v) {
+			@Override public int hashCode() { return 0x1234_5601; }
+		}
+		var m = new Object2LongSwissMap<Fixed>();
+		for (int i = 0; i < 50; i++) m.addTo(new Fixed(i), i);
+		for (int i = 0; i < 50; i += 2) assertEquals(i, m.remove(new Fixed(i)));
+		for (int i = 0; i < 50; i++) assertEquals((i & 1) == 1 ? i : 0L, m.get(new Fixed(i)));
+	}
+
+	@Test
+	void doubleSums() {
+		var m = new Object2DoubleSwissMap<String>(16, 0.875d, Double.NaN);
+		assertTrue(Double.isNaN(m.get("a")));
+		assertTrue(Double.isNaN(m.addTo("a", 0.5d)));
+		assertEquals(0.5d, m.addTo("a", 0.25d));
+		assertEquals(0.75d, m.get("a"));
+		assertEquals(1.75d, m.incrementAndGet("a"));
+		m.clear();
+		assertTrue(m.isEmpty());
+		assertEquals(3.0d, m.getOrDefault("a", 3.0d));
+	}
+}
@@ -0,0 +1,139 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class OffHeapSwissMapTest {
+
+	@Test
+	void basicCrud() {
+		try (var m = new OffHeapSwissMap()) {
+			assertEquals(0L, m.put(1L, 10L));
+			assertEquals(10L, m.put(1L, 11L));
+			assertEquals(11L, m.get(1L));
+			assertTrue(m.containsKey(1L));
+			assertEquals(1L, m.size());
+
+			assertEquals(11L, m.remove(1L));
+			assertFalse(m.containsKey(1L));
+			assertEquals(0L, m.remove(1L));
+			assertTrue(m.isEmpty());
+		}
+	}
+
+	@Test
+	void missingValueAndAddTo() {
+		try (var m = new OffHeapSwissMap(16, 0.875d, -1L)) {
+			assertEquals(-1L, m.get(5L));
+			assertEquals(7L, m.getOrDefault(5L, 7L));
+			assertEquals(-1L, m.addTo(5L, 3L));
+			assertEquals(3L, m.addTo(5L, 4L));
+			assertEquals(7L, m.get(5L));
+		}
+	}
+
+	@Test
+	void everyLongIsAValidKey() {
+		try (var m = new OffHeapSwissMap()) {
+			long[] keys = { 0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 0x8080808080808080L };
+			for (long k : keys) assertFalse(m.containsKey(k));
+			for (long k : keys) m.put(k, ~k);
+			for (long k : keys) assertEquals(~k, m.get(k));
+			assertEquals(keys.length, m.size());
+		}
+	}
+
+	@Test
+	void randomOpsMatchHashMap() {
+		try (var m = new OffHeapSwissMap(4)) {
+			var ref = new HashMap<Long, Long>();
+			Random rnd = new Random(0x5EED);
+
+			for (int i = 0; i < 200_000; i++) {
+				long k = rnd.nextInt(20_000) - 10_000L;
+				switch (rnd.nextInt(3)) {
+					case 0 -> {
+						Long prev = ref.put(k, (long) i);
+						assertEquals(prev == null ? 0L : prev, m.put(k, i));
+					}
+					case 1 -> {
+						Long prev = ref.remove(k);
+						assertEquals(prev == null ? 0L : prev, m.remove(k));
+					}
+					default -> assertEquals(ref.containsKey(k), m.containsKey(k));
+				}
+			}
+			assertEquals(ref.size(), m.size());
+			ref.forEach((k, v) -> assertEquals(v, m.get(k)));
+
+			var seen = new HashMap<Long, Long>();
+			m.forEach((k, v) -> assertNull(seen.put(k, v)));
+			assertEquals(ref, seen);
+		}
+	}
+
+	@Test
+	void clearResets() {
+		try (var m = new OffHeapSwissMap()) {
+			for (long i = 0; i < 100; i++) m.put(i, i);
+			m.clear();
+
+			assertEquals(0L, m.size());
+			assertFalse(m.containsKey(0L));
+			m.put(0L, 9L);
+			assertEquals("{0=9}", m.toString());
+		}
+	}
+
+	@Test
+	void useAfterCloseThrows() {
+		var m = new OffHeapSwissMap();
+		m.put(1L, 1L);
+		m.close();
+		m.close(); // idempotent
+
+		assertTrue(m.isClosed());
+		assertThrows(IllegalStateException.class, () -> m.get(1L));
+		assertThrows(IllegalStateException.class, () -> m.put(2L, 2L));
+		assertThrows(IllegalStateException.class, () -> m.remove(1L));
+		assertThrows(IllegalStateException.class, m::size);
+		assertThrows(IllegalStateException.class, m::clear);
+	}
+
+	@Test
+	void closeAndResizeFreeDirectMemoryEagerly() {
+		long base = directMemoryUsed();
+		var m = new OffHeapSwissMap(1 << 20);
+		long table = directMemoryUsed() - base;
+		assertTrue(table >= (1L << 20) * 16, "table not counted as direct memory: " + table);
+
+		// Growing to twice the capacity must release the old table rather than leave it to the GC.
+		for (long k = 0; k < 1_000_000; k++) m.put(k, k);
+		long grown = directMemoryUsed() - base;
+		assertTrue(grown < table * 3, "old table still reserved after resize: " + grown);
+
+		m.close();
+		assertTrue(directMemoryUsed() - base < table / 16, "table still reserved after close");
+	}
+
+	private static long directMemoryUsed() {
+		for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+			if (pool.getName().equals("direct")) return pool.getMemoryUsed();
+		}
+		throw new AssertionError("no direct buffer pool");
+	}
+
+	@Test
+	void offHeapLongArraySpansChunks() {
+		long len = OffHeapLongArray.CHUNK_LONGS + 3L;
+		assertEquals(2, OffHeapLongArray.chunksFor(len));
+		assertEquals(OffHeapLongArray.CHUNK_LONGS << 3, OffHeapLongArray.chunkBytes(len, 0));
+		assertEquals(3 << 3, OffHeapLongArray.chunkBytes(len, 1));
+	}
+}
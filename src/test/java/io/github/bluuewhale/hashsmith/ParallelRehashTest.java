@@ -0,0 +1,129 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelRehashTest {
+
+	/* Few distinct hash codes: workers keep racing for the same groups. */
+	private record Clustered(int id) {
+		@Override public int hashCode() { return id % 31; }
+	}
+
+	@Test
+	void swissMapGrowsInParallel() {
+		var pool = new ForkJoinPool(4);
+		try {
+			var m = new SwissMap<Integer, Integer>();
+			m.setParallelRehashThreshold(1_000, pool);
+			var expected = new HashMap<Integer, Integer>();
+			var rnd = new Random(11);
+			for (int i = 0; i < 200_000; i++) {
+				int k = rnd.nextInt();
+				m.put(k, i);
+				expected.put(k, i);
+				if (i % 5 == 0) {
+					m.remove(k);
+					expected.remove(k);
+				}
+			}
+			assertEquals(expected, m);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void swissSimdMapGrowsInParallel() {
+		var pool = new ForkJoinPool(4);
+		try {
+			var m = new SwissSimdMap<Integer, Integer>();
+			m.setParallelRehashThreshold(1_000, pool);
+			var expected = new HashMap<Integer, Integer>();
+			var rnd = new Random(12);
+			for (int i = 0; i < 200_000; i++) {
+				int k = rnd.nextInt();
+				m.put(k, i);
+				expected.put(k, i);
+				if (i % 5 == 0) {
+					m.remove(k);
+					expected.remove(k);
+				}
+			}
+			assertEquals(expected, m);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void collidingKeysSurviveParallelRehash() {
+		var pool = new ForkJoinPool(8);
+		try {
+			var swiss = new SwissMap<Clustered, Integer>();
+			var simd = new SwissSimdMap<Clustered, Integer>();
+			swiss.setParallelRehashThreshold(64, pool);
+			simd.setParallelRehashThreshold(64, pool);
+			int n = 20_000;
+			for (int i = 0; i < n; i++) {
+				swiss.put(new Clustered(i), i);
+				simd.put(new Clustered(i), i);
+			}
+			assertEquals(n, swiss.size());
+			assertEquals(n, simd.size());
+			for (int i = 0; i < n; i++) {
+				assertEquals(i, swiss.get(new Clustered(i)));
+				assertEquals(i, simd.get(new Clustered(i)));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void removeWithoutTombstoneKeepsSizeUnderParallelRehash() {
+		var pool = new ForkJoinPool(4);
+		try {
+			var swiss = new SwissMap<Integer, Integer>();
+			var simd = new SwissSimdMap<Integer, Integer>();
+			swiss.setParallelRehashThreshold(1, pool);
+			simd.setParallelRehashThreshold(1, pool);
+			for (int i = 0; i < 100; i++) {
+				swiss.put(i, i);
+				simd.put(i, i);
+			}
+			assertEquals(5, swiss.removeWithoutTombstone(5));
+			assertEquals(5, simd.removeWithoutTombstone(5));
+			assertEquals(99, swiss.size());
+			assertEquals(99, simd.size());
+			assertEquals(99, countIterated(swiss));
+			assertEquals(99, countIterated(simd));
+			assertFalse(simd.containsKey(5));
+			for (int i = 0; i < 100; i++) {
+				if (i != 5) assertEquals(i, simd.get(i));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static int countIterated(Map<?, ?> m) {
+		int n = 0;
+		for (var it = m.entrySet().iterator(); it.hasNext(); it.next()) n++;
+		return n;
+	}
+
+	@Test
+	void rejectsNonPositiveThreshold() {
+		var m = new SwissMap<Integer, Integer>();
+		assertEquals(Integer.MAX_VALUE, m.getParallelRehashThreshold());
+		assertThrows(IllegalArgumentException.class, () -> m.setParallelRehashThreshold(0));
+		assertThrows(IllegalArgumentException.class, () -> new SwissSimdMap<Integer, Integer>().setParallelRehashThreshold(-1));
+	}
+}
@@ -0,0 +1,152 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveSwissSetTest {
+
+	@Test
+	void intBasicOps() {
+		var s = new IntSwissSet();
+
+		assertTrue(s.add(1));
+		assertFalse(s.add(1));
+		assertTrue(s.contains(1));
+		assertEquals(1, s.size());
+
+		assertTrue(s.remove(1));
+		assertFalse(s.remove(1));
+		assertFalse(s.contains(1));
+		assertTrue(s.isEmpty());
+	}
+
+	@Test
+	void longBasicOps() {
+		var s = new LongSwissSet();
+
+		assertTrue(s.add(1L));
+		assertFalse(s.add(1L));
+		assertTrue(s.contains(1L));
+		assertEquals(1, s.size());
+
+		assertTrue(s.remove(1L));
+		assertFalse(s.remove(1L));
+		assertFalse(s.contains(1L));
+		assertTrue(s.isEmpty());
+	}
+
+	@Test
+	void everyValueIsAValidElement() {
+		var ints = new IntSwissSet();
+		int[] iv = { 0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, 0x80808080 };
+		for (int e : iv) assertFalse(ints.contains(e));
+		for (int e : iv) assertTrue(ints.add(e));
+		for (int e : iv) assertTrue(ints.contains(e));
+		assertEquals(iv.length, ints.size());
+
+		var longs = new LongSwissSet();
+		long[] lv = { 0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 0x8080808080808080L };
+		for (long e : lv) assertFalse(longs.contains(e));
+		for (long e : lv) assertTrue(longs.add(e));
+		for (long e : lv) assertTrue(longs.contains(e));
+		assertEquals(lv.length, longs.size());
+	}
+
+	@Test
+	void longHighCollision() {
+		// (i << 32) | i folds to Long.hashCode == 0 for every i.
+		var s = new LongSwissSet(8);
+		for (int i = 0; i < 100; i++) assertTrue(s.add(((long) i << 32) | i));
+		for (int i = 0; i < 100; i += 2) assertTrue(s.remove(((long) i << 32) | i));
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals((i & 1) != 0, s.contains(((long) i << 32) | i));
+		}
+		assertEquals(50, s.size());
+	}
+
+	@Test
+	void intRandomOpsMatchHashSet() {
+		var s = new IntSwissSet(4);
+		var ref = new HashSet<Integer>();
+		Random rnd = new Random(0x5EED);
+
+		for (int i = 0; i < 200_000; i++) {
+			int e = rnd.nextInt(20_000) - 10_000;
+			switch (rnd.nextInt(3)) {
+				case 0 -> assertEquals(ref.add(e), s.add(e));
+				case 1 -> assertEquals(ref.remove(e), s.remove(e));
+				default -> assertEquals(ref.contains(e), s.contains(e));
+			}
+		}
+		assertEquals(ref.size(), s.size());
+		ref.forEach(e -> assertTrue(s.contains(e)));
+	}
+
+	@Test
+	void longRandomOpsMatchHashSet() {
+		var s = new LongSwissSet(4);
+		var ref = new HashSet<Long>();
+		Random rnd = new Random(0x5EED);
+
+		for (int i = 0; i < 200_000; i++) {
+			long e = rnd.nextInt(20_000) - 10_000L;
+			switch (rnd.nextInt(3)) {
+				case 0 -> assertEquals(ref.add(e), s.add(e));
+				case 1 -> assertEquals(ref.remove(e), s.remove(e));
+				default -> assertEquals(ref.contains(e), s.contains(e));
+			}
+		}
+		assertEquals(ref.size(), s.size());
+		ref.forEach(e -> assertTrue(s.contains(e)));
+	}
+
+	@Test
+	void forEachVisitsAllElements() {
+		var ints = new IntSwissSet();
+		var longs = new LongSwissSet();
+		int n = 1_000;
+		for (int i = 0; i < n; i++) {
+			ints.add(i * 31);
+			longs.add(i * 31L);
+		}
+
+		var seenInts = new HashSet<Integer>();
+		ints.forEach(e -> assertTrue(seenInts.add(e)));
+		var seenLongs = new HashSet<Long>();
+		longs.forEach(e -> assertTrue(seenLongs.add(e)));
+		assertEquals(n, seenInts.size());
+		assertEquals(n, seenLongs.size());
+		for (int i = 0; i < n; i++) {
+			assertTrue(seenInts.contains(i * 31));
+			assertTrue(seenLongs.contains(i * 31L));
+		}
+	}
+
+	@Test
+	void clearResets() {
+		var s = new LongSwissSet();
+		for (long i = 0; i < 100; i++) s.add(i);
+		s.clear();
+
+		assertEquals(0, s.size());
+		assertFalse(s.contains(0L));
+		assertTrue(s.add(0L));
+		assertEquals("[0]", s.toString());
+		assertArrayEquals(new long[] { 0L }, s.toArray());
+	}
+
+	@Test
+	void toArrayHasEveryElementOnce() {
+		var s = new IntSwissSet();
+		for (int i = 0; i < 50; i++) s.add(i);
+		int[] arr = s.toArray();
+		Arrays.sort(arr);
+		for (int i = 0; i < 50; i++) assertEquals(i, arr[i]);
+	}
+}
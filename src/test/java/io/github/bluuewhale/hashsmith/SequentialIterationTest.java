@@ -0,0 +1,75 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class SequentialIterationTest {
+
+	record Spec(String name, Function<Map<Integer, Integer>, Set<Map.Entry<Integer, Integer>>> view, Map<Integer, Integer> map) {
+		@Override public String toString() { return name; }
+	}
+
+	private static Stream<Spec> specs() {
+		var swiss = new SwissMap<Integer, Integer>();
+		var simd = new SwissSimdMap<Integer, Integer>();
+		return Stream.of(
+			new Spec("SwissMap", m -> ((SwissMap<Integer, Integer>) m).entrySetSequential(), swiss),
+			new Spec("SwissSimdMap", m -> ((SwissSimdMap<Integer, Integer>) m).entrySetSequential(), simd)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("specs")
+	void sameEntriesAsEntrySetInSlotOrder(Spec spec) {
+		var m = spec.map();
+		for (int i = 0; i < 20_000; i++) m.put(i * 31, i);
+		for (int i = 0; i < 20_000; i += 3) m.remove(i * 31);
+
+		var seq = spec.view().apply(m);
+		assertEquals(m.entrySet(), seq);
+		assertEquals(m.size(), seq.size());
+
+		// Two walks give the same order, matching forEach (which also scans in slot order).
+		var first = new ArrayList<Integer>();
+		for (var e : seq) first.add(e.getKey());
+		var second = new ArrayList<Integer>();
+		for (var e : seq) second.add(e.getKey());
+		assertEquals(first, second);
+		var viaForEach = new ArrayList<Integer>();
+		m.forEach((k, v) -> viaForEach.add(k));
+		assertEquals(viaForEach, first);
+	}
+
+	@ParameterizedTest
+	@MethodSource("specs")
+	void iteratorRemoveAndSetValue(Spec spec) {
+		var m = spec.map();
+		var expected = new HashMap<Integer, Integer>();
+		for (int i = 0; i < 5_000; i++) {
+			m.put(i, i);
+			expected.put(i, i);
+		}
+
+		for (var it = spec.view().apply(m).iterator(); it.hasNext(); ) {
+			var e = it.next();
+			int k = e.getKey();
+			if (k % 2 == 0) {
+				it.remove();
+				expected.remove(k);
+			} else {
+				e.setValue(-k);
+				expected.put(k, -k);
+			}
+		}
+		assertEquals(expected, m);
+	}
+}
@@ -35,12 +35,13 @@ public class SetFootprintTest {
 
 	private static final SetSpec HASH_SET = new SetSpec("HashSet", HashSet::new);
 	private static final SetSpec SWISS_SET = new SetSpec("SwissSet", SwissSet::new);
+	private static final SetSpec SWISS_SIMD_SET = new SetSpec("SwissSimdSet", SwissSimdSet::new);
 	private static final SetSpec OBJECT_OPEN_HASH_SET = new SetSpec("ObjectOpenHashSet", ObjectOpenHashSet::new);
 	private static final SetSpec UNIFIED_SET = new SetSpec("UnifiedSet", UnifiedSet::new);
 
 	private static Stream<Arguments> payloadsAndSets() {
 		return Stream.of(
-            HASH_SET, SWISS_SET, OBJECT_OPEN_HASH_SET, UNIFIED_SET)
+            HASH_SET, SWISS_SET, SWISS_SIMD_SET, OBJECT_OPEN_HASH_SET, UNIFIED_SET)
 			.flatMap(spec -> Stream.of(Payload.values()).map(p -> Arguments.of(spec, p)));
 	}
 
@@ -0,0 +1,119 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class SpliteratorTest {
+
+	record Spec(String name, Supplier<Map<Integer, Integer>> factory) {
+		@Override public String toString() { return name; }
+	}
+
+	private static Stream<Spec> specs() {
+		return Stream.of(
+			new Spec("SwissMap", SwissMap::new),
+			new Spec("SwissSimdMap", SwissSimdMap::new)
+		);
+	}
+
+	private static Map<Integer, Integer> filled(Spec spec, int n) {
+		var m = spec.factory().get();
+		for (int i = 0; i < n; i++) m.put(i, i * 3);
+		for (int i = 0; i < n; i += 7) m.remove(i); // leave tombstones behind
+		return m;
+	}
+
+	/* Splits recursively down to single groups and returns every element seen. */
+	private static <T> List<T> drainFullySplit(Spliterator<T> root) {
+		var out = new ArrayList<T>();
+		var work = new ArrayDeque<Spliterator<T>>();
+		work.push(root);
+		while (!work.isEmpty()) {
+			Spliterator<T> s = work.pop();
+			Spliterator<T> prefix = s.trySplit();
+			if (prefix != null) {
+				assertFalse(s.hasCharacteristics(Spliterator.SIZED));
+				work.push(prefix);
+				work.push(s);
+				continue;
+			}
+			if (s.tryAdvance(out::add)) s.forEachRemaining(out::add);
+		}
+		return out;
+	}
+
+	@ParameterizedTest
+	@MethodSource("specs")
+	void splitsCoverEveryEntryExactlyOnce(Spec spec) {
+		var m = filled(spec, 50_000);
+
+		var keys = drainFullySplit(m.keySet().spliterator());
+		assertEquals(m.size(), keys.size());
+		assertEquals(m.keySet(), new HashSet<>(keys));
+
+		var vals = drainFullySplit(m.values().spliterator());
+		assertEquals(m.size(), vals.size());
+
+		var entries = drainFullySplit(m.entrySet().spliterator());
+		assertEquals(m.size(), entries.size());
+		for (var e : entries) assertEquals(e.getKey() * 3, e.getValue());
+	}
+
+	@ParameterizedTest
+	@MethodSource("specs")
+	void rootIsSizedAndParallelStreamsAgree(Spec spec) {
+		var m = filled(spec, 100_000);
+		Spliterator<Integer> s = m.keySet().spliterator();
+		assertTrue(s.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT | Spliterator.NONNULL));
+		assertEquals(m.size(), s.getExactSizeIfKnown());
+
+		long expected = m.keySet().stream().mapToLong(Integer::longValue).sum();
+		assertEquals(expected, m.keySet().parallelStream().mapToLong(Integer::longValue).sum());
+		assertEquals(expected * 3, m.values().parallelStream().mapToLong(Integer::longValue).sum());
+		assertEquals(m.size(), m.entrySet().parallelStream().filter(e -> e.getValue() == e.getKey() * 3).count());
+	}
+
+	@ParameterizedTest
+	@MethodSource("specs")
+	void structuralChangeDuringTraversalFails(Spec spec) {
+		var m = filled(spec, 100);
+		Spliterator<Integer> s = m.keySet().spliterator();
+		assertThrows(ConcurrentModificationException.class, () -> s.forEachRemaining(k -> m.put(-1 - k, 0)));
+	}
+
+	@ParameterizedTest
+	@MethodSource("specs")
+	void emptyMap(Spec spec) {
+		var m = spec.factory().get();
+		assertEquals(0, m.entrySet().spliterator().estimateSize());
+		assertFalse(m.keySet().spliterator().tryAdvance(k -> fail()));
+		assertEquals(0, m.values().parallelStream().count());
+	}
+
+	@Test
+	void swissSetSplitsAndKeepsNull() {
+		var set = new SwissSet<Integer>();
+		for (int i = 0; i < 30_000; i++) set.add(i);
+		set.add(null);
+		for (int i = 0; i < 30_000; i += 5) set.remove(i);
+
+		var seen = drainFullySplit(set.spliterator());
+		assertEquals(set.size(), seen.size());
+		assertEquals(set, new HashSet<>(seen));
+		assertTrue(set.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+		assertEquals(set.size(), set.parallelStream().count());
+	}
+}
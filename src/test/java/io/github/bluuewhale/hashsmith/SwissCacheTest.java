@@ -0,0 +1,87 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class SwissCacheTest {
+
+	@Test
+	void staysWithinCapacityAndNeverReturnsStaleValues() {
+		var cache = new SwissCache<Integer, Integer>(1_000);
+		var latest = new HashMap<Integer, Integer>();
+		var rnd = new Random(5);
+		for (int i = 0; i < 500_000; i++) {
+			int k = rnd.nextInt(20_000);
+			switch (rnd.nextInt(4)) {
+				case 0 -> {
+					cache.put(k, i);
+					latest.put(k, i);
+				}
+				case 1 -> {
+					Integer v = cache.remove(k);
+					if (v != null) assertEquals(latest.get(k), v);
+				}
+				default -> {
+					Integer v = cache.get(k);
+					if (v != null) assertEquals(latest.get(k), v);
+				}
+			}
+			assertTrue(cache.size() <= 1_000);
+		}
+		assertTrue(cache.evictionCount() > 0);
+	}
+
+	@Test
+	void referencedEntriesSurviveAScan() {
+		var cache = new SwissCache<Integer, String>(100);
+		for (int i = 0; i < 10; i++) cache.put(i, "hot" + i);
+		for (int round = 0; round < 50; round++) {
+			for (int i = 0; i < 10; i++) assertEquals("hot" + i, cache.get(i));
+			for (int j = 0; j < 100; j++) cache.put(1_000 + round * 100 + j, "cold"); // one-hit wonders
+		}
+		for (int i = 0; i < 10; i++) assertTrue(cache.containsKey(i), "hot key " + i + " evicted");
+		assertEquals(100, cache.size());
+	}
+
+	@Test
+	void countsHitsMissesAndEvictions() {
+		var cache = new SwissCache<String, Integer>(2);
+		assertEquals(0d, cache.hitRate());
+		assertEquals(1, cache.computeIfAbsent("a", k -> 1));
+		assertEquals(1, cache.computeIfAbsent("a", k -> -1));
+		assertNull(cache.get("b"));
+		cache.put("b", 2);
+		cache.put("c", 3); // evicts "b": "a" was referenced
+		assertEquals(2, cache.size());
+		assertTrue(cache.containsKey("a"));
+		assertFalse(cache.containsKey("b"));
+
+		assertEquals(1, cache.hitCount());
+		assertEquals(2, cache.missCount());
+		assertEquals(1, cache.evictionCount());
+		assertEquals(1d / 3, cache.hitRate(), 1e-9);
+		assertNull(cache.computeIfAbsent("d", k -> null)); // not cached
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	void clearRemoveAndNulls() {
+		var cache = new SwissCache<Integer, Integer>(16);
+		for (int i = 0; i < 16; i++) cache.put(i, i);
+		assertEquals(5, cache.remove(5));
+		assertNull(cache.remove(5));
+		assertEquals(15, cache.size());
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertNull(cache.get(1));
+
+		assertThrows(NullPointerException.class, () -> cache.put(null, 1));
+		assertThrows(NullPointerException.class, () -> cache.put(1, null));
+		assertThrows(NullPointerException.class, () -> cache.get(null));
+		assertThrows(IllegalArgumentException.class, () -> new SwissCache<>(0));
+	}
+}
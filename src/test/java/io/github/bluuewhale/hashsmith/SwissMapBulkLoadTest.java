@@ -0,0 +1,91 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+class SwissMapBulkLoadTest {
+
+	@Test
+	void loadIntoEmptyMapSizesOnce() {
+		int n = 100_000;
+		Integer[] keys = new Integer[n];
+		Integer[] vals = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = i;
+			vals[i] = i * 2;
+		}
+
+		var m = new SwissMap<Integer, Integer>();
+		m.putAll(keys, vals, 0, n);
+
+		assertEquals(n, m.size());
+		assertTrue(m.maxLoad >= n, "table must fit the whole batch");
+		assertTrue(m.maxLoad / 2 < n, "table must not be oversized");
+		for (int i = 0; i < n; i++) assertEquals(i * 2, m.get(i));
+	}
+
+	@Test
+	void duplicatesInBatchKeepLastValue() {
+		String[] keys = { "a", "b", "a", "c", "b", "a" };
+		Integer[] vals = { 1, 2, 3, 4, 5, 6 };
+
+		var fresh = new SwissMap<String, Integer>();
+		fresh.putAll(keys, vals, 0, keys.length);
+		var existing = new SwissMap<String, Integer>();
+		existing.put("z", 0);
+		existing.putAll(keys, vals, 0, keys.length);
+
+		for (var m : java.util.List.of(fresh, existing)) {
+			assertEquals(6, m.get("a"));
+			assertEquals(5, m.get("b"));
+			assertEquals(4, m.get("c"));
+		}
+		assertEquals(3, fresh.size());
+		assertEquals(4, existing.size());
+	}
+
+	@Test
+	void loadIntoMapWithTombstonesMatchesPuts() {
+		var m = new SwissMap<Integer, Integer>(64);
+		var expected = new HashMap<Integer, Integer>();
+		for (int i = 0; i < 40; i++) {
+			m.put(i, i);
+			expected.put(i, i);
+		}
+		for (int i = 0; i < 40; i += 3) {
+			m.remove(i);
+			expected.remove(i);
+		}
+
+		Integer[] keys = new Integer[100];
+		Integer[] vals = new Integer[100];
+		for (int i = 0; i < 100; i++) {
+			keys[i] = i;
+			vals[i] = -i;
+		}
+		m.putAll(keys, vals, 10, 90);
+		for (int i = 10; i < 90; i++) expected.put(i, -i);
+
+		assertEquals(expected, m);
+	}
+
+	@Test
+	void rejectsBadRangesAndNullKeysWithoutPartialInsert() {
+		var m = new SwissMap<String, Integer>();
+		String[] keys = { "a", null, "c" };
+		Integer[] vals = { 1, 2, 3 };
+
+		assertThrows(NullPointerException.class, () -> m.putAll(keys, vals, 0, 3));
+		assertTrue(m.isEmpty());
+		assertThrows(IndexOutOfBoundsException.class, () -> m.putAll(keys, vals, 2, 4));
+		assertThrows(IndexOutOfBoundsException.class, () -> m.putAll(keys, new Integer[1], 0, 2));
+
+		m.putAll(keys, vals, 2, 3);
+		m.putAll(keys, vals, 1, 1); // empty range is a no-op
+		assertEquals(1, m.size());
+		assertEquals(3, m.get("c"));
+	}
+}
@@ -0,0 +1,64 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class SwissMapComputeTest {
+
+	@Test
+	void updatesAtMaxLoadDoNotResize() {
+		var m = new SwissMap<Integer, Integer>(32);
+		int cap0 = m.capacity;
+		for (int i = 0; i < m.maxLoad; i++) m.put(i, i);
+
+		// put() rehashes before probing; the compute family only grows when it actually inserts.
+		for (int i = 0; i < m.maxLoad; i++) {
+			assertEquals(i + 1, m.merge(i, 1, Integer::sum));
+			assertEquals(i + 2, m.compute(i, (k, v) -> v + 1));
+			assertEquals(i + 2, m.computeIfAbsent(i, k -> -1));
+			assertEquals(i + 2, m.putIfAbsent(i, -1));
+		}
+		assertEquals(cap0, m.capacity);
+
+		assertEquals(-1, m.computeIfAbsent(-1, k -> -1));
+		assertTrue(m.capacity > cap0);
+		for (int i = 0; i < m.size() - 1; i++) assertEquals(i + 2, m.get(i));
+	}
+
+	@Test
+	void swissMapDetectsMutatingCallbacks() {
+		var m = new SwissMap<Integer, Integer>();
+		m.put(1, 1);
+
+		assertThrows(ConcurrentModificationException.class, () -> m.computeIfAbsent(2, k -> m.put(3, 3)));
+		assertThrows(ConcurrentModificationException.class, () -> m.compute(1, (k, v) -> m.remove(3)));
+		assertThrows(ConcurrentModificationException.class, () -> m.merge(1, 1, (a, b) -> m.put(4, 4)));
+		// Overwriting an existing mapping is not structural.
+		assertEquals(5, m.computeIfPresent(1, (k, v) -> { m.put(1, 0); return 5; }));
+		assertEquals(5, m.get(1));
+	}
+
+	@Test
+	void swissSimdMapDetectsMutatingCallbacks() {
+		var m = new SwissSimdMap<Integer, Integer>();
+		m.put(1, 1);
+
+		assertThrows(ConcurrentModificationException.class, () -> m.computeIfAbsent(2, k -> m.put(3, 3)));
+		assertThrows(ConcurrentModificationException.class, () -> m.compute(1, (k, v) -> m.remove(3)));
+		assertThrows(ConcurrentModificationException.class, () -> m.merge(1, 1, (a, b) -> m.put(4, 4)));
+		assertEquals(5, m.computeIfPresent(1, (k, v) -> { m.put(1, 0); return 5; }));
+		assertEquals(5, m.get(1));
+
+		// Removals through the views are structural too.
+		m.put(6, 6);
+		m.put(7, 7);
+		assertThrows(ConcurrentModificationException.class, () -> m.computeIfAbsent(8, k -> { m.keySet().remove(6); return 8; }));
+		assertThrows(ConcurrentModificationException.class, () -> m.computeIfAbsent(9, k -> { m.entrySet().remove(Map.entry(7, 7)); return 9; }));
+		assertFalse(m.containsKey(6));
+		assertFalse(m.containsKey(7));
+	}
+}
@@ -0,0 +1,102 @@
+package io.github.bluuewhale.hashsmith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class SwissMapParallelBuildTest {
+
+	/* Few distinct hash codes: long probe chains that regularly leave a worker's group range. */
+	private record Clustered(int id) {
+		@Override public int hashCode() { return id % 97; }
+	}
+
+	@Test
+	void arraysMatchSequentialPuts() {
+		int n = 300_000;
+		var rnd = new Random(3);
+		Integer[] keys = new Integer[n];
+		Integer[] vals = new Integer[n];
+		var expected = new HashMap<Integer, Integer>();
+		for (int i = 0; i < n; i++) {
+			keys[i] = rnd.nextInt(n); // plenty of duplicates
+			vals[i] = i;
+			expected.put(keys[i], i);
+		}
+
+		for (int threads : new int[] { 1, 3, 8 }) {
+			var pool = new ForkJoinPool(threads);
+			try {
+				var m = SwissMap.buildParallel(keys, vals, pool);
+				assertEquals(expected.size(), m.size());
+				assertEquals(expected, m);
+				assertTrue(m.maxLoad >= n);
+			} finally {
+				pool.shutdown();
+			}
+		}
+	}
+
+	@Test
+	void clusteredKeysAreDeferredAndStillFound() {
+		int n = 5_000;
+		Clustered[] keys = new Clustered[n];
+		String[] vals = new String[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = new Clustered(i);
+			vals[i] = "v" + i;
+		}
+
+		var pool = new ForkJoinPool(8);
+		try {
+			var m = SwissMap.buildParallel(keys, vals, pool);
+			assertEquals(n, m.size());
+			for (int i = 0; i < n; i++) assertEquals("v" + i, m.get(new Clustered(i)));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void streamAndSpliteratorSources() {
+		int n = 50_000;
+		Map<Integer, String> fromStream = SwissMap.buildParallel(IntStream.range(0, n).boxed(), i -> i, i -> "s" + i);
+		Map<Integer, String> fromSpliterator = SwissMap.buildParallel(
+			IntStream.range(0, n).boxed().spliterator(), i -> -i, i -> "p" + i
+		);
+
+		assertEquals(n, fromStream.size());
+		assertEquals(n, fromSpliterator.size());
+		for (int i = 0; i < n; i++) {
+			assertEquals("s" + i, fromStream.get(i));
+			assertEquals("p" + i, fromSpliterator.get(-i));
+		}
+	}
+
+	@Test
+	void builtMapStaysMutable() {
+		Integer[] keys = { 1, 2, 3 };
+		Integer[] vals = { 10, 20, 30 };
+		var m = SwissMap.buildParallel(keys, vals);
+
+		assertEquals(20, m.remove(2));
+		for (int i = 4; i < 1_000; i++) m.put(i, i);
+		assertEquals(998, m.size());
+		assertEquals(10, m.get(1));
+		assertTrue(SwissMap.buildParallel(new Integer[0], new Integer[0]).isEmpty());
+	}
+
+	@Test
+	void rejectsBadInput() {
+		assertThrows(IllegalArgumentException.class, () -> SwissMap.buildParallel(new Integer[2], new Integer[1]));
+		Integer[] keys = new Integer[10_000];
+		for (int i = 0; i < keys.length; i++) keys[i] = (i == 7_777) ? null : i;
+		assertThrows(NullPointerException.class, () -> SwissMap.buildParallel(keys, new Integer[keys.length]));
+	}
+}
@@ -8,6 +8,16 @@ import java.util.HashMap;
 import org.junit.jupiter.api.Test;
 
 class SwissMapRehashResizeTest {
+    private static Object getField(Object target, String name) {
+        try {
+            Field f = target.getClass().getDeclaredField(name);
+            f.setAccessible(true);
+            return f.get(target);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError("Failed to read field: " + name, e);
+        }
+    }
+
     private static int getIntField(Object target, String name) {
         try {
             Field f = target.getClass().getDeclaredField(name);
@@ -95,6 +105,45 @@ class SwissMapRehashResizeTest {
 		for (int i = 0; i < 8; i++) assertEquals(i * 2, m.get(i));
 		assertNull(m.get(8));
 	}
-}
 
+	@Test
+	void tombstonePurgeRehashesInPlace() {
+		var m = new SwissMap<Integer, Integer>(1024);
+		int cap0 = m.capacity;
+		Object ctrl0 = getField(m, "ctrl");
+		Object keys0 = getField(m, "keys");
+		Object vals0 = getField(m, "vals");
+
+		// Steady-size churn: keys shifted by multiples of 1 << 12 all share their low 12 bits.
+		int live = 400;
+		for (int i = 0; i < live; i++) m.put(i << 12, i);
+		for (int round = 1; round <= 20; round++) {
+			for (int i = 0; i < live; i++) {
+				assertEquals((round - 1) * live + i, m.remove(((round - 1) * live + i) << 12));
+				m.put((round * live + i) << 12, round * live + i);
+			}
+			assertEquals(live, m.size());
+		}
+
+		assertEquals(cap0, m.capacity);
+		assertSame(ctrl0, getField(m, "ctrl"));
+		assertSame(keys0, getField(m, "keys"));
+		assertSame(vals0, getField(m, "vals"));
+		for (int i = 20 * live; i < 21 * live; i++) assertEquals(i, m.get(i << 12));
+		for (int i = 0; i < live; i++) assertFalse(m.containsKey(i << 12));
+	}
 
+	@Test
+	void tombstonePurgeKeepsNullValues() {
+		var m = new SwissMap<Integer, Integer>(64);
+		m.put(-1, null);
+		for (int i = 0; i < 40; i++) m.put(i, i);
+		for (int i = 0; i < 30; i++) m.remove(i);
+
+		assertEquals(0, getIntField(m, "tombstones"));
+		assertEquals(11, m.size());
+		assertTrue(m.containsKey(-1));
+		assertNull(m.get(-1));
+		for (int i = 30; i < 40; i++) assertEquals(i, m.get(i));
+	}
+}